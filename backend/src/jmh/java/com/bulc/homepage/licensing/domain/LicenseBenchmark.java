@@ -0,0 +1,69 @@
+package com.bulc.homepage.licensing.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * License 도메인 hot path 벤치마크.
+ * validate/heartbeat마다 호출되는 상태 계산과 policySnapshot getter 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LicenseBenchmark {
+
+    private License license;
+    private Instant now;
+
+    @Setup
+    public void setUp() {
+        license = License.builder()
+                .ownerType(OwnerType.USER)
+                .ownerId(UUID.randomUUID())
+                .productId(UUID.randomUUID())
+                .licenseType(LicenseType.SUBSCRIPTION)
+                .validFrom(Instant.now().minus(30, ChronoUnit.DAYS))
+                .validUntil(Instant.now().plus(335, ChronoUnit.DAYS))
+                .policySnapshot(Map.of(
+                        "maxActivations", 3,
+                        "maxConcurrentSessions", 2,
+                        "gracePeriodDays", 7,
+                        "sessionTtlMinutes", 60,
+                        "allowOfflineDays", 30,
+                        "entitlements", List.of("core-simulation")))
+                .build();
+        license.activate();
+        now = Instant.now();
+    }
+
+    @Benchmark
+    public LicenseStatus calculateEffectiveStatus() {
+        return license.calculateEffectiveStatus(now);
+    }
+
+    @Benchmark
+    public int getMaxActivations() {
+        return license.getMaxActivations();
+    }
+
+    @Benchmark
+    public int getMaxConcurrentSessions() {
+        return license.getMaxConcurrentSessions();
+    }
+
+    @Benchmark
+    public int getSessionTtlMinutes() {
+        return license.getSessionTtlMinutes();
+    }
+
+    @Benchmark
+    public int getGracePeriodDays() {
+        return license.getGracePeriodDays();
+    }
+}
@@ -0,0 +1,77 @@
+package com.bulc.homepage.licensing.service;
+
+import com.bulc.homepage.licensing.domain.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LicenseService / OfflineTokenSigner hot path 벤치마크.
+ * 저장소를 사용하지 않는 순수 계산 메서드만 측정합니다 (repository 인자는 null).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LicenseServiceBenchmark {
+
+    private static final String SECRET = "BenchmarkSecretKeyForOfflineTokenSigningMustBeAtLeast256BitsLong";
+
+    private LicenseService licenseService;
+    private OfflineTokenSigner offlineTokenSigner;
+    private License license;
+    private Activation activation;
+    private String fingerprint;
+
+    @Setup
+    public void setUp() throws Exception {
+        offlineTokenSigner = new OfflineTokenSigner(SECRET, new SimpleMeterRegistry());
+        licenseService = new LicenseService(null, null, null, null, null, null, offlineTokenSigner, null, null, null);
+
+        license = License.builder()
+                .ownerType(OwnerType.USER)
+                .ownerId(UUID.randomUUID())
+                .productId(UUID.randomUUID())
+                .licenseType(LicenseType.SUBSCRIPTION)
+                .validFrom(Instant.now())
+                .validUntil(Instant.now().plus(365, ChronoUnit.DAYS))
+                .policySnapshot(Map.of(
+                        "maxActivations", 3,
+                        "allowOfflineDays", 30,
+                        "entitlements", List.of("core-simulation", "export-pdf")))
+                .build();
+        setField(license, "id", UUID.randomUUID());
+        license.activate();
+
+        fingerprint = "a1b2c3d4e5f6a7b8c9d0e1f2a3b4c5d6";
+        activation = license.addActivation(fingerprint, "1.0.0", "Windows 11", "127.0.0.1");
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public OfflineTokenSigner.SignedOfflineToken generateOfflineToken() {
+        return offlineTokenSigner.sign(license, activation, Instant.now(), OfflineTokenSigner.Source.REQUEST);
+    }
+
+    @Benchmark
+    public String maskFingerprint() {
+        return licenseService.maskFingerprint(fingerprint);
+    }
+
+    @Benchmark
+    public String generateLicenseKey() {
+        return licenseService.generateLicenseKey();
+    }
+
+    private static void setField(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
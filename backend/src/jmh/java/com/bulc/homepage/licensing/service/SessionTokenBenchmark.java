@@ -0,0 +1,71 @@
+package com.bulc.homepage.licensing.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * sessionToken 서명 비용 벤치마크.
+ * 키는 setUp마다 새로 생성합니다 (RS256: RSA 2048, ES256: P-256, EdDSA: Ed25519).
+ *
+ * - generateSessionToken: 매번 서명 (재사용 비활성화) - 알고리즘별 서명 비용 비교
+ * - generateSessionTokenReused: 재사용 캐시 적중 (v1.1.3)
+ *
+ * 예: ./gradlew jmh -PjmhIncludes=SessionTokenBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SessionTokenBenchmark {
+
+    @Param({"RS256", "ES256", "EDDSA"})
+    public SessionTokenAlgorithm algorithm;
+
+    private SessionTokenService sessionTokenService;
+    private SessionTokenService reusingSessionTokenService;
+    private UUID licenseId;
+    private List<String> entitlements;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPair keyPair = generateKeyPair(algorithm);
+        SessionTokenKeyring keyring = SessionTokenKeyring.of("bench", List.of(
+                new SessionTokenKeyring.SigningKey("bench", algorithm, keyPair.getPrivate(), keyPair.getPublic())));
+
+        sessionTokenService = new SessionTokenService(
+                15, "bulc-license-server", keyring, 1.0, 1000, new SimpleMeterRegistry());
+        reusingSessionTokenService = new SessionTokenService(
+                15, "bulc-license-server", keyring, 0.5, 1000, new SimpleMeterRegistry());
+
+        licenseId = UUID.randomUUID();
+        entitlements = List.of("core-simulation", "export-pdf");
+    }
+
+    @Benchmark
+    public SessionTokenService.SessionToken generateSessionToken() {
+        return sessionTokenService.generateSessionToken(
+                licenseId, "BULC_EVAC", "a1b2c3d4e5f6a7b8c9d0e1f2a3b4c5d6", entitlements);
+    }
+
+    @Benchmark
+    public SessionTokenService.SessionToken generateSessionTokenReused() {
+        return reusingSessionTokenService.generateSessionToken(
+                licenseId, "BULC_EVAC", "a1b2c3d4e5f6a7b8c9d0e1f2a3b4c5d6", entitlements);
+    }
+
+    private static KeyPair generateKeyPair(SessionTokenAlgorithm algorithm) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm.getKeyAlgorithm());
+        switch (algorithm) {
+            case RS256 -> generator.initialize(2048);
+            case ES256 -> generator.initialize(new ECGenParameterSpec("secp256r1"));
+            case EDDSA -> { }
+        }
+        return generator.generateKeyPair();
+    }
+}
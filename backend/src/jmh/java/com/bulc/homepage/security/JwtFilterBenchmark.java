@@ -0,0 +1,81 @@
+package com.bulc.homepage.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter의 요청당 토큰 처리 비용 비교.
+ *
+ * - legacy: 요청마다 parser를 새로 만들어 validateToken + getEmailFromToken으로 두 번 검증 (기존 방식)
+ * - parseOnceNoCache: 미리 만든 parser로 한 번만 검증 (캐시 미스와 동일)
+ * - parseOnceCached: 검증 완료 토큰 캐시 적중
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "BenchmarkSecretKeyForJwtTokenGenerationMustBeAtLeast256BitsLong";
+
+    private SecretKey secretKey;
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        cachedProvider = createProvider(10_000L);
+        uncachedProvider = createProvider(0L);
+        token = cachedProvider.generateAccessToken("user@example.com");
+    }
+
+    @Benchmark
+    public String legacy() {
+        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+        Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public String parseOnceNoCache() {
+        return uncachedProvider.parseAndValidate(token).map(Claims::getSubject).orElse(null);
+    }
+
+    @Benchmark
+    public String parseOnceCached() {
+        return cachedProvider.parseAndValidate(token).map(Claims::getSubject).orElse(null);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return uncachedProvider.validateToken(token);
+    }
+
+    static JwtTokenProvider createProvider(long cacheMaxSize) throws Exception {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        setField(provider, "jwtSecret", SECRET);
+        setField(provider, "accessTokenExpiration", 3_600_000L);
+        setField(provider, "refreshTokenExpiration", 3_600_000L);
+        setField(provider, "verifiedTokenCacheMaxSize", cacheMaxSize);
+        setField(provider, "verifiedTokenCacheTtlSeconds", 60L);
+        Method init = JwtTokenProvider.class.getDeclaredMethod("init");
+        init.setAccessible(true);
+        init.invoke(provider);
+        return provider;
+    }
+
+    private static void setField(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
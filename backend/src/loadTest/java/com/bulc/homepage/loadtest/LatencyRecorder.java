@@ -0,0 +1,65 @@
+package com.bulc.homepage.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 지연 시간 샘플 수집 및 백분위 계산 (나노초 단위 기록, 밀리초 단위 리포트).
+ */
+class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int size;
+
+    synchronized void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    synchronized void reset() {
+        size = 0;
+    }
+
+    synchronized int count() {
+        return size;
+    }
+
+    synchronized Map<String, Object> summary(double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        long total = 0;
+        for (long sample : sorted) {
+            total += sample;
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", size);
+        summary.put("throughputPerSec", elapsedSeconds > 0 ? round(size / elapsedSeconds) : 0.0);
+        summary.put("meanMs", size > 0 ? toMillis(total / size) : 0.0);
+        summary.put("totalMs", toMillis(total));
+        summary.put("p50Ms", toMillis(percentile(sorted, 0.50)));
+        summary.put("p95Ms", toMillis(percentile(sorted, 0.95)));
+        summary.put("p99Ms", toMillis(percentile(sorted, 0.99)));
+        summary.put("maxMs", toMillis(size > 0 ? sorted[size - 1] : 0));
+        return summary;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double toMillis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
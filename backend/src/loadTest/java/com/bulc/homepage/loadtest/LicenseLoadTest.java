@@ -0,0 +1,341 @@
+package com.bulc.homepage.loadtest;
+
+import com.bulc.homepage.entity.Product;
+import com.bulc.homepage.entity.User;
+import com.bulc.homepage.entity.UserRole;
+import com.bulc.homepage.licensing.domain.LicenseType;
+import com.bulc.homepage.licensing.domain.OwnerType;
+import com.bulc.homepage.licensing.domain.UsageCategory;
+import com.bulc.homepage.licensing.dto.ForceValidateRequest;
+import com.bulc.homepage.licensing.dto.LicenseIssueRequest;
+import com.bulc.homepage.licensing.dto.ValidateRequest;
+import com.bulc.homepage.licensing.dto.ValidationResponse;
+import com.bulc.homepage.licensing.service.LicenseConcurrencyControl;
+import com.bulc.homepage.licensing.service.LicenseService;
+import com.bulc.homepage.loadtest.LoadTestConfig.Operation;
+import com.bulc.homepage.security.JwtTokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * validate / heartbeat / validate/force 엔드투엔드 부하 테스트.
+ *
+ * 내장 H2(test 프로필)로 애플리케이션을 띄우고 N 사용자 × M 라이선스 × K 활성화를 시드한 뒤,
+ * 설정된 작업 비율과 동시성으로 HTTP 요청을 보내 다음을 리포트합니다.
+ * - 작업별 p50/p95/p99 지연 시간, 처리량, 상태 코드 분포
+ * - 비관적 락 조회(findByIdWithLock 등) 소요 시간 (경합 시 락 대기 시간)
+ * - 동시성 모드(-Dloadtest.concurrency-mode=PESSIMISTIC|OPTIMISTIC)와 낙관적 락 재시도/소진 횟수
+ *
+ * 외부 네트워크나 DB 없이 실행됩니다: ./gradlew loadTest
+ * 결과 JSON은 build/reports/loadtest/ 에 저장됩니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "bulc.licensing.concurrency.mode=${loadtest.concurrency-mode:PESSIMISTIC}")
+@ActiveProfiles("test")
+@DisplayName("라이선스 검증 부하 테스트")
+class LicenseLoadTest {
+
+    @TestConfiguration
+    static class ProbeConfig {
+        @Bean
+        static LockWaitProbe lockWaitProbe() {
+            return new LockWaitProbe();
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private LicenseService licenseService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private LicenseConcurrencyControl concurrencyControl;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+    @Test
+    @DisplayName("설정된 작업 비율/동시성으로 부하를 걸고 지연 시간/처리량/락 대기 시간을 리포트")
+    void runLoad() throws Exception {
+        List<Target> targets = seed();
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(config.threads()))
+                .build();
+
+        // 워밍업 (JIT, 커넥션 풀, 캐시) - 결과는 버림
+        drive(client, targets, config.warmup(), new Stats());
+        LockWaitProbe.LOCK_WAITS.reset();
+
+        Stats stats = new Stats();
+        long startedAt = System.nanoTime();
+        drive(client, targets, config.duration(), stats);
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        Map<String, Object> report = report(stats, elapsedSeconds);
+        String json = objectMapper.copy()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValueAsString(report);
+        Path reportDir = Path.of(config.reportDir());
+        Files.createDirectories(reportDir);
+        Path reportFile = reportDir.resolve("loadtest-" + Instant.now().toEpochMilli() + ".json");
+        Files.writeString(reportFile, json, StandardCharsets.UTF_8);
+
+        System.out.println(json);
+        System.out.println("부하 테스트 결과 저장: " + reportFile.toAbsolutePath());
+
+        assertThat(stats.successCount()).isPositive();
+    }
+
+    // ==========================================
+    // 시드
+    // ==========================================
+
+    private List<Target> seed() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<String> productCodes = new ArrayList<>();
+        for (int m = 0; m < config.licensesPerUser(); m++) {
+            productCodes.add(String.format("L%02d", m));
+        }
+
+        tx.executeWithoutResult(status -> {
+            if (entityManager.find(UserRole.class, "002") == null) {
+                entityManager.persist(new UserRole("002", "USER"));
+            }
+            for (String code : productCodes) {
+                entityManager.persist(Product.builder().code(code).name("Load Test " + code).build());
+            }
+            for (int n = 0; n < config.users(); n++) {
+                entityManager.persist(User.builder()
+                        .email(email(n))
+                        .passwordHash("load-test")
+                        .rolesCode("002")
+                        .build());
+            }
+        });
+
+        List<Target> targets = new ArrayList<>();
+        for (int n = 0; n < config.users(); n++) {
+            String email = email(n);
+            UUID userId = UUID.nameUUIDFromBytes(email.getBytes(StandardCharsets.UTF_8));
+            String token = jwtTokenProvider.generateAccessToken(email);
+
+            for (String code : productCodes) {
+                UUID productId = UUID.nameUUIDFromBytes(code.getBytes());
+                UUID licenseId = licenseService.issueLicense(new LicenseIssueRequest(
+                        OwnerType.USER,
+                        userId,
+                        productId,
+                        null,
+                        LicenseType.SUBSCRIPTION,
+                        UsageCategory.COMMERCIAL,
+                        Instant.now(),
+                        Instant.now().plus(365, ChronoUnit.DAYS),
+                        Map.of(
+                                "maxActivations", config.activationsPerLicense(),
+                                "maxConcurrentSessions", config.activationsPerLicense(),
+                                "sessionTtlMinutes", 60,
+                                "entitlements", List.of("core-simulation")
+                        ),
+                        null
+                )).id();
+
+                List<String> devices = new ArrayList<>();
+                for (int k = 0; k < config.activationsPerLicense(); k++) {
+                    String device = "load-" + n + "-" + code + "-" + k;
+                    ValidationResponse response = licenseService.validateAndActivateByUser(userId,
+                            new ValidateRequest(code, null, licenseId, device, "1.0.0", "Windows", null));
+                    assertThat(response.valid()).as("시드 활성화 실패: %s", response.errorCode()).isTrue();
+                    devices.add(device);
+                }
+                targets.add(new Target(token, licenseId, code, devices));
+            }
+        }
+        return targets;
+    }
+
+    private static String email(int n) {
+        return "load-" + n + "@loadtest.local";
+    }
+
+    // ==========================================
+    // 부하 실행
+    // ==========================================
+
+    private void drive(HttpClient client, List<Target> targets, Duration duration, Stats stats)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        int totalWeight = config.mix().values().stream().mapToInt(Integer::intValue).sum();
+        ExecutorService workers = Executors.newFixedThreadPool(config.threads());
+
+        for (int t = 0; t < config.threads(); t++) {
+            workers.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    Operation op = pick(random.nextInt(totalWeight));
+                    Target target = targets.get(random.nextInt(targets.size()));
+                    String device = target.devices().get(random.nextInt(target.devices().size()));
+                    send(client, op, target, device, stats);
+                }
+            });
+        }
+
+        workers.shutdown();
+        if (!workers.awaitTermination(duration.plusSeconds(60).toSeconds(), TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+
+    private Operation pick(int roll) {
+        for (Map.Entry<Operation, Integer> entry : config.mix().entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    private void send(HttpClient client, Operation op, Target target, String device, Stats stats) {
+        long startedAt = System.nanoTime();
+        String outcome;
+        try {
+            Object body = switch (op) {
+                case VALIDATE, HEARTBEAT -> new ValidateRequest(
+                        target.productCode(), null, target.licenseId(), device, "1.0.0", "Windows", null);
+                // 존재하지 않는 세션 ID로 강제 검증: 다른 기기를 끊지 않고 락 경로만 부하
+                case FORCE -> new ForceValidateRequest(
+                        target.licenseId(), device, List.of(UUID.randomUUID()), "1.0.0", "Windows", null);
+            };
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + op.path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .header("Authorization", "Bearer " + target.token())
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            outcome = String.valueOf(response.statusCode());
+        } catch (Exception e) {
+            outcome = e.getClass().getSimpleName();
+        }
+        stats.record(op, System.nanoTime() - startedAt, outcome);
+    }
+
+    // ==========================================
+    // 리포트
+    // ==========================================
+
+    private Map<String, Object> report(Stats stats, double elapsedSeconds) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", Map.of(
+                "users", config.users(),
+                "licensesPerUser", config.licensesPerUser(),
+                "activationsPerLicense", config.activationsPerLicense(),
+                "threads", config.threads(),
+                "concurrencyMode", concurrencyControl.getMode().name(),
+                "durationSeconds", config.duration().toSeconds(),
+                "mix", config.mix()
+        ));
+        report.put("elapsedSeconds", Math.round(elapsedSeconds * 1000.0) / 1000.0);
+        report.put("overall", stats.overall.summary(elapsedSeconds));
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Operation op : config.mix().keySet()) {
+            Map<String, Object> summary = new LinkedHashMap<>(stats.byOperation.get(op).summary(elapsedSeconds));
+            Map<String, Long> outcomes = new TreeMap<>();
+            stats.outcomes.forEach((key, count) -> {
+                if (key.startsWith(op.name() + ":")) {
+                    outcomes.put(key.substring(op.name().length() + 1), count.sum());
+                }
+            });
+            summary.put("outcomes", outcomes);
+            operations.put(op.name().toLowerCase(), summary);
+        }
+        report.put("operations", operations);
+
+        // 락 조회 총 소요 시간 / 전체 경과 시간 = 평균적으로 락에서 대기 중이던 스레드 수
+        Map<String, Object> lockWait = new LinkedHashMap<>(LockWaitProbe.LOCK_WAITS.summary(elapsedSeconds));
+        lockWait.put("avgThreadsWaiting",
+                Math.round(((Double) lockWait.get("totalMs")) / 1000.0 / elapsedSeconds * 1000.0) / 1000.0);
+        report.put("lockWait", lockWait);
+
+        // OPTIMISTIC 모드 버전 충돌 (워밍업 포함 누적)
+        report.put("concurrency", Map.of(
+                "retries", meterRegistry.counter("licensing.concurrency.retries",
+                        "mode", concurrencyControl.getMode().name()).count(),
+                "exhausted", meterRegistry.counter("licensing.concurrency.exhausted",
+                        "mode", concurrencyControl.getMode().name()).count()
+        ));
+        return report;
+    }
+
+    private record Target(String token, UUID licenseId, String productCode, List<String> devices) {}
+
+    private static class Stats {
+        final LatencyRecorder overall = new LatencyRecorder();
+        final Map<Operation, LatencyRecorder> byOperation = new EnumMap<>(Operation.class);
+        final ConcurrentMap<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+        Stats() {
+            for (Operation op : Operation.values()) {
+                byOperation.put(op, new LatencyRecorder());
+            }
+        }
+
+        void record(Operation op, long nanos, String outcome) {
+            overall.record(nanos);
+            byOperation.get(op).record(nanos);
+            outcomes.computeIfAbsent(op.name() + ":" + outcome, key -> new LongAdder()).increment();
+        }
+
+        long successCount() {
+            return outcomes.entrySet().stream()
+                    .filter(e -> e.getKey().endsWith(":200"))
+                    .mapToLong(e -> e.getValue().sum())
+                    .sum();
+        }
+    }
+}
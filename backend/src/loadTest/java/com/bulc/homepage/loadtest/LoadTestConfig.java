@@ -0,0 +1,70 @@
+package com.bulc.homepage.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (-Dloadtest.* 시스템 프로퍼티).
+ *
+ * 예: ./gradlew loadTest -Dloadtest.users=100 -Dloadtest.threads=32 -Dloadtest.mix=validate:10,heartbeat:85,force:5
+ */
+record LoadTestConfig(
+        int users,                 // N: 사용자 수
+        int licensesPerUser,       // M: 사용자당 라이선스 수 (제품별 1개)
+        int activationsPerLicense, // K: 라이선스당 활성 기기 수
+        int threads,               // 동시 요청 스레드 수
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        String reportDir
+) {
+
+    enum Operation {
+        VALIDATE("/api/licenses/validate"),
+        HEARTBEAT("/api/licenses/heartbeat"),
+        FORCE("/api/licenses/validate/force");
+
+        final String path;
+
+        Operation(String path) {
+            this.path = path;
+        }
+    }
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                intProperty("loadtest.users", 50),
+                intProperty("loadtest.licenses-per-user", 1),
+                intProperty("loadtest.activations-per-license", 2),
+                intProperty("loadtest.threads", 16),
+                Duration.ofSeconds(intProperty("loadtest.warmup-seconds", 5)),
+                Duration.ofSeconds(intProperty("loadtest.duration-seconds", 30)),
+                parseMix(System.getProperty("loadtest.mix", "validate:10,heartbeat:85,force:5")),
+                System.getProperty("loadtest.report-dir", "build/reports/loadtest")
+        );
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            String[] kv = part.trim().split(":");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식 오류: " + value);
+            }
+            int weight = Integer.parseInt(kv[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.valueOf(kv[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix에 가중치가 0보다 큰 작업이 없습니다: " + value);
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,42 @@
+package com.bulc.homepage.loadtest;
+
+import com.bulc.homepage.licensing.repository.LicenseRepository;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+
+/**
+ * LicenseRepository의 비관적 락 조회(*WithLock) 소요 시간 측정.
+ *
+ * 락 조회는 행 락 획득까지 블로킹되므로, 경합 시 이 시간은 대부분 락 대기 시간입니다.
+ * Repository 빈을 JDK 프록시로 감싸 호출 시간을 LatencyRecorder에 기록합니다.
+ */
+class LockWaitProbe implements BeanPostProcessor {
+
+    static final LatencyRecorder LOCK_WAITS = new LatencyRecorder();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof LicenseRepository)) {
+            return bean;
+        }
+        return Proxy.newProxyInstance(
+                bean.getClass().getClassLoader(),
+                ClassUtils.getAllInterfaces(bean),
+                (proxy, method, args) -> {
+                    boolean locking = method.getName().endsWith("WithLock");
+                    long startedAt = locking ? System.nanoTime() : 0L;
+                    try {
+                        return method.invoke(bean, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    } finally {
+                        if (locking) {
+                            LOCK_WAITS.record(System.nanoTime() - startedAt);
+                        }
+                    }
+                });
+    }
+}
@@ -1,9 +1,154 @@
 package com.bulc.homepage.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
 
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * v1.1.3: @Async 실행기 설정.
+ *
+ * 작업 종류별로 크기와 큐 용량이 제한된 스레드 풀을 분리하여, 한 종류의 폭주가 스레드를 무한정 만들거나
+ * 다른 비동기 작업을 굶기지 않도록 합니다.
+ *
+ * - applicationTaskExecutor (= taskExecutor): 이름 없는 @Async. 큐가 가득 차면 TaskRejectedException으로 거부
+ * - mvcAsyncExecutor: MVC 비동기 응답(StreamingResponseBody 등, WebMvcAsyncConfig에서 등록).
+ *   관리자 export처럼 수십 분 실행될 수 있으므로 큐 없이(SynchronousQueue) max-size까지 바로 스레드를 늘리고,
+ *   모두 사용 중이면 거부. 장시간 응답이 다른 @Async 작업의 스레드를 점유하지 않음
+ * - deviceBindingExecutor: 기기-라이선스 바인딩 기록 (검증 트랜잭션 커밋 후, 요청 커넥션 반납과 무관하게 실행).
+ *   바인딩은 조회 힌트이므로 큐가 가득 차면 버림 (다음 검증에서 다시 기록)
+ *
+ * 공통:
+ * - 종료 시 새 작업을 받지 않고 큐에 남은 작업을 await-termination-seconds까지 처리 (graceful drain)
+ * - 제출 시점의 SecurityContext를 작업 스레드에 전달하고 작업 후 정리 (풀 스레드 재사용 시 인증 정보 누수 방지)
+ *
+ * 메트릭 (tag: pool):
+ * - async.executor.queue_depth: 대기 중인 작업 수
+ * - async.executor.active_threads: 작업 실행 중인 스레드 수
+ * - async.executor.pool_size: 현재 스레드 수
+ * - async.executor.rejected: 큐 초과로 거부(호출 스레드 실행 포함)된 작업 수
+ *
+ * 활동 로그는 스레드 풀 대신 ActivityLogIngestor 버퍼로 일괄 기록합니다.
+ * 인증 메일은 실패를 호출자에게 돌려주기 위해 비동기로 보내지 않습니다 (EmailVerificationService).
+ */
+@Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig {
+
+    public static final String APPLICATION_TASK_EXECUTOR = "applicationTaskExecutor";
+    public static final String MVC_ASYNC_EXECUTOR = "mvcAsyncExecutor";
+    public static final String DEVICE_BINDING_EXECUTOR = "deviceBindingExecutor";
+
+    /**
+     * 큐가 가득 찼을 때의 처리 방식.
+     */
+    enum OverflowPolicy {
+        CALLER_RUNS,
+        ABORT,
+        DISCARD
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final int awaitTerminationSeconds;
+
+    public AsyncConfig(MeterRegistry meterRegistry,
+                       @Value("${bulc.async.await-termination-seconds:30}") int awaitTerminationSeconds) {
+        this.meterRegistry = meterRegistry;
+        this.awaitTerminationSeconds = awaitTerminationSeconds;
+    }
+
+    /**
+     * 기본 실행기. 이 빈을 직접 정의하면 Spring Boot 기본 실행기(큐 무제한)는 생성되지 않으므로
+     * 같은 이름으로 등록하여 이름 없는 @Async가 이 풀을 사용하게 합니다.
+     * 코어 스레드가 모두 사용 중이면 큐에 쌓이므로 짧은 작업 전용입니다.
+     */
+    @Bean(name = {APPLICATION_TASK_EXECUTOR, "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(
+            @Value("${bulc.async.background.core-size:4}") int coreSize,
+            @Value("${bulc.async.background.max-size:16}") int maxSize,
+            @Value("${bulc.async.background.queue-capacity:500}") int queueCapacity) {
+        return boundedExecutor("background", coreSize, maxSize, queueCapacity, OverflowPolicy.ABORT);
+    }
+
+    @Bean(name = MVC_ASYNC_EXECUTOR)
+    public ThreadPoolTaskExecutor mvcAsyncExecutor(
+            @Value("${bulc.async.mvc.core-size:2}") int coreSize,
+            @Value("${bulc.async.mvc.max-size:8}") int maxSize) {
+        // queueCapacity 0 → SynchronousQueue: 요청마다 유휴 스레드가 없으면 바로 새 스레드 생성
+        return boundedExecutor("mvc", coreSize, maxSize, 0, OverflowPolicy.ABORT);
+    }
+
+    @Bean(name = DEVICE_BINDING_EXECUTOR)
+    public ThreadPoolTaskExecutor deviceBindingExecutor(
+            @Value("${bulc.async.device-binding.core-size:1}") int coreSize,
+            @Value("${bulc.async.device-binding.max-size:2}") int maxSize,
+            @Value("${bulc.async.device-binding.queue-capacity:1000}") int queueCapacity) {
+        return boundedExecutor("device-binding", coreSize, maxSize, queueCapacity, OverflowPolicy.DISCARD);
+    }
+
+    ThreadPoolTaskExecutor boundedExecutor(String pool, int coreSize, int maxSize, int queueCapacity,
+                                           OverflowPolicy overflowPolicy) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("async-" + pool + "-");
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(Math.max(coreSize, maxSize));
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        executor.setTaskDecorator(DelegatingSecurityContextRunnable::new);
+
+        Tags tags = Tags.of("pool", pool);
+        Counter rejected = Counter.builder("async.executor.rejected")
+                .description("큐 초과로 거부된 비동기 작업 수")
+                .tags(tags.and("policy", overflowPolicy.name().toLowerCase()))
+                .register(meterRegistry);
+        executor.setRejectedExecutionHandler(rejectionHandler(pool, overflowPolicy, rejected));
+
+        Gauge.builder("async.executor.queue_depth", executor, AsyncConfig::queueDepth)
+                .description("대기 중인 비동기 작업 수")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("async.executor.active_threads", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("작업 실행 중인 스레드 수")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("async.executor.pool_size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .description("현재 스레드 수")
+                .tags(tags)
+                .register(meterRegistry);
+        return executor;
+    }
+
+    private static double queueDepth(ThreadPoolTaskExecutor executor) {
+        try {
+            return executor.getThreadPoolExecutor().getQueue().size();
+        } catch (IllegalStateException e) {
+            return 0; // 초기화 전/종료 후
+        }
+    }
+
+    private static RejectedExecutionHandler rejectionHandler(String pool, OverflowPolicy overflowPolicy,
+                                                             Counter rejected) {
+        RejectedExecutionHandler delegate = switch (overflowPolicy) {
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+        };
+        return (task, executor) -> {
+            rejected.increment();
+            log.debug("비동기 작업 큐 초과: pool={}, policy={}", pool, overflowPolicy);
+            delegate.rejectedExecution(task, executor);
+        };
+    }
 }
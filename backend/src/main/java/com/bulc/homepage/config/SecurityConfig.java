@@ -48,6 +48,9 @@ public class SecurityConfig {
                         .requestMatchers("/api/licenses/*/validate").permitAll()
                         .requestMatchers("/api/licenses/*/heartbeat").permitAll()
                         .requestMatchers("/api/licenses/key/*").permitAll()
+                        .requestMatchers("/api/licenses/revocations").permitAll()
+                        // sessionToken 검증 공개키 (JWKS)
+                        .requestMatchers("/.well-known/jwks.json").permitAll()
                         // 라이선스 관리 API (인증 필요)
                         .requestMatchers("/api/licenses/**").authenticated()
                         .requestMatchers("/api/me/licenses/**").authenticated()
@@ -0,0 +1,64 @@
+package com.bulc.homepage.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * v1.1.3: MVC 비동기 응답 설정.
+ *
+ * StreamingResponseBody/Callable 처리를 applicationTaskExecutor 대신 전용 mvcAsyncExecutor에서 실행합니다.
+ * Spring Boot 기본 설정은 applicationTaskExecutor를 사용하므로 이 설정(더 낮은 우선순위로 나중에 적용)이 덮어씁니다.
+ *
+ * 비동기 타임아웃은 전역 기본값(spring.mvc.async.request-timeout, 미설정 시 컨테이너 기본값)을 유지하고,
+ * 관리자 export처럼 오래 걸리는 요청만 setAsyncTimeout으로 요청별 타임아웃을 지정합니다.
+ */
+@Configuration
+public class WebMvcAsyncConfig implements WebMvcConfigurer {
+
+    private static final String ASYNC_TIMEOUT_ATTRIBUTE = WebMvcAsyncConfig.class.getName() + ".ASYNC_TIMEOUT";
+
+    private final ThreadPoolTaskExecutor mvcAsyncExecutor;
+
+    public WebMvcAsyncConfig(@Qualifier(AsyncConfig.MVC_ASYNC_EXECUTOR) ThreadPoolTaskExecutor mvcAsyncExecutor) {
+        this.mvcAsyncExecutor = mvcAsyncExecutor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcAsyncExecutor);
+        configurer.registerCallableInterceptors(new RequestAsyncTimeoutInterceptor());
+    }
+
+    /**
+     * 현재 요청의 비동기 처리(StreamingResponseBody/Callable) 타임아웃 지정.
+     * 핸들러 메서드 안에서 호출해야 합니다 (비동기 처리 시작 전).
+     */
+    public static void setAsyncTimeout(HttpServletRequest request, Duration timeout) {
+        request.setAttribute(ASYNC_TIMEOUT_ATTRIBUTE, timeout.toMillis());
+    }
+
+    /**
+     * 비동기 처리 시작 직전에 요청별 타임아웃을 AsyncWebRequest에 적용.
+     */
+    static class RequestAsyncTimeoutInterceptor implements CallableProcessingInterceptor {
+
+        @Override
+        public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+            Object timeout = request.getAttribute(ASYNC_TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (timeout instanceof Long millis && request instanceof AsyncWebRequest asyncWebRequest) {
+                asyncWebRequest.setTimeout(millis);
+            }
+        }
+    }
+}
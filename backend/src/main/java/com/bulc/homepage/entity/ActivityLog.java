@@ -13,8 +13,11 @@ import java.time.LocalDateTime;
 @Builder
 public class ActivityLog {
 
+    // v1.1.3: IDENTITY는 Hibernate JDBC batch INSERT를 비활성화하므로 pooled sequence 사용
+    // (allocationSize는 DB 시퀀스 INCREMENT BY와 같아야 함)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "activity_logs_id_seq")
+    @SequenceGenerator(name = "activity_logs_id_seq", sequenceName = "activity_logs_id_seq", allocationSize = 100)
     private Long id;
 
     @Column(name = "user_email", length = 255)
@@ -48,6 +51,9 @@ public class ActivityLog {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        // v1.1.3: 일괄 기록(ActivityLogIngestor)은 이벤트 발생 시각을 유지
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
     }
 }
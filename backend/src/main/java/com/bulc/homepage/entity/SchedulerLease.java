@@ -0,0 +1,27 @@
+package com.bulc.homepage.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.Instant;
+
+/**
+ * 스케줄러 리더 lease.
+ * 여러 노드에서 같은 배치 작업이 동시에 실행되지 않도록 작업 이름별로 한 행을 사용합니다.
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLease {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 255)
+    private String owner;
+
+    @Column(name = "lease_until", nullable = false)
+    private Instant leaseUntil;
+}
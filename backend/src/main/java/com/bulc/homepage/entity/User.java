@@ -1,11 +1,13 @@
 package com.bulc.homepage.entity;
 
+import com.bulc.homepage.security.UserPrincipalCacheInvalidator;
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserPrincipalCacheInvalidator.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -42,6 +44,16 @@ public class User {
     @Builder.Default
     private LocalDateTime updatedAt = LocalDateTime.now();
 
+    // 로드 시점의 email - UserPrincipalCacheInvalidator가 변경 전 캐시 키도 무효화하는 데 사용
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private String loadedEmail;
+
+    @PostLoad
+    protected void onLoad() {
+        loadedEmail = email;
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,32 @@
+package com.bulc.homepage.licensing.controller;
+
+/**
+ * v1.1.3: 조건부 요청(If-None-Match) 처리 유틸리티.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * If-None-Match 비교 (목록, 와일드카드, 약한 비교 W/ 허용).
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,22 +1,39 @@
 package com.bulc.homepage.licensing.controller;
 
+import com.bulc.homepage.config.WebMvcAsyncConfig;
 import com.bulc.homepage.licensing.domain.LicenseStatus;
 import com.bulc.homepage.licensing.domain.LicenseType;
 import com.bulc.homepage.licensing.domain.OwnerType;
 import com.bulc.homepage.licensing.domain.UsageCategory;
+import com.bulc.homepage.licensing.dto.OfflineTokenRevokeRequest;
+import com.bulc.homepage.licensing.dto.OfflineTokenRevokeResponse;
+import com.bulc.homepage.licensing.exception.LicenseException;
+import com.bulc.homepage.licensing.exception.LicenseException.ErrorCode;
+import com.bulc.homepage.licensing.query.CursorPage;
+import com.bulc.homepage.licensing.query.LicenseExportService;
 import com.bulc.homepage.licensing.query.LicenseQueryService;
 import com.bulc.homepage.licensing.query.LicenseSearchCond;
 import com.bulc.homepage.licensing.query.view.LicenseDetailView;
 import com.bulc.homepage.licensing.query.view.LicenseSummaryView;
-import lombok.RequiredArgsConstructor;
+import com.bulc.homepage.licensing.service.OfflineTokenRevocationService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,19 +41,38 @@ import java.util.UUID;
  * 관리자용 라이선스 조회 API Controller.
  *
  * 라이선스 검색, 목록 조회 등 관리자 기능을 제공합니다.
+ * v1.1.3: 오프라인 토큰 일괄 무효화
  */
 @RestController
 @RequestMapping("/api/admin/licenses")
 @PreAuthorize("hasRole('ADMIN')")
-@RequiredArgsConstructor
 public class LicenseAdminController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final LicenseQueryService licenseQueryService;
+    private final LicenseExportService licenseExportService;
+    private final OfflineTokenRevocationService offlineTokenRevocationService;
+    private final Duration exportTimeout;
+
+    public LicenseAdminController(
+            LicenseQueryService licenseQueryService,
+            LicenseExportService licenseExportService,
+            OfflineTokenRevocationService offlineTokenRevocationService,
+            @Value("${bulc.licensing.export.timeout-minutes:30}") long exportTimeoutMinutes) {
+        this.licenseQueryService = licenseQueryService;
+        this.licenseExportService = licenseExportService;
+        this.offlineTokenRevocationService = offlineTokenRevocationService;
+        this.exportTimeout = Duration.ofMinutes(exportTimeoutMinutes);
+    }
 
     /**
      * 라이선스 검색 (페이징).
      *
      * GET /api/admin/licenses?ownerType=USER&ownerId={uuid}&status=ACTIVE&...
+     *
+     * v1.1.3: licenseKey는 대소문자/구분자('-')를 무시하고 비교합니다.
+     * licenseKeyMatch=PREFIX(앞부분 일치) | CONTAINS(부분 일치, 기본값. 3자 미만은 앞부분 일치)
      */
     @GetMapping
     public ResponseEntity<Page<LicenseSummaryView>> searchLicenses(
@@ -48,22 +84,82 @@ public class LicenseAdminController {
             @RequestParam(required = false) LicenseType licenseType,
             @RequestParam(required = false) UsageCategory usageCategory,
             @RequestParam(required = false) String licenseKey,
+            @RequestParam(required = false) LicenseSearchCond.LicenseKeyMatch licenseKeyMatch,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
 
-        LicenseSearchCond cond = LicenseSearchCond.builder()
-                .ownerType(ownerType)
-                .ownerId(ownerId)
-                .productId(productId)
-                .planId(planId)
-                .status(status)
-                .licenseType(licenseType)
-                .usageCategory(usageCategory)
-                .licenseKey(licenseKey)
-                .build();
+        LicenseSearchCond cond = buildCond(ownerType, ownerId, productId, planId,
+                status, licenseType, usageCategory, licenseKey, licenseKeyMatch);
 
         return ResponseEntity.ok(licenseQueryService.search(cond, pageable));
     }
 
+    /**
+     * v1.1.3: 라이선스 검색 (커서 페이징, 최신순).
+     * 깊은 페이지도 OFFSET 없이 일정한 비용으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.
+     *
+     * GET /api/admin/licenses/cursor?status=ACTIVE&size=20&cursor={nextCursor}&includeTotal=false
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<LicenseSummaryView>> searchLicensesByCursor(
+            @RequestParam(required = false) OwnerType ownerType,
+            @RequestParam(required = false) UUID ownerId,
+            @RequestParam(required = false) UUID productId,
+            @RequestParam(required = false) UUID planId,
+            @RequestParam(required = false) LicenseStatus status,
+            @RequestParam(required = false) LicenseType licenseType,
+            @RequestParam(required = false) UsageCategory usageCategory,
+            @RequestParam(required = false) String licenseKey,
+            @RequestParam(required = false) LicenseSearchCond.LicenseKeyMatch licenseKeyMatch,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        LicenseSearchCond cond = buildCond(ownerType, ownerId, productId, planId,
+                status, licenseType, usageCategory, licenseKey, licenseKeyMatch);
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        return ResponseEntity.ok(licenseQueryService.searchByCursor(cond, cursor, pageSize, includeTotal));
+    }
+
+    /**
+     * v1.1.3: 라이선스/활성화 export (스트리밍).
+     * 검색과 같은 조건을 사용하며, 결과를 페이지 없이 한 번에 내려받습니다 (건수와 무관하게 서버 힙 사용량 일정).
+     * 대용량 export가 전역 비동기 타임아웃에 중단되지 않도록 이 요청에만 export.timeout-minutes를 적용합니다.
+     *
+     * GET /api/admin/licenses/export?format=ndjson|csv&status=ACTIVE&...
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportLicenses(
+            @RequestParam(required = false) OwnerType ownerType,
+            @RequestParam(required = false) UUID ownerId,
+            @RequestParam(required = false) UUID productId,
+            @RequestParam(required = false) UUID planId,
+            @RequestParam(required = false) LicenseStatus status,
+            @RequestParam(required = false) LicenseType licenseType,
+            @RequestParam(required = false) UsageCategory usageCategory,
+            @RequestParam(required = false) String licenseKey,
+            @RequestParam(required = false) LicenseSearchCond.LicenseKeyMatch licenseKeyMatch,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest request) {
+
+        LicenseExportService.Format exportFormat = parseExportFormat(format);
+        LicenseSearchCond cond = buildCond(ownerType, ownerId, productId, planId,
+                status, licenseType, usageCategory, licenseKey, licenseKeyMatch);
+
+        MediaType contentType = exportFormat == LicenseExportService.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.parseMediaType("application/x-ndjson");
+        String filename = "licenses-" + Instant.now().getEpochSecond() + "." + exportFormat.name().toLowerCase();
+
+        StreamingResponseBody body = out -> licenseExportService.export(cond, exportFormat, out);
+        WebMvcAsyncConfig.setAsyncTimeout(request, exportTimeout);
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     /**
      * 소유자별 라이선스 목록 조회.
      *
@@ -85,4 +181,43 @@ public class LicenseAdminController {
     public ResponseEntity<LicenseDetailView> getLicense(@PathVariable UUID licenseId) {
         return ResponseEntity.ok(licenseQueryService.getById(licenseId));
     }
+
+    /**
+     * v1.1.3: 라이선스들의 발급된 오프라인 토큰 일괄 무효화 (토큰 탈취 대응 등).
+     * 이 노드의 무효화 인덱스에는 즉시, 다른 노드에는 다음 증분 로드에서 반영됩니다.
+     *
+     * POST /api/admin/licenses/offline-tokens/revoke
+     */
+    @PostMapping("/offline-tokens/revoke")
+    public ResponseEntity<OfflineTokenRevokeResponse> revokeOfflineTokens(
+            @Valid @RequestBody OfflineTokenRevokeRequest request) {
+        String reason = request.reason() != null ? request.reason() : "ADMIN_REVOKE";
+        int revoked = offlineTokenRevocationService.revokeByLicenseIds(request.licenseIds(), reason);
+        return ResponseEntity.ok(new OfflineTokenRevokeResponse(revoked));
+    }
+
+    private LicenseExportService.Format parseExportFormat(String format) {
+        try {
+            return LicenseExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new LicenseException(ErrorCode.INVALID_REQUEST, "지원하지 않는 export 형식입니다: " + format);
+        }
+    }
+
+    private LicenseSearchCond buildCond(OwnerType ownerType, UUID ownerId, UUID productId, UUID planId,
+                                        LicenseStatus status, LicenseType licenseType,
+                                        UsageCategory usageCategory, String licenseKey,
+                                        LicenseSearchCond.LicenseKeyMatch licenseKeyMatch) {
+        return LicenseSearchCond.builder()
+                .ownerType(ownerType)
+                .ownerId(ownerId)
+                .productId(productId)
+                .planId(planId)
+                .status(status)
+                .licenseType(licenseType)
+                .usageCategory(usageCategory)
+                .licenseKey(licenseKey)
+                .licenseKeyMatch(licenseKeyMatch)
+                .build();
+    }
 }
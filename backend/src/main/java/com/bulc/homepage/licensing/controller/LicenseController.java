@@ -3,13 +3,11 @@ package com.bulc.homepage.licensing.controller;
 import com.bulc.homepage.licensing.dto.*;
 import com.bulc.homepage.licensing.service.LicenseService;
 import com.bulc.homepage.entity.User;
-import com.bulc.homepage.repository.UserRepository;
+import com.bulc.homepage.security.RequestPrincipalHolder;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.nio.charset.StandardCharsets;
@@ -31,7 +29,7 @@ import java.util.UUID;
 public class LicenseController {
 
     private final LicenseService licenseService;
-    private final UserRepository userRepository;
+    private final RequestPrincipalHolder principalHolder;
 
     // ==========================================
     // v1.1 계정 기반 API (Bearer token 필수)
@@ -75,6 +73,23 @@ public class LicenseController {
         return buildValidationResponse(response);
     }
 
+    /**
+     * 일괄 Heartbeat (v1.1.3 신규).
+     * 사이트 프록시가 여러 기기의 heartbeat을 한 번에 전달합니다 (항목별 licenseId 필수).
+     *
+     * POST /api/licenses/heartbeat/batch
+     *
+     * 응답:
+     * - 200 OK: 항목별 결과 (요청 순서, 실패 항목은 valid=false + errorCode)
+     * - 400 Bad Request: 항목이 없거나 500개 초과
+     */
+    @PostMapping("/heartbeat/batch")
+    public ResponseEntity<BatchHeartbeatResponse> heartbeatBatchByUser(
+            @Valid @RequestBody BatchHeartbeatRequest request) {
+        UUID userId = getCurrentUserId();
+        return ResponseEntity.ok(licenseService.heartbeatBatchByUser(userId, request));
+    }
+
     /**
      * 강제 검증 및 활성화 (v1.1.1 신규).
      * 동시 세션 제한 초과 시 기존 세션을 비활성화하고 새 세션을 활성화.
@@ -149,18 +164,10 @@ public class LicenseController {
     /**
      * 현재 인증된 사용자의 ID를 UUID로 반환.
      * User.email을 기반으로 결정적 UUID를 생성합니다.
+     * 사용자 확인은 RequestPrincipalHolder가 요청당 최대 1회만 수행합니다.
      */
     private UUID getCurrentUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new IllegalStateException("인증된 사용자가 없습니다");
-        }
-
-        String email = authentication.getName();
-        // 사용자 존재 여부 확인
-        userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다: " + email));
-
+        String email = principalHolder.getEmail();
         // email을 기반으로 결정적 UUID 생성 (Type 3 UUID)
         return UUID.nameUUIDFromBytes(email.getBytes(StandardCharsets.UTF_8));
     }
@@ -3,13 +3,14 @@ package com.bulc.homepage.licensing.controller;
 import com.bulc.homepage.licensing.domain.LicenseStatus;
 import com.bulc.homepage.licensing.dto.MyLicenseView;
 import com.bulc.homepage.licensing.dto.MyLicensesResponse;
-import com.bulc.homepage.licensing.service.LicenseService;
+import com.bulc.homepage.licensing.query.LicenseQueryService;
 import com.bulc.homepage.entity.User;
-import com.bulc.homepage.repository.UserRepository;
+import com.bulc.homepage.security.RequestPrincipalHolder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.nio.charset.StandardCharsets;
@@ -27,8 +28,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class MyLicenseController {
 
-    private final LicenseService licenseService;
-    private final UserRepository userRepository;
+    private final LicenseQueryService licenseQueryService;
+    private final RequestPrincipalHolder principalHolder;
 
     /**
      * 내 라이선스 목록 조회.
@@ -37,31 +38,38 @@ public class MyLicenseController {
      * GET /api/me/licenses
      * GET /api/me/licenses?productId={uuid}
      * GET /api/me/licenses?status=ACTIVE
+     *
+     * v1.1.3: 라이선스/플랜 updatedAt과 사용 중 활성화 수 기반 ETag를 응답합니다 (heartbeat만으로는 바뀌지 않음).
+     * If-None-Match가 일치하면 목록을 조회하지 않고 304를 반환하므로 대시보드 polling 비용이 집계 쿼리 한 번으로 줄어듭니다.
+     * ETag는 목록보다 먼저 계산하므로, 그 사이 변경이 있어도 다음 요청에서 새 목록을 받습니다.
      */
     @GetMapping
     public ResponseEntity<MyLicensesResponse> getMyLicenses(
             @RequestParam(required = false) UUID productId,
-            @RequestParam(required = false) LicenseStatus status) {
+            @RequestParam(required = false) LicenseStatus status,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         UUID userId = getCurrentUserId();
-        List<MyLicenseView> licenses = licenseService.getMyLicenses(userId, productId, status);
-        return ResponseEntity.ok(MyLicensesResponse.of(licenses));
+        String etag = licenseQueryService.getMyLicensesETag(userId, productId, status);
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .build();
+        }
+        List<MyLicenseView> licenses = licenseQueryService.getMyLicenses(userId, productId, status);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(MyLicensesResponse.of(licenses));
     }
 
     /**
      * 현재 인증된 사용자의 ID를 UUID로 반환.
      * User.email을 기반으로 결정적 UUID를 생성합니다.
+     * 사용자 확인은 RequestPrincipalHolder가 요청당 최대 1회만 수행합니다.
      */
     private UUID getCurrentUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new IllegalStateException("인증된 사용자가 없습니다");
-        }
-
-        String email = authentication.getName();
-        // 사용자 존재 여부 확인
-        userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다: " + email));
-
+        String email = principalHolder.getEmail();
         // email을 기반으로 결정적 UUID 생성 (Type 3 UUID)
         return UUID.nameUUIDFromBytes(email.getBytes(StandardCharsets.UTF_8));
     }
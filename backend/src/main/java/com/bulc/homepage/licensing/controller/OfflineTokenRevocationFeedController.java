@@ -0,0 +1,74 @@
+package com.bulc.homepage.licensing.controller;
+
+import com.bulc.homepage.licensing.service.OfflineTokenRevocationFeed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * v1.1.3: 오프라인 토큰 무효화 피드.
+ *
+ * GET /api/licenses/revocations?since={cursor}&format=delta|bloom (인증 불필요)
+ *
+ * 오프라인 클라이언트가 재연결 시 로컬 deny-list를 갱신하기 위한 엔드포인트입니다.
+ * 응답 본문은 sessionToken 키링으로 서명한 JWS(compact)이며, 클라이언트는 헤더의 kid로
+ * /.well-known/jwks.json에서 검증 키를 찾습니다. 요청마다 DB를 조회하지 않습니다.
+ *
+ * 응답:
+ * - 200 OK: JWS + ETag + Cache-Control: public, max-age
+ * - 304 Not Modified: If-None-Match가 현재 ETag와 일치
+ * - 503 Service Unavailable: 서명 키 미설정
+ */
+@RestController
+public class OfflineTokenRevocationFeedController {
+
+    private static final MediaType JOSE = MediaType.parseMediaType("application/jose");
+
+    private final OfflineTokenRevocationFeed revocationFeed;
+    private final CacheControl cacheControl;
+
+    public OfflineTokenRevocationFeedController(
+            OfflineTokenRevocationFeed revocationFeed,
+            @Value("${bulc.licensing.revocation-feed.max-age-seconds:60}") long maxAgeSeconds) {
+        this.revocationFeed = revocationFeed;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+    }
+
+    @GetMapping("/api/licenses/revocations")
+    public ResponseEntity<byte[]> revocations(
+            @RequestParam(required = false) Long since,
+            @RequestParam(defaultValue = "delta") String format,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        OfflineTokenRevocationFeed.Format feedFormat;
+        try {
+            feedFormat = OfflineTokenRevocationFeed.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        OfflineTokenRevocationFeed.Document document = revocationFeed.document(feedFormat, since);
+        if (document == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        if (ETags.matches(ifNoneMatch, document.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(document.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(document.etag())
+                .cacheControl(cacheControl)
+                .contentType(JOSE)
+                .body(document.body());
+    }
+}
@@ -0,0 +1,62 @@
+package com.bulc.homepage.licensing.controller;
+
+import com.bulc.homepage.licensing.service.SessionTokenJwks;
+import com.bulc.homepage.licensing.service.SessionTokenKeyring;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * v1.1.3: sessionToken 검증 공개키 배포 (JWKS).
+ *
+ * GET /.well-known/jwks.json (인증 불필요)
+ *
+ * 클라이언트는 토큰 헤더의 kid로 이 목록에서 검증 키를 선택합니다.
+ * 키링 로드 시 미리 직렬화한 바이트를 그대로 응답하며 DB를 조회하지 않습니다.
+ *
+ * 응답:
+ * - 200 OK: JWK Set + ETag + Cache-Control: public, max-age
+ * - 304 Not Modified: If-None-Match가 현재 ETag와 일치
+ *
+ * 키 교체 시 새 키는 activeKid로 지정하기 전에 최소 max-age 이상 먼저 공개되어야 합니다.
+ */
+@RestController
+public class SessionTokenJwksController {
+
+    private static final MediaType JWK_SET = MediaType.parseMediaType("application/jwk-set+json");
+
+    private final SessionTokenKeyring keyring;
+    private final CacheControl cacheControl;
+
+    public SessionTokenJwksController(
+            SessionTokenKeyring keyring,
+            @Value("${bulc.licensing.session-token.jwks-max-age-seconds:3600}") long maxAgeSeconds) {
+        this.keyring = keyring;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<byte[]> jwks(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SessionTokenJwks.Document document = keyring.jwks();
+        if (ETags.matches(ifNoneMatch, document.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(document.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(document.etag())
+                .cacheControl(cacheControl)
+                .contentType(JWK_SET)
+                .body(document.body());
+    }
+}
@@ -0,0 +1,63 @@
+package com.bulc.homepage.licensing.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 기기-라이선스 바인딩 (v1.1.3).
+ *
+ * 사용자/제품/기기별로 마지막으로 검증에 성공한 라이선스를 기록합니다.
+ * licenseId 없이 validate/heartbeat가 호출되면 이 바인딩으로 라이선스를 결정하여
+ * 사용자의 모든 후보 라이선스 대신 바인딩된 라이선스 한 건만 락을 잡습니다.
+ *
+ * license_id에는 FK를 두지 않습니다. 삭제/회수 등으로 무효해진 바인딩은 검증 시 제거됩니다.
+ */
+@Entity
+@Table(name = "device_license_bindings",
+        uniqueConstraints = @UniqueConstraint(name = "uk_device_binding",
+                columnNames = {"owner_id", "product_id", "device_fingerprint"}),
+        indexes = @Index(name = "idx_device_bindings_license", columnList = "license_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DeviceLicenseBinding {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "owner_id", nullable = false)
+    private UUID ownerId;
+
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Column(name = "device_fingerprint", nullable = false, length = 255)
+    private String deviceFingerprint;
+
+    @Column(name = "license_id", nullable = false)
+    private UUID licenseId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public DeviceLicenseBinding(UUID ownerId, UUID productId, String deviceFingerprint, UUID licenseId) {
+        this.ownerId = ownerId;
+        this.productId = productId;
+        this.deviceFingerprint = deviceFingerprint;
+        this.licenseId = licenseId;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = Instant.now();
+        this.updatedAt = Instant.now();
+    }
+}
@@ -19,7 +19,9 @@ import java.util.UUID;
  * 특정 Owner(개인/조직)가 특정 Product/Plan을 사용할 수 있는 권리.
  */
 @Entity
-@Table(name = "licenses")
+@Table(name = "licenses", indexes = {
+        @Index(name = "idx_licenses_key_normalized", columnList = "license_key_normalized")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class License {
@@ -71,13 +73,28 @@ public class License {
     @Column(name = "policy_snapshot")
     private Map<String, Object> policySnapshot;
 
+    // 파싱된 정책 (생성/로드 시 한 번만 파싱, 저장되지 않음)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private PolicySnapshot policy;
+
     // === 외부 참조 ===
     @Column(name = "license_key", unique = true, length = 50)
     private String licenseKey;
 
+    // v1.1.3: 관리자 부분 검색용 정규화 키 (대문자, 영숫자만). licenseKey와 함께 생성 시 한 번만 설정
+    @Column(name = "license_key_normalized", length = 50)
+    private String licenseKeyNormalized;
+
     @Column(name = "source_order_id")
     private UUID sourceOrderId;
 
+    // === 동시성 제어 (v1.1.3) ===
+    // OPTIMISTIC 모드에서는 검증/활성화 시 OPTIMISTIC_FORCE_INCREMENT로 증가 (LicenseConcurrencyControl)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // === Audit ===
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
@@ -106,12 +123,32 @@ public class License {
         this.validFrom = validFrom != null ? validFrom : Instant.now();
         this.validUntil = validUntil;
         this.policySnapshot = policySnapshot;
+        this.policy = PolicySnapshot.from(policySnapshot);
         this.licenseKey = licenseKey;
+        this.licenseKeyNormalized = normalizeLicenseKey(licenseKey);
         this.sourceOrderId = sourceOrderId;
         this.createdAt = Instant.now();
         this.updatedAt = Instant.now();
     }
 
+    /**
+     * v1.1.3: 라이선스 키 정규화 - 대문자로 바꾸고 영숫자 이외 문자(구분자 '-', 공백 등)를 제거.
+     * 저장 컬럼(license_key_normalized)과 검색어에 같은 규칙을 적용하여 "abcd-12" / "ABCD12" 모두 일치시킵니다.
+     */
+    public static String normalizeLicenseKey(String licenseKey) {
+        if (licenseKey == null) {
+            return null;
+        }
+        StringBuilder normalized = new StringBuilder(licenseKey.length());
+        for (int i = 0; i < licenseKey.length(); i++) {
+            char c = Character.toUpperCase(licenseKey.charAt(i));
+            if ((c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+
     // === 도메인 메서드 ===
 
     /**
@@ -158,6 +195,24 @@ public class License {
         this.updatedAt = Instant.now();
     }
 
+    /**
+     * 만료 상태 반영 (스위퍼 배치용).
+     * 저장된 ACTIVE/EXPIRED_GRACE 상태를 현재 시점의 유효 상태로 갱신합니다.
+     * @return 상태가 변경되었으면 true
+     */
+    public boolean applyExpiry(Instant now) {
+        if (this.status != LicenseStatus.ACTIVE && this.status != LicenseStatus.EXPIRED_GRACE) {
+            return false;
+        }
+        LicenseStatus effectiveStatus = calculateEffectiveStatus(now);
+        if (effectiveStatus == this.status) {
+            return false;
+        }
+        this.status = effectiveStatus;
+        this.updatedAt = now;
+        return true;
+    }
+
     /**
      * 라이선스가 특정 사용자 소유인지 확인.
      */
@@ -190,34 +245,41 @@ public class License {
         }
     }
 
+    /**
+     * 파싱된 정책 스냅샷.
+     * v1.1.3: JSON Map 조회/캐스팅 대신 로드 시 한 번 파싱한 값 객체 사용.
+     */
+    public PolicySnapshot getPolicy() {
+        if (policy == null) {
+            policy = PolicySnapshot.from(policySnapshot);
+        }
+        return policy;
+    }
+
+    @PostLoad
+    protected void parsePolicySnapshot() {
+        this.policy = PolicySnapshot.from(policySnapshot);
+    }
+
     /**
      * PolicySnapshot에서 gracePeriodDays 추출.
      */
     public int getGracePeriodDays() {
-        if (policySnapshot == null || !policySnapshot.containsKey("gracePeriodDays")) {
-            return 7; // 기본값
-        }
-        return ((Number) policySnapshot.get("gracePeriodDays")).intValue();
+        return getPolicy().gracePeriodDays();
     }
 
     /**
      * PolicySnapshot에서 maxActivations 추출.
      */
     public int getMaxActivations() {
-        if (policySnapshot == null || !policySnapshot.containsKey("maxActivations")) {
-            return 3; // 기본값
-        }
-        return ((Number) policySnapshot.get("maxActivations")).intValue();
+        return getPolicy().maxActivations();
     }
 
     /**
      * PolicySnapshot에서 maxConcurrentSessions 추출.
      */
     public int getMaxConcurrentSessions() {
-        if (policySnapshot == null || !policySnapshot.containsKey("maxConcurrentSessions")) {
-            return 2; // 기본값
-        }
-        return ((Number) policySnapshot.get("maxConcurrentSessions")).intValue();
+        return getPolicy().maxConcurrentSessions();
     }
 
     /**
@@ -225,35 +287,39 @@ public class License {
      * v1.1.1: 세션 TTL (분) - 마지막 heartbeat 이후 이 시간이 지나면 비활성 세션으로 간주.
      */
     public int getSessionTtlMinutes() {
-        if (policySnapshot == null || !policySnapshot.containsKey("sessionTtlMinutes")) {
-            return 60; // 기본값 60분
-        }
-        return ((Number) policySnapshot.get("sessionTtlMinutes")).intValue();
+        return getPolicy().sessionTtlMinutes();
     }
 
     /**
      * 새 기기 활성화 가능 여부 확인.
      */
     public boolean canActivate(String deviceFingerprint, Instant now) {
+        Activation deviceActivation = findActivation(deviceFingerprint);
+        long activeDeviceCount = activations.stream()
+                .filter(a -> a.getStatus() == ActivationStatus.ACTIVE || a.getStatus() == ActivationStatus.STALE)
+                .count();
+        return canActivate(deviceActivation, activeDeviceCount, now);
+    }
+
+    /**
+     * 새 기기 활성화 가능 여부 확인 (v1.1.3: 활성화 컬렉션을 로드하지 않고 조회된 값으로 판단).
+     *
+     * @param deviceActivation 요청 기기의 기존 활성화 (없으면 null)
+     * @param activeDeviceCount ACTIVE + STALE 상태 기기 수
+     */
+    public boolean canActivate(Activation deviceActivation, long activeDeviceCount, Instant now) {
         LicenseStatus effectiveStatus = calculateEffectiveStatus(now);
         if (effectiveStatus != LicenseStatus.ACTIVE && effectiveStatus != LicenseStatus.EXPIRED_GRACE) {
             return false;
         }
 
         // 이미 해당 기기가 활성화되어 있는지 확인
-        boolean deviceAlreadyActive = activations.stream()
-                .anyMatch(a -> a.getDeviceFingerprint().equals(deviceFingerprint)
-                        && a.getStatus() == ActivationStatus.ACTIVE);
-        if (deviceAlreadyActive) {
+        if (deviceActivation != null && deviceActivation.getStatus() == ActivationStatus.ACTIVE) {
             return true; // 기존 활성화 갱신
         }
 
         // 활성 기기 수 확인
-        long activeCount = activations.stream()
-                .filter(a -> a.getStatus() == ActivationStatus.ACTIVE || a.getStatus() == ActivationStatus.STALE)
-                .count();
-
-        return activeCount < getMaxActivations();
+        return activeDeviceCount < getMaxActivations();
     }
 
     /**
@@ -269,12 +335,19 @@ public class License {
      */
     public Activation addActivation(String deviceFingerprint, String clientVersion,
                                     String clientOs, String lastIp, String deviceDisplayName) {
-        // 기존 활성화가 있으면 갱신
-        Activation existing = activations.stream()
-                .filter(a -> a.getDeviceFingerprint().equals(deviceFingerprint))
-                .findFirst()
-                .orElse(null);
+        return addActivation(findActivation(deviceFingerprint), deviceFingerprint,
+                clientVersion, clientOs, lastIp, deviceDisplayName);
+    }
 
+    /**
+     * 기기 활성화 추가 (v1.1.3: 기존 활성화를 이미 조회한 경우).
+     * 활성화 컬렉션을 순회하지 않으므로 지연 로딩된 컬렉션이 초기화되지 않습니다.
+     *
+     * @param existing 요청 기기의 기존 활성화 (없으면 null - 새 활성화 생성)
+     */
+    public Activation addActivation(Activation existing, String deviceFingerprint, String clientVersion,
+                                    String clientOs, String lastIp, String deviceDisplayName) {
+        // 기존 활성화가 있으면 갱신
         if (existing != null) {
             existing.reactivate(clientVersion, clientOs, lastIp);
             if (deviceDisplayName != null) {
@@ -293,8 +366,16 @@ public class License {
                 .deviceDisplayName(deviceDisplayName)
                 .build();
 
+        // 초기화되지 않은 inverse 컬렉션에 대한 add는 컬렉션 로드 없이 큐잉됨
         this.activations.add(activation);
         this.updatedAt = Instant.now();
         return activation;
     }
+
+    private Activation findActivation(String deviceFingerprint) {
+        return activations.stream()
+                .filter(a -> a.getDeviceFingerprint().equals(deviceFingerprint))
+                .findFirst()
+                .orElse(null);
+    }
 }
@@ -0,0 +1,101 @@
+package com.bulc.homepage.licensing.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 파싱된 정책 스냅샷 (불변 값 객체).
+ *
+ * License.policySnapshot(JSON 컬럼, Map)을 엔티티 로드/생성 시 한 번만 파싱하여
+ * 검증 경로에서 반복되던 containsKey + get + Number 캐스팅을 제거합니다.
+ * JSON 컬럼과 PolicySnapshotView의 형식은 그대로 유지됩니다.
+ *
+ * 키가 없거나 숫자가 아니면 기본값을 사용합니다.
+ * - gracePeriodDays: 7, maxActivations: 3, maxConcurrentSessions: 2
+ * - sessionTtlMinutes: 60, allowOfflineDays: 30
+ *
+ * @param entitlementsSpecified 스냅샷에 entitlements 목록이 있었는지 여부
+ */
+public record PolicySnapshot(
+        int gracePeriodDays,
+        int maxActivations,
+        int maxConcurrentSessions,
+        int sessionTtlMinutes,
+        int allowOfflineDays,
+        List<String> entitlements,
+        boolean entitlementsSpecified
+) {
+
+    public static final int DEFAULT_GRACE_PERIOD_DAYS = 7;
+    public static final int DEFAULT_MAX_ACTIVATIONS = 3;
+    public static final int DEFAULT_MAX_CONCURRENT_SESSIONS = 2;
+    public static final int DEFAULT_SESSION_TTL_MINUTES = 60;
+    public static final int DEFAULT_ALLOW_OFFLINE_DAYS = 30;
+    // 오프라인 토큰/검증 응답에서 entitlements가 없는 경우 사용
+    public static final List<String> DEFAULT_ENTITLEMENTS = List.of("core-simulation");
+
+    public static final PolicySnapshot DEFAULT = new PolicySnapshot(
+            DEFAULT_GRACE_PERIOD_DAYS, DEFAULT_MAX_ACTIVATIONS, DEFAULT_MAX_CONCURRENT_SESSIONS,
+            DEFAULT_SESSION_TTL_MINUTES, DEFAULT_ALLOW_OFFLINE_DAYS, List.of(), false);
+
+    // 동일한 entitlements 조합은 하나의 불변 리스트를 공유 (플랜 수만큼만 생성됨)
+    private static final int MAX_INTERNED_ENTITLEMENT_SETS = 1024;
+    private static final Map<List<String>, List<String>> INTERNED_ENTITLEMENTS = new ConcurrentHashMap<>();
+
+    public PolicySnapshot {
+        entitlements = entitlements != null ? List.copyOf(entitlements) : List.of();
+    }
+
+    /**
+     * JSON 컬럼 Map에서 파싱.
+     */
+    public static PolicySnapshot from(Map<String, Object> policySnapshot) {
+        if (policySnapshot == null || policySnapshot.isEmpty()) {
+            return DEFAULT;
+        }
+
+        Object rawEntitlements = policySnapshot.get("entitlements");
+        boolean entitlementsSpecified = rawEntitlements instanceof List<?>;
+
+        return new PolicySnapshot(
+                getInt(policySnapshot, "gracePeriodDays", DEFAULT_GRACE_PERIOD_DAYS),
+                getInt(policySnapshot, "maxActivations", DEFAULT_MAX_ACTIVATIONS),
+                getInt(policySnapshot, "maxConcurrentSessions", DEFAULT_MAX_CONCURRENT_SESSIONS),
+                getInt(policySnapshot, "sessionTtlMinutes", DEFAULT_SESSION_TTL_MINUTES),
+                getInt(policySnapshot, "allowOfflineDays", DEFAULT_ALLOW_OFFLINE_DAYS),
+                entitlementsSpecified ? internEntitlements((List<?>) rawEntitlements) : List.of(),
+                entitlementsSpecified
+        );
+    }
+
+    /**
+     * 스냅샷에 entitlements가 없으면 defaultValue 반환.
+     */
+    public List<String> entitlementsOr(List<String> defaultValue) {
+        return entitlementsSpecified ? entitlements : defaultValue;
+    }
+
+    private static int getInt(Map<String, Object> map, String key, int defaultValue) {
+        Object value = map.get(key);
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        return defaultValue;
+    }
+
+    private static List<String> internEntitlements(List<?> raw) {
+        List<String> values = new ArrayList<>(raw.size());
+        for (Object item : raw) {
+            if (item != null) {
+                values.add(item.toString().intern());
+            }
+        }
+        List<String> immutable = List.copyOf(values);
+        if (INTERNED_ENTITLEMENTS.size() >= MAX_INTERNED_ENTITLEMENT_SETS) {
+            return INTERNED_ENTITLEMENTS.getOrDefault(immutable, immutable);
+        }
+        return INTERNED_ENTITLEMENTS.computeIfAbsent(immutable, key -> key);
+    }
+}
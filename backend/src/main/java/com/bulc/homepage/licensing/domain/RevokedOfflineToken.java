@@ -0,0 +1,68 @@
+package com.bulc.homepage.licensing.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 무효화된 오프라인 토큰 (v1.1.3).
+ *
+ * 토큰 원문 대신 SHA-256 digest(hex)만 저장합니다.
+ * 각 노드의 OfflineTokenRevocationIndex가 revoked_at 커서로 이 테이블을 증분 로드하여
+ * 검증 경로에서 DB 조회 없이 무효화 여부를 판단합니다.
+ * token_expires_at(토큰 자체의 만료 시각)이 지난 항목은 토큰이 이미 만료로 거부되므로 로드하지 않습니다.
+ */
+@Entity
+@Table(name = "revoked_offline_tokens",
+        indexes = {
+                @Index(name = "idx_revoked_tokens_license", columnList = "license_id"),
+                @Index(name = "idx_revoked_tokens_hash", columnList = "token_hash"),
+                @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at, id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedOfflineToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "license_id", nullable = false)
+    private UUID licenseId;
+
+    @Column(name = "activation_id")
+    private UUID activationId;
+
+    @Column(name = "device_fingerprint", length = 255)
+    private String deviceFingerprint;
+
+    @Column(name = "token_hash", nullable = false, length = 255)
+    private String tokenHash;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+
+    /**
+     * 무효화된 토큰의 만료 시각 (NULL: 알 수 없음 - 만료로 제외하지 않음).
+     */
+    @Column(name = "token_expires_at")
+    private Instant tokenExpiresAt;
+
+    @Column(name = "reason", length = 255)
+    private String reason;
+
+    public RevokedOfflineToken(UUID licenseId, UUID activationId, String deviceFingerprint,
+                               String tokenHash, Instant revokedAt, Instant tokenExpiresAt, String reason) {
+        this.licenseId = licenseId;
+        this.activationId = activationId;
+        this.deviceFingerprint = deviceFingerprint;
+        this.tokenHash = tokenHash;
+        this.revokedAt = revokedAt;
+        this.tokenExpiresAt = tokenExpiresAt;
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,33 @@
+package com.bulc.homepage.licensing.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * v1.1.3: 일괄 Heartbeat 요청 DTO.
+ *
+ * 사이트 프록시(릴레이)가 여러 워크스테이션의 heartbeat을 한 번에 전달할 때 사용합니다.
+ * 각 항목은 licenseId를 명시해야 합니다 (후보 검색/기기 바인딩 없음).
+ */
+public record BatchHeartbeatRequest(
+        @NotNull(message = "heartbeat 목록은 필수입니다")
+        @Size(min = 1, max = 500, message = "heartbeat 목록은 1~500개여야 합니다")
+        List<@Valid Entry> entries
+) {
+    public record Entry(
+            @NotNull(message = "라이선스 ID는 필수입니다")
+            UUID licenseId,
+
+            @NotBlank(message = "기기 fingerprint는 필수입니다")
+            String deviceFingerprint,
+
+            // 클라이언트 정보 (선택)
+            String clientVersion,
+            String clientOs
+    ) {}
+}
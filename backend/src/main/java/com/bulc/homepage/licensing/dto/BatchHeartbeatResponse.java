@@ -0,0 +1,20 @@
+package com.bulc.homepage.licensing.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * v1.1.3: 일괄 Heartbeat 응답 DTO.
+ *
+ * results는 요청 entries와 같은 순서이며, 항목별 결과는 단건 heartbeat의 ValidationResponse와 같습니다.
+ * 일부 항목이 실패해도 나머지 항목은 처리됩니다 (실패 항목은 valid=false, errorCode 포함).
+ */
+public record BatchHeartbeatResponse(
+        List<EntryResult> results
+) {
+    public record EntryResult(
+            UUID licenseId,
+            String deviceFingerprint,
+            ValidationResponse result
+    ) {}
+}
@@ -1,12 +1,12 @@
 package com.bulc.homepage.licensing.dto;
 
-import com.bulc.homepage.licensing.domain.License;
 import com.bulc.homepage.licensing.domain.LicenseStatus;
 import com.bulc.homepage.licensing.domain.LicenseType;
-import com.bulc.homepage.licensing.domain.ActivationStatus;
+import com.bulc.homepage.licensing.domain.PolicySnapshot;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -26,32 +26,29 @@ public record MyLicenseView(
         int usedActivations,
         int maxActivations
 ) {
-    @SuppressWarnings("unchecked")
-    public static MyLicenseView from(License license) {
-        List<String> entitlements = List.of();
-        if (license.getPolicySnapshot() != null && license.getPolicySnapshot().containsKey("entitlements")) {
-            Object ent = license.getPolicySnapshot().get("entitlements");
-            if (ent instanceof List<?>) {
-                entitlements = (List<String>) ent;
-            }
-        }
-
-        int usedActivations = (int) license.getActivations().stream()
-                .filter(a -> a.getStatus() == ActivationStatus.ACTIVE || a.getStatus() == ActivationStatus.STALE)
-                .count();
-
+    /**
+     * v1.1.3: projection 조회 결과로 생성 (엔티티/활성화 로드 없음).
+     *
+     * @param planName        license_plans.name (플랜 없으면 null)
+     * @param usedActivations ACTIVE/STALE 상태 활성화 수 (DB 집계)
+     */
+    public static MyLicenseView of(UUID id, UUID productId, String planName,
+                                   LicenseType licenseType, LicenseStatus status,
+                                   Instant validFrom, Instant validUntil,
+                                   Map<String, Object> policySnapshot, long usedActivations) {
+        PolicySnapshot policy = PolicySnapshot.from(policySnapshot);
         return new MyLicenseView(
-                license.getId(),
-                license.getProductId(),
+                id,
+                productId,
                 null, // productName은 Product 도메인에서 조회 필요
-                null, // planName은 Plan 도메인에서 조회 필요
-                license.getLicenseType(),
-                license.getStatus(),
-                license.getValidFrom(),
-                license.getValidUntil(),
-                entitlements,
-                usedActivations,
-                license.getMaxActivations()
+                planName,
+                licenseType,
+                status,
+                validFrom,
+                validUntil,
+                policy.entitlementsOr(List.of()),
+                (int) usedActivations,
+                policy.maxActivations()
         );
     }
 }
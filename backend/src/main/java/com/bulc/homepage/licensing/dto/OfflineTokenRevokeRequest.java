@@ -0,0 +1,20 @@
+package com.bulc.homepage.licensing.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * v1.1.3: 오프라인 토큰 일괄 무효화 요청 DTO (관리자).
+ */
+public record OfflineTokenRevokeRequest(
+        @NotNull(message = "라이선스 ID 목록은 필수입니다")
+        @Size(min = 1, max = 1000, message = "라이선스는 1개 이상 1000개 이하로 지정해야 합니다")
+        List<UUID> licenseIds,
+
+        // 무효화 사유 (선택, 예: TOKEN_LEAK)
+        @Size(max = 255, message = "사유는 255자 이하여야 합니다")
+        String reason
+) {}
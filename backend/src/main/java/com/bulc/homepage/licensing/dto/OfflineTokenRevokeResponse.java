@@ -0,0 +1,8 @@
+package com.bulc.homepage.licensing.dto;
+
+/**
+ * v1.1.3: 오프라인 토큰 일괄 무효화 응답 DTO.
+ *
+ * @param revokedCount 무효화 목록에 기록된 토큰 수
+ */
+public record OfflineTokenRevokeResponse(int revokedCount) {}
@@ -44,4 +44,12 @@ public record ValidateRequest(
     public boolean hasProductIdentifier() {
         return productCode != null || productId != null;
     }
+
+    /**
+     * v1.1.3: licenseId만 바꾼 사본 (기기 바인딩으로 라이선스를 결정한 경우).
+     */
+    public ValidateRequest withLicenseId(UUID licenseId) {
+        return new ValidateRequest(productCode, productId, licenseId, deviceFingerprint,
+                clientVersion, clientOs, deviceDisplayName);
+    }
 }
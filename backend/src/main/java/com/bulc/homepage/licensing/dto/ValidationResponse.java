@@ -84,6 +84,15 @@ public record ValidationResponse(
                 Instant.now(), null, null, null, null, null);
     }
 
+    /**
+     * v1.1.3: sessionToken만 바꾼 사본 (트랜잭션 커밋 후 서명한 토큰 반영).
+     */
+    public ValidationResponse withSessionToken(String sessionToken) {
+        return new ValidationResponse(valid, licenseId, status, validUntil, entitlements,
+                sessionToken, offlineToken, offlineTokenExpiresAt,
+                serverTime, errorCode, errorMessage, candidates, activeSessions, maxConcurrentSessions);
+    }
+
     public static ValidationResponse failure(String errorCode, String errorMessage) {
         return new ValidationResponse(false, null, null, null, null, null, null, null,
                 Instant.now(), errorCode, errorMessage, null, null, null);
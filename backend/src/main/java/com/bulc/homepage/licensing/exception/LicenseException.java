@@ -44,7 +44,10 @@ public class LicenseException extends RuntimeException {
         // v1.1.1 추가
         SESSION_DEACTIVATED("세션이 다른 기기에서 비활성화되었습니다"),
         INVALID_REQUEST("잘못된 요청입니다"),
-        INVALID_ACTIVATION_OWNERSHIP("비활성화 대상 세션이 해당 라이선스에 속하지 않습니다");
+        INVALID_ACTIVATION_OWNERSHIP("비활성화 대상 세션이 해당 라이선스에 속하지 않습니다"),
+
+        // v1.1.3 추가
+        CONCURRENT_MODIFICATION("다른 요청과 동시에 변경되었습니다. 잠시 후 다시 시도해주세요");
 
         private final String message;
 
@@ -34,6 +34,7 @@ public class LicenseExceptionHandler {
             case LICENSE_ALREADY_EXISTS, PLAN_CODE_DUPLICATE -> HttpStatus.CONFLICT;
             case LICENSE_SELECTION_REQUIRED -> HttpStatus.CONFLICT;  // 409 - 복수 라이선스 선택 필요
             case CONCURRENT_SESSION_LIMIT_EXCEEDED -> HttpStatus.CONFLICT;  // v1.1.1: 409 - 동시 세션 초과
+            case CONCURRENT_MODIFICATION -> HttpStatus.CONFLICT;  // v1.1.3: 409 - 낙관적 락 재시도 소진
             case LICENSE_EXPIRED, LICENSE_SUSPENDED, LICENSE_REVOKED,
                  ACTIVATION_LIMIT_EXCEEDED, ACCESS_DENIED -> HttpStatus.FORBIDDEN;
             case SESSION_DEACTIVATED -> HttpStatus.FORBIDDEN;  // v1.1.1: 403 - 세션 비활성화됨
@@ -0,0 +1,20 @@
+package com.bulc.homepage.licensing.query;
+
+import java.util.List;
+
+/**
+ * v1.1.3: 커서(keyset) 기반 페이지.
+ *
+ * @param content       현재 페이지 항목
+ * @param nextCursor    다음 페이지 요청에 전달할 불투명 커서 (마지막 페이지면 null)
+ * @param totalElements 전체 건수 (요청 시에만 계산, 아니면 null)
+ */
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,
+        Long totalElements
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
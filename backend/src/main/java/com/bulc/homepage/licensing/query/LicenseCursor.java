@@ -0,0 +1,35 @@
+package com.bulc.homepage.licensing.query;
+
+import com.bulc.homepage.licensing.exception.LicenseException;
+import com.bulc.homepage.licensing.exception.LicenseException.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * v1.1.3: 라이선스 목록 keyset 커서 (createdAt DESC, id DESC 순서의 마지막 행).
+ * 클라이언트에는 Base64url 문자열로만 노출합니다.
+ */
+record LicenseCursor(Instant createdAt, UUID id) {
+
+    String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws LicenseException INVALID_REQUEST - 형식이 잘못된 커서
+     */
+    static LicenseCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new LicenseCursor(Instant.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new LicenseException(ErrorCode.INVALID_REQUEST, "잘못된 cursor입니다");
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.bulc.homepage.licensing.query;
+
+import com.bulc.homepage.licensing.query.view.ActivationView;
+import com.bulc.homepage.licensing.query.view.LicenseExportRow;
+import com.bulc.homepage.licensing.query.view.LicenseExportView;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * v1.1.3: 관리자용 라이선스/활성화 export (스트리밍).
+ *
+ * LicenseQueryRepository.streamForExport의 forward-only 스트림을 읽는 즉시 출력 스트림에 기록하므로
+ * 결과 건수와 무관하게 힙 사용량이 일정합니다. 스트림은 이 메서드의 읽기 트랜잭션 안에서만 유효합니다.
+ *
+ * - NDJSON: 라이선스당 한 줄, activations 배열 포함
+ * - CSV: (라이선스, 활성화) 조합당 한 줄. 활성화가 없는 라이선스는 활성화 컬럼이 빈 한 줄
+ */
+@Service
+@Transactional(readOnly = true)
+public class LicenseExportService {
+
+    public enum Format { NDJSON, CSV }
+
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    private static final String CSV_HEADER = String.join(",",
+            "license_id", "license_key", "status", "license_type", "usage_category", "owner_type", "owner_id",
+            "product_id", "plan_id", "valid_from", "valid_until", "created_at",
+            "activation_id", "device_fingerprint", "activation_status", "activated_at", "last_seen_at",
+            "client_version", "client_os");
+
+    private final LicenseQueryRepository queryRepository;
+    private final ObjectWriter jsonWriter;
+
+    public LicenseExportService(LicenseQueryRepository queryRepository, ObjectMapper objectMapper) {
+        this.queryRepository = queryRepository;
+        // 줄마다 대상 Writer를 닫거나 flush하지 않음 (flush는 FLUSH_EVERY_ROWS 단위)
+        this.jsonWriter = objectMapper.writer().withoutFeatures(
+                JsonGenerator.Feature.AUTO_CLOSE_TARGET, JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+    }
+
+    /**
+     * 조건에 맞는 라이선스를 지정 형식으로 기록.
+     *
+     * @return 기록한 행 수 (NDJSON: 라이선스 수, CSV: 데이터 행 수)
+     */
+    public long export(LicenseSearchCond cond, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try (Stream<LicenseExportRow> rows = queryRepository.streamForExport(cond)) {
+            long written = format == Format.NDJSON
+                    ? writeNdjson(rows.iterator(), writer)
+                    : writeCsv(rows.iterator(), writer);
+            writer.flush();
+            return written;
+        }
+    }
+
+    private long writeNdjson(Iterator<LicenseExportRow> rows, Writer writer) throws IOException {
+        long written = 0;
+        LicenseExportView current = null;
+        List<ActivationView> activations = new ArrayList<>();
+
+        while (rows.hasNext()) {
+            LicenseExportRow row = rows.next();
+            // 같은 라이선스의 행은 연속 (정렬 보장) - 라이선스가 바뀔 때 이전 라이선스 기록
+            if (current != null && !current.id().equals(row.license().id())) {
+                writeJsonLine(writer, current.withActivations(activations));
+                activations = new ArrayList<>();
+                if (++written % FLUSH_EVERY_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+            current = row.license();
+            if (row.activation() != null) {
+                activations.add(row.activation());
+            }
+        }
+        if (current != null) {
+            writeJsonLine(writer, current.withActivations(activations));
+            written++;
+        }
+        return written;
+    }
+
+    private void writeJsonLine(Writer writer, LicenseExportView view) throws IOException {
+        jsonWriter.writeValue(writer, view);
+        writer.write('\n');
+    }
+
+    private long writeCsv(Iterator<LicenseExportRow> rows, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+
+        long written = 0;
+        while (rows.hasNext()) {
+            LicenseExportRow row = rows.next();
+            LicenseExportView l = row.license();
+            ActivationView a = row.activation();
+            writeCsvRow(writer,
+                    l.id(), l.licenseKey(), l.status(), l.licenseType(), l.usageCategory(), l.ownerType(),
+                    l.ownerId(), l.productId(), l.planId(), l.validFrom(), l.validUntil(), l.createdAt(),
+                    a != null ? a.id() : null,
+                    a != null ? a.deviceFingerprint() : null,
+                    a != null ? a.status() : null,
+                    a != null ? a.activatedAt() : null,
+                    a != null ? a.lastSeenAt() : null,
+                    a != null ? a.clientVersion() : null,
+                    a != null ? a.clientOs() : null);
+            if (++written % FLUSH_EVERY_ROWS == 0) {
+                writer.flush();
+            }
+        }
+        return written;
+    }
+
+    private void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180 이스케이프 + 스프레드시트 수식 주입 방지 (=, +, -, @로 시작하는 클라이언트 입력 값).
+     */
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = Objects.toString(value);
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
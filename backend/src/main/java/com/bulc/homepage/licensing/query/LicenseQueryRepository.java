@@ -1,14 +1,19 @@
 package com.bulc.homepage.licensing.query;
 
+import com.bulc.homepage.licensing.domain.LicenseStatus;
 import com.bulc.homepage.licensing.domain.OwnerType;
+import com.bulc.homepage.licensing.dto.MyLicenseView;
 import com.bulc.homepage.licensing.query.view.LicenseDetailView;
+import com.bulc.homepage.licensing.query.view.LicenseExportRow;
 import com.bulc.homepage.licensing.query.view.LicenseSummaryView;
+import com.bulc.homepage.licensing.query.view.MyLicensesVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * 라이선스 조회 전용 Repository
@@ -34,4 +39,32 @@ public interface LicenseQueryRepository {
      * 조건 기반 라이선스 검색 (페이징)
      */
     Page<LicenseSummaryView> search(LicenseSearchCond cond, Pageable pageable);
+
+    /**
+     * v1.1.3: 조건 기반 라이선스 검색 (keyset 페이징, createdAt DESC, id DESC)
+     *
+     * @param cursor    이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param withTotal 전체 건수 계산 여부 (COUNT 쿼리 추가 실행)
+     */
+    CursorPage<LicenseSummaryView> searchByCursor(LicenseSearchCond cond, String cursor, int size, boolean withTotal);
+
+    /**
+     * v1.1.3: export용 스트림 (라이선스 LEFT JOIN 활성화, 같은 라이선스의 행은 연속)
+     *
+     * 호출자는 읽기 트랜잭션 안에서 소비하고 반드시 닫아야 합니다.
+     */
+    Stream<LicenseExportRow> streamForExport(LicenseSearchCond cond);
+
+    /**
+     * v1.1.3: 사용자 라이선스 목록 (/api/me/licenses, 단일 쿼리 projection, createdAt DESC)
+     *
+     * @param productId 제품 필터 (null이면 전체)
+     * @param status    상태 필터 (null이면 전체)
+     */
+    List<MyLicenseView> findMyLicenses(UUID userId, UUID productId, LicenseStatus status);
+
+    /**
+     * v1.1.3: findMyLicenses와 같은 조건의 라이선스별 버전 (ETag 계산용)
+     */
+    MyLicensesVersion findMyLicensesVersion(UUID userId, UUID productId, LicenseStatus status);
 }
@@ -1,28 +1,46 @@
 package com.bulc.homepage.licensing.query;
 
+import com.bulc.homepage.licensing.domain.Activation;
+import com.bulc.homepage.licensing.domain.ActivationStatus;
 import com.bulc.homepage.licensing.domain.License;
+import com.bulc.homepage.licensing.domain.LicensePlan;
+import com.bulc.homepage.licensing.domain.LicenseStatus;
+import com.bulc.homepage.licensing.domain.LicenseType;
 import com.bulc.homepage.licensing.domain.OwnerType;
+import com.bulc.homepage.licensing.domain.UsageCategory;
+import com.bulc.homepage.licensing.dto.MyLicenseView;
+import com.bulc.homepage.licensing.query.view.ActivationView;
 import com.bulc.homepage.licensing.query.view.LicenseDetailView;
+import com.bulc.homepage.licensing.query.view.LicenseExportRow;
+import com.bulc.homepage.licensing.query.view.LicenseExportView;
 import com.bulc.homepage.licensing.query.view.LicenseSummaryView;
+import com.bulc.homepage.licensing.query.view.MyLicensesVersion;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.TypedQuery;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.*;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 public class LicenseQueryRepositoryImpl implements LicenseQueryRepository {
 
+    private static final int EXPORT_FETCH_SIZE = 1000;
+    private static final int MIN_TRIGRAM_SEARCH_LENGTH = 3;
+
     private final EntityManager em;
 
     @Override
@@ -59,69 +77,322 @@ public class LicenseQueryRepositoryImpl implements LicenseQueryRepository {
                 .map(LicenseDetailView::from);
     }
 
+    /**
+     * v1.1.3: 요약 컬럼 + ACTIVE 활성화 수를 한 번의 SQL로 조회 (엔티티/활성화 로드 없음).
+     */
     @Override
     public List<LicenseSummaryView> findByOwner(OwnerType ownerType, UUID ownerId) {
-        String jpql = """
-                SELECT l FROM License l
-                LEFT JOIN FETCH l.activations
-                WHERE l.ownerType = :ownerType AND l.ownerId = :ownerId
-                ORDER BY l.createdAt DESC
-                """;
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        LicenseSearchCond cond = LicenseSearchCond.builder()
+                .ownerType(ownerType)
+                .ownerId(ownerId)
+                .build();
 
-        List<License> licenses = em.createQuery(jpql, License.class)
-                .setParameter("ownerType", ownerType)
-                .setParameter("ownerId", ownerId)
-                .getResultList();
+        SummaryQuery summary = summaryQuery(cb);
+        summary.query().where(buildPredicates(cb, summary.root(), cond).toArray(new Predicate[0]));
+        summary.query().orderBy(cb.desc(summary.root().get("createdAt")), cb.desc(summary.root().get("id")));
 
-        return licenses.stream()
-                .map(LicenseSummaryView::from)
+        return em.createQuery(summary.query()).getResultStream()
+                .map(this::toSummaryView)
                 .toList();
     }
 
+    /**
+     * v1.1.3: 요약 projection이므로 컬렉션 fetch join 없이 DB에서 LIMIT/OFFSET이 적용됩니다.
+     */
     @Override
     public Page<LicenseSummaryView> search(LicenseSearchCond cond, Pageable pageable) {
         CriteriaBuilder cb = em.getCriteriaBuilder();
 
-        // Count query
-        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
-        Root<License> countRoot = countQuery.from(License.class);
-        countQuery.select(cb.count(countRoot));
-        countQuery.where(buildPredicates(cb, countRoot, cond).toArray(new Predicate[0]));
-        Long total = em.createQuery(countQuery).getSingleResult();
-
+        Long total = count(cb, cond);
         if (total == 0) {
             return new PageImpl<>(List.of(), pageable, 0);
         }
 
-        // Data query
-        CriteriaQuery<License> dataQuery = cb.createQuery(License.class);
-        Root<License> dataRoot = dataQuery.from(License.class);
-        dataRoot.fetch("activations", JoinType.LEFT);
-        dataQuery.select(dataRoot).distinct(true);
-        dataQuery.where(buildPredicates(cb, dataRoot, cond).toArray(new Predicate[0]));
+        SummaryQuery summary = summaryQuery(cb);
+        Root<License> root = summary.root();
+        summary.query().where(buildPredicates(cb, root, cond).toArray(new Predicate[0]));
 
-        // Sorting
+        // Sorting (id를 마지막 정렬 키로 추가하여 페이지 간 순서 고정)
         List<Order> orders = new ArrayList<>();
         for (Sort.Order sortOrder : pageable.getSort()) {
-            Path<?> path = dataRoot.get(sortOrder.getProperty());
+            Path<?> path = root.get(sortOrder.getProperty());
             orders.add(sortOrder.isAscending() ? cb.asc(path) : cb.desc(path));
         }
         if (orders.isEmpty()) {
-            orders.add(cb.desc(dataRoot.get("createdAt")));
+            orders.add(cb.desc(root.get("createdAt")));
         }
-        dataQuery.orderBy(orders);
-
-        TypedQuery<License> typedQuery = em.createQuery(dataQuery);
-        typedQuery.setFirstResult((int) pageable.getOffset());
-        typedQuery.setMaxResults(pageable.getPageSize());
+        orders.add(cb.desc(root.get("id")));
+        summary.query().orderBy(orders);
 
-        List<LicenseSummaryView> content = typedQuery.getResultList().stream()
-                .map(LicenseSummaryView::from)
+        List<LicenseSummaryView> content = em.createQuery(summary.query())
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultStream()
+                .map(this::toSummaryView)
                 .toList();
 
         return new PageImpl<>(content, pageable, total);
     }
 
+    /**
+     * v1.1.3: keyset 페이징 - (createdAt, id) < 커서 조건으로 다음 size + 1건 조회 (OFFSET 없음).
+     */
+    @Override
+    public CursorPage<LicenseSummaryView> searchByCursor(LicenseSearchCond cond, String cursor,
+                                                         int size, boolean withTotal) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        SummaryQuery summary = summaryQuery(cb);
+        Path<Instant> createdAt = summary.root().get("createdAt");
+        Path<UUID> id = summary.root().get("id");
+
+        List<Predicate> predicates = buildPredicates(cb, summary.root(), cond);
+        if (cursor != null && !cursor.isBlank()) {
+            LicenseCursor after = LicenseCursor.decode(cursor);
+            predicates.add(cb.or(
+                    cb.lessThan(createdAt, after.createdAt()),
+                    cb.and(cb.equal(createdAt, after.createdAt()), cb.lessThan(id, after.id()))));
+        }
+        summary.query().where(predicates.toArray(new Predicate[0]));
+        summary.query().orderBy(cb.desc(createdAt), cb.desc(id));
+
+        List<Tuple> rows = em.createQuery(summary.query())
+                .setMaxResults(size + 1)
+                .getResultList();
+
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            Tuple last = rows.get(size - 1);
+            nextCursor = new LicenseCursor(last.get("createdAt", Instant.class), last.get("id", UUID.class)).encode();
+        }
+
+        List<LicenseSummaryView> content = rows.stream().map(this::toSummaryView).toList();
+        Long total = withTotal ? count(cb, cond) : null;
+        return new CursorPage<>(content, nextCursor, total);
+    }
+
+    /**
+     * v1.1.3: forward-only 스트림 (고정 fetch size, 읽기 전용 projection).
+     * 스칼라 projection이므로 행이 영속성 컨텍스트에 쌓이지 않아 건수와 무관하게 힙 사용량이 일정합니다.
+     */
+    @Override
+    public Stream<LicenseExportRow> streamForExport(LicenseSearchCond cond) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<License> root = query.from(License.class);
+        Join<License, Activation> activation = root.join("activations", JoinType.LEFT);
+
+        query.multiselect(
+                root.get("id"), root.get("licenseKey"), root.get("status"), root.get("licenseType"),
+                root.get("usageCategory"), root.get("ownerType"), root.get("ownerId"), root.get("productId"),
+                root.get("planId"), root.get("validFrom"), root.get("validUntil"), root.get("createdAt"),
+                activation.get("id"), activation.get("deviceFingerprint"), activation.get("status"),
+                activation.get("activatedAt"), activation.get("lastSeenAt"), activation.get("clientVersion"),
+                activation.get("clientOs"));
+        query.where(buildPredicates(cb, root, cond).toArray(new Predicate[0]));
+        query.orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")), cb.asc(activation.get("activatedAt")));
+
+        return em.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(row -> new LicenseExportRow(
+                        new LicenseExportView(
+                                row.get(0, UUID.class),
+                                row.get(1, String.class),
+                                row.get(2, LicenseStatus.class),
+                                row.get(3, LicenseType.class),
+                                row.get(4, UsageCategory.class),
+                                row.get(5, OwnerType.class),
+                                row.get(6, UUID.class),
+                                row.get(7, UUID.class),
+                                row.get(8, UUID.class),
+                                row.get(9, Instant.class),
+                                row.get(10, Instant.class),
+                                row.get(11, Instant.class),
+                                List.of()),
+                        row.get(12) == null ? null : new ActivationView(
+                                row.get(12, UUID.class),
+                                row.get(13, String.class),
+                                row.get(14, ActivationStatus.class),
+                                row.get(15, Instant.class),
+                                row.get(16, Instant.class),
+                                row.get(17, String.class),
+                                row.get(18, String.class))));
+    }
+
+    /**
+     * v1.1.3: planName과 usedActivations(ACTIVE/STALE)를 스칼라 서브쿼리로 함께 조회하여
+     * 라이선스 수와 무관하게 쿼리 한 번으로 응답을 구성합니다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<MyLicenseView> findMyLicenses(UUID userId, UUID productId, LicenseStatus status) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<License> root = query.from(License.class);
+
+        Subquery<String> planName = query.subquery(String.class);
+        Root<LicensePlan> plan = planName.from(LicensePlan.class);
+        planName.select(plan.get("name"))
+                .where(cb.equal(plan.get("id"), root.get("planId")));
+
+        Subquery<Long> usedActivations = query.subquery(Long.class);
+        Root<Activation> activation = usedActivations.from(Activation.class);
+        usedActivations.select(cb.count(activation))
+                .where(cb.equal(activation.get("license").get("id"), root.get("id")),
+                        activation.get("status").in(ActivationStatus.ACTIVE, ActivationStatus.STALE));
+
+        query.multiselect(
+                root.get("id").alias("id"),
+                root.get("productId").alias("productId"),
+                planName.alias("planName"),
+                root.get("licenseType").alias("licenseType"),
+                root.get("status").alias("status"),
+                root.get("validFrom").alias("validFrom"),
+                root.get("validUntil").alias("validUntil"),
+                root.get("policySnapshot").alias("policySnapshot"),
+                usedActivations.alias("usedActivations"));
+        query.where(myLicensePredicates(cb, root, userId, productId, status));
+        query.orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+
+        return em.createQuery(query).getResultStream()
+                .map(row -> {
+                    Long used = row.get("usedActivations", Long.class);
+                    return MyLicenseView.of(
+                            row.get("id", UUID.class),
+                            row.get("productId", UUID.class),
+                            row.get("planName", String.class),
+                            row.get("licenseType", LicenseType.class),
+                            row.get("status", LicenseStatus.class),
+                            row.get("validFrom", Instant.class),
+                            row.get("validUntil", Instant.class),
+                            (Map<String, Object>) row.get("policySnapshot"),
+                            used != null ? used : 0L);
+                })
+                .toList();
+    }
+
+    /**
+     * v1.1.3: findMyLicenses 응답에 나타나는 값의 출처(라이선스/플랜 updatedAt, 사용 중 활성화 수)만 라이선스별로 조회.
+     */
+    @Override
+    public MyLicensesVersion findMyLicensesVersion(UUID userId, UUID productId, LicenseStatus status) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<License> root = query.from(License.class);
+
+        Subquery<Instant> planUpdatedAt = query.subquery(Instant.class);
+        Root<LicensePlan> plan = planUpdatedAt.from(LicensePlan.class);
+        planUpdatedAt.select(plan.get("updatedAt"))
+                .where(cb.equal(plan.get("id"), root.get("planId")));
+
+        Subquery<Long> usedActivations = query.subquery(Long.class);
+        Root<Activation> activation = usedActivations.from(Activation.class);
+        usedActivations.select(cb.count(activation))
+                .where(cb.equal(activation.get("license").get("id"), root.get("id")),
+                        activation.get("status").in(ActivationStatus.ACTIVE, ActivationStatus.STALE));
+
+        query.multiselect(
+                root.get("id"),
+                root.get("updatedAt"),
+                planUpdatedAt,
+                usedActivations);
+        query.where(myLicensePredicates(cb, root, userId, productId, status));
+        query.orderBy(cb.asc(root.get("id")));
+
+        List<MyLicensesVersion.LicenseVersion> licenses = em.createQuery(query).getResultStream()
+                .map(row -> {
+                    Long used = row.get(3, Long.class);
+                    return new MyLicensesVersion.LicenseVersion(
+                            row.get(0, UUID.class),
+                            row.get(1, Instant.class),
+                            row.get(2, Instant.class),
+                            used != null ? used : 0L);
+                })
+                .toList();
+        return new MyLicensesVersion(licenses);
+    }
+
+    private Predicate[] myLicensePredicates(CriteriaBuilder cb, Root<License> root,
+                                            UUID userId, UUID productId, LicenseStatus status) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("ownerType"), OwnerType.USER));
+        predicates.add(cb.equal(root.get("ownerId"), userId));
+        if (productId != null) {
+            predicates.add(cb.equal(root.get("productId"), productId));
+        }
+        if (status != null) {
+            predicates.add(cb.equal(root.get("status"), status));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    private Long count(CriteriaBuilder cb, LicenseSearchCond cond) {
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<License> countRoot = countQuery.from(License.class);
+        countQuery.select(cb.count(countRoot));
+        countQuery.where(buildPredicates(cb, countRoot, cond).toArray(new Predicate[0]));
+        return em.createQuery(countQuery).getSingleResult();
+    }
+
+    private record SummaryQuery(CriteriaQuery<Tuple> query, Root<License> root) {
+    }
+
+    /**
+     * v1.1.3: 요약 projection 쿼리.
+     * usedActivations는 상관 서브쿼리 COUNT로 계산하여 활성화 행을 애플리케이션으로 가져오지 않습니다.
+     */
+    private SummaryQuery summaryQuery(CriteriaBuilder cb) {
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<License> root = query.from(License.class);
+
+        Subquery<Long> usedActivations = query.subquery(Long.class);
+        Root<Activation> activation = usedActivations.from(Activation.class);
+        usedActivations.select(cb.count(activation))
+                .where(cb.equal(activation.get("license").get("id"), root.get("id")),
+                        cb.equal(activation.get("status"), ActivationStatus.ACTIVE));
+
+        query.multiselect(
+                root.get("id").alias("id"),
+                root.get("licenseKey").alias("licenseKey"),
+                root.get("status").alias("status"),
+                root.get("licenseType").alias("licenseType"),
+                root.get("usageCategory").alias("usageCategory"),
+                root.get("ownerId").alias("ownerId"),
+                root.get("ownerType").alias("ownerType"),
+                root.get("productId").alias("productId"),
+                root.get("planId").alias("planId"),
+                root.get("validFrom").alias("validFrom"),
+                root.get("validUntil").alias("validUntil"),
+                root.get("policySnapshot").alias("policySnapshot"),
+                root.get("createdAt").alias("createdAt"),
+                usedActivations.alias("usedActivations"));
+        return new SummaryQuery(query, root);
+    }
+
+    @SuppressWarnings("unchecked")
+    private LicenseSummaryView toSummaryView(Tuple row) {
+        Long usedActivations = row.get("usedActivations", Long.class);
+        return LicenseSummaryView.of(
+                row.get("id", UUID.class),
+                row.get("licenseKey", String.class),
+                row.get("status", LicenseStatus.class),
+                row.get("licenseType", LicenseType.class),
+                row.get("usageCategory", UsageCategory.class),
+                row.get("ownerId", UUID.class),
+                row.get("ownerType", OwnerType.class),
+                row.get("productId", UUID.class),
+                row.get("planId", UUID.class),
+                row.get("validFrom", Instant.class),
+                row.get("validUntil", Instant.class),
+                (Map<String, Object>) row.get("policySnapshot"),
+                usedActivations != null ? usedActivations : 0L
+        );
+    }
+
     private List<Predicate> buildPredicates(CriteriaBuilder cb, Root<License> root, LicenseSearchCond cond) {
         List<Predicate> predicates = new ArrayList<>();
 
@@ -146,8 +417,13 @@ public class LicenseQueryRepositoryImpl implements LicenseQueryRepository {
         if (cond.usageCategory() != null) {
             predicates.add(cb.equal(root.get("usageCategory"), cond.usageCategory()));
         }
-        if (cond.licenseKey() != null && !cond.licenseKey().isBlank()) {
-            predicates.add(cb.like(root.get("licenseKey"), "%" + cond.licenseKey() + "%"));
+        // v1.1.3: 원본 license_key LIKE '%..%'는 인덱스를 쓰지 못하므로 정규화 컬럼으로 검색
+        String normalizedKey = License.normalizeLicenseKey(cond.licenseKey());
+        if (normalizedKey != null && !normalizedKey.isEmpty()) {
+            boolean prefix = cond.licenseKeyMatch() == LicenseSearchCond.LicenseKeyMatch.PREFIX
+                    || normalizedKey.length() < MIN_TRIGRAM_SEARCH_LENGTH;
+            predicates.add(cb.like(root.get("licenseKeyNormalized"),
+                    prefix ? normalizedKey + "%" : "%" + normalizedKey + "%"));
         }
 
         return predicates;
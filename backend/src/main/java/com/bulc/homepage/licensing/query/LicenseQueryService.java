@@ -1,6 +1,8 @@
 package com.bulc.homepage.licensing.query;
 
+import com.bulc.homepage.licensing.domain.LicenseStatus;
 import com.bulc.homepage.licensing.domain.OwnerType;
+import com.bulc.homepage.licensing.dto.MyLicenseView;
 import com.bulc.homepage.licensing.query.view.LicenseDetailView;
 import com.bulc.homepage.licensing.query.view.LicenseSummaryView;
 import org.springframework.data.domain.Page;
@@ -49,4 +51,37 @@ public interface LicenseQueryService {
      * @return 검색 결과
      */
     Page<LicenseSummaryView> search(LicenseSearchCond cond, Pageable pageable);
+
+    /**
+     * v1.1.3: 조건 기반 라이선스 검색 (keyset 페이징)
+     *
+     * 페이지 깊이와 무관하게 일정한 비용으로 조회합니다 (OFFSET 없음).
+     *
+     * @param cond      검색 조건
+     * @param cursor    이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size      페이지 크기
+     * @param withTotal 전체 건수 계산 여부
+     * @return 검색 결과
+     * @throws com.bulc.homepage.licensing.exception.LicenseException INVALID_REQUEST - 잘못된 cursor
+     */
+    CursorPage<LicenseSummaryView> searchByCursor(LicenseSearchCond cond, String cursor, int size, boolean withTotal);
+
+    /**
+     * v1.1.3: 내 라이선스 목록 조회 (단일 쿼리)
+     *
+     * @param userId    사용자 ID
+     * @param productId 제품 필터 (null이면 전체)
+     * @param status    상태 필터 (null이면 전체)
+     * @return 라이선스 목록 (최신순)
+     */
+    List<MyLicenseView> getMyLicenses(UUID userId, UUID productId, LicenseStatus status);
+
+    /**
+     * v1.1.3: 내 라이선스 목록의 ETag
+     *
+     * 같은 조건의 라이선스/활성화 updatedAt 최댓값과 건수로 계산하며, 목록 본문을 조회하지 않습니다.
+     *
+     * @return 따옴표를 포함한 strong ETag
+     */
+    String getMyLicensesETag(UUID userId, UUID productId, LicenseStatus status);
 }
@@ -1,6 +1,8 @@
 package com.bulc.homepage.licensing.query;
 
+import com.bulc.homepage.licensing.domain.LicenseStatus;
 import com.bulc.homepage.licensing.domain.OwnerType;
+import com.bulc.homepage.licensing.dto.MyLicenseView;
 import com.bulc.homepage.licensing.exception.LicenseException;
 import com.bulc.homepage.licensing.exception.LicenseException.ErrorCode;
 import com.bulc.homepage.licensing.query.view.LicenseDetailView;
@@ -42,4 +44,20 @@ public class LicenseQueryServiceImpl implements LicenseQueryService {
     public Page<LicenseSummaryView> search(LicenseSearchCond cond, Pageable pageable) {
         return queryRepository.search(cond, pageable);
     }
+
+    @Override
+    public CursorPage<LicenseSummaryView> searchByCursor(LicenseSearchCond cond, String cursor,
+                                                         int size, boolean withTotal) {
+        return queryRepository.searchByCursor(cond, cursor, size, withTotal);
+    }
+
+    @Override
+    public List<MyLicenseView> getMyLicenses(UUID userId, UUID productId, LicenseStatus status) {
+        return queryRepository.findMyLicenses(userId, productId, status);
+    }
+
+    @Override
+    public String getMyLicensesETag(UUID userId, UUID productId, LicenseStatus status) {
+        return queryRepository.findMyLicensesVersion(userId, productId, status).etag();
+    }
 }
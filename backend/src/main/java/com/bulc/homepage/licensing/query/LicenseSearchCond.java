@@ -9,6 +9,8 @@ import java.util.UUID;
 
 /**
  * 라이선스 검색 조건
+ *
+ * v1.1.3: licenseKey는 정규화(License.normalizeLicenseKey) 후 licenseKeyMatch 방식으로 비교합니다 (기본 CONTAINS).
  */
 public record LicenseSearchCond(
         OwnerType ownerType,
@@ -18,8 +20,17 @@ public record LicenseSearchCond(
         LicenseStatus status,
         LicenseType licenseType,
         UsageCategory usageCategory,
-        String licenseKey
+        String licenseKey,
+        LicenseKeyMatch licenseKeyMatch
 ) {
+    /**
+     * 라이선스 키 부분 검색 방식.
+     * - PREFIX: 정규화 키 앞부분 일치 (license_key_normalized btree 인덱스 range scan)
+     * - CONTAINS: 정규화 키 어디든 일치 (PostgreSQL pg_trgm GIN 인덱스).
+     *   trigram을 만들 수 없는 3자 미만 검색어는 PREFIX로 처리합니다.
+     */
+    public enum LicenseKeyMatch { PREFIX, CONTAINS }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -33,6 +44,7 @@ public record LicenseSearchCond(
         private LicenseType licenseType;
         private UsageCategory usageCategory;
         private String licenseKey;
+        private LicenseKeyMatch licenseKeyMatch;
 
         public Builder ownerType(OwnerType ownerType) {
             this.ownerType = ownerType;
@@ -74,10 +86,16 @@ public record LicenseSearchCond(
             return this;
         }
 
+        public Builder licenseKeyMatch(LicenseKeyMatch licenseKeyMatch) {
+            this.licenseKeyMatch = licenseKeyMatch;
+            return this;
+        }
+
         public LicenseSearchCond build() {
             return new LicenseSearchCond(
                     ownerType, ownerId, productId, planId,
-                    status, licenseType, usageCategory, licenseKey
+                    status, licenseType, usageCategory, licenseKey,
+                    licenseKeyMatch != null ? licenseKeyMatch : LicenseKeyMatch.CONTAINS
             );
         }
     }
@@ -0,0 +1,12 @@
+package com.bulc.homepage.licensing.query.view;
+
+/**
+ * v1.1.3: export 스트림의 한 행 (라이선스 LEFT JOIN 활성화).
+ *
+ * @param license    라이선스 컬럼 (activations는 비어 있음)
+ * @param activation 활성화 컬럼 (활성화가 없는 라이선스면 null)
+ */
+public record LicenseExportRow(
+        LicenseExportView license,
+        ActivationView activation
+) {}
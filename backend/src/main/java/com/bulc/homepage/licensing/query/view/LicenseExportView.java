@@ -0,0 +1,31 @@
+package com.bulc.homepage.licensing.query.view;
+
+import com.bulc.homepage.licensing.domain.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * v1.1.3: 관리자 export용 라이선스 (NDJSON 한 줄).
+ */
+public record LicenseExportView(
+        UUID id,
+        String licenseKey,
+        LicenseStatus status,
+        LicenseType licenseType,
+        UsageCategory usageCategory,
+        OwnerType ownerType,
+        UUID ownerId,
+        UUID productId,
+        UUID planId,
+        Instant validFrom,
+        Instant validUntil,
+        Instant createdAt,
+        List<ActivationView> activations
+) {
+    public LicenseExportView withActivations(List<ActivationView> activations) {
+        return new LicenseExportView(id, licenseKey, status, licenseType, usageCategory, ownerType, ownerId,
+                productId, planId, validFrom, validUntil, createdAt, activations);
+    }
+}
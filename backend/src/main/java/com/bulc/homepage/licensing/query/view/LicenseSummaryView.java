@@ -21,26 +21,30 @@ public record LicenseSummaryView(
         int maxActivations,
         int usedActivations
 ) {
-    public static LicenseSummaryView from(License license) {
-        int maxActivations = getMaxActivations(license.getPolicySnapshot());
-        int usedActivations = (int) license.getActivations().stream()
-                .filter(a -> a.getStatus() == ActivationStatus.ACTIVE)
-                .count();
-
+    /**
+     * v1.1.3: projection 조회 결과로 생성 (엔티티 로드 없음).
+     *
+     * @param usedActivations ACTIVE 상태 활성화 수 (DB 집계)
+     */
+    public static LicenseSummaryView of(UUID id, String licenseKey, LicenseStatus status,
+                                        LicenseType licenseType, UsageCategory usageCategory,
+                                        UUID ownerId, OwnerType ownerType, UUID productId, UUID planId,
+                                        Instant validFrom, Instant validUntil,
+                                        Map<String, Object> policySnapshot, long usedActivations) {
         return new LicenseSummaryView(
-                license.getId(),
-                license.getLicenseKey(),
-                license.getStatus(),
-                license.getLicenseType(),
-                license.getUsageCategory(),
-                license.getOwnerId(),
-                license.getOwnerType(),
-                license.getProductId(),
-                license.getPlanId(),
-                license.getValidFrom(),
-                license.getValidUntil(),
-                maxActivations,
-                usedActivations
+                id,
+                licenseKey,
+                status,
+                licenseType,
+                usageCategory,
+                ownerId,
+                ownerType,
+                productId,
+                planId,
+                validFrom,
+                validUntil,
+                getMaxActivations(policySnapshot),
+                (int) usedActivations
         );
     }
 
@@ -0,0 +1,55 @@
+package com.bulc.homepage.licensing.query.view;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * v1.1.3: 내 라이선스 목록의 버전 (ETag 계산용).
+ *
+ * 응답에 나타나는 값의 출처만으로 구성합니다: 라이선스별 updatedAt, 플랜 updatedAt(planName),
+ * 사용 중 활성화 수(ACTIVE/STALE - usedActivations).
+ * 활성화 updatedAt은 heartbeat마다 바뀌므로 사용하지 않습니다 (응답이 같아도 ETag가 바뀌어 304를 못 씀).
+ * 라이선스별 행을 id 순으로 넣어 필터에서 빠지거나 삭제된 행, 라이선스 간 활성화 이동도 ETag 변경으로 이어지게 합니다.
+ */
+public record MyLicensesVersion(List<LicenseVersion> licenses) {
+
+    /**
+     * 라이선스 한 건의 버전 구성 요소.
+     */
+    public record LicenseVersion(UUID id, Instant updatedAt, Instant planUpdatedAt, long usedActivations) {
+    }
+
+    public long licenseCount() {
+        return licenses.size();
+    }
+
+    public long usedActivations() {
+        return licenses.stream().mapToLong(LicenseVersion::usedActivations).sum();
+    }
+
+    public String etag() {
+        StringBuilder source = new StringBuilder();
+        for (LicenseVersion license : licenses) {
+            source.append(license.id()).append(':')
+                    .append(epochNanos(license.updatedAt())).append(':')
+                    .append(epochNanos(license.planUpdatedAt())).append(':')
+                    .append(license.usedActivations()).append(';');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String epochNanos(Instant instant) {
+        return instant == null ? "-" : instant.getEpochSecond() + "." + instant.getNano();
+    }
+}
@@ -2,12 +2,14 @@ package com.bulc.homepage.licensing.repository;
 
 import com.bulc.homepage.licensing.domain.Activation;
 import com.bulc.homepage.licensing.domain.ActivationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,6 +31,22 @@ public interface ActivationRepository extends JpaRepository<Activation, UUID> {
      */
     Optional<Activation> findByLicenseIdAndDeviceFingerprint(UUID licenseId, String deviceFingerprint);
 
+    /**
+     * v1.1.3: 라이선스 + 여러 기기 조합으로 조회 (일괄 heartbeat).
+     */
+    List<Activation> findByLicenseIdAndDeviceFingerprintIn(UUID licenseId, Collection<String> deviceFingerprints);
+
+    /**
+     * v1.1.3: 검증 상태 조회 (1회 조회).
+     * 요청 기기의 활성화 + ACTIVE/STALE 활성화만 반환합니다.
+     * ACTIVE/STALE 행 수는 maxActivations로 제한되므로 비활성화/만료 이력이 많아도 결과가 작습니다.
+     * 세션 TTL 판단은 write-behind 버퍼 반영을 위해 호출 측에서 수행합니다.
+     */
+    @Query("SELECT a FROM Activation a WHERE a.license.id = :licenseId " +
+            "AND (a.deviceFingerprint = :deviceFingerprint OR a.status IN ('ACTIVE', 'STALE'))")
+    List<Activation> findValidationState(@Param("licenseId") UUID licenseId,
+                                         @Param("deviceFingerprint") String deviceFingerprint);
+
     /**
      * 라이선스의 활성 상태(ACTIVE, STALE) 활성화 수 조회.
      */
@@ -53,6 +71,54 @@ public interface ActivationRepository extends JpaRepository<Activation, UUID> {
     @Query("UPDATE Activation a SET a.status = 'STALE', a.updatedAt = :now WHERE a.status = 'ACTIVE' AND a.lastSeenAt < :threshold")
     int markStaleActivations(@Param("threshold") Instant threshold, @Param("now") Instant now);
 
+    /**
+     * 장기 미접속 활성화 ID 조회 (keyset 페이지네이션, 스위퍼 chunk용).
+     * @param afterId 이전 chunk의 마지막 ID (첫 chunk는 최소 UUID)
+     */
+    @Query("SELECT a.id FROM Activation a WHERE a.status = 'ACTIVE' AND a.lastSeenAt < :threshold " +
+            "AND a.id > :afterId ORDER BY a.id")
+    List<UUID> findStaleActivationIdsAfter(@Param("threshold") Instant threshold,
+                                           @Param("afterId") UUID afterId,
+                                           Pageable pageable);
+
+    /**
+     * 만료 임박 오프라인 토큰 보유 활성화 조회 (keyset 페이지네이션, 백그라운드 재서명용).
+     * 활성화는 관리 엔티티가 아닌 projection으로 반환하므로 dirty checking에 의한 전체 행 UPDATE가 발생하지 않습니다.
+     * 서명에 라이선스 정보가 필요하므로 license를 함께 로드합니다 (읽기 전용 트랜잭션에서 호출).
+     */
+    @Query("SELECT new com.bulc.homepage.licensing.repository.OfflineTokenRefreshTarget(" +
+            "a.id, a.deviceFingerprint, a.offlineToken, a.offlineTokenExpiresAt, l) " +
+            "FROM Activation a JOIN a.license l WHERE a.status = 'ACTIVE' " +
+            "AND a.offlineToken IS NOT NULL AND a.offlineTokenExpiresAt > :now " +
+            "AND a.offlineTokenExpiresAt < :refreshBefore AND a.id > :afterId ORDER BY a.id")
+    List<OfflineTokenRefreshTarget> findOfflineTokensDueForRefresh(@Param("now") Instant now,
+                                                                   @Param("refreshBefore") Instant refreshBefore,
+                                                                   @Param("afterId") UUID afterId,
+                                                                   Pageable pageable);
+
+    /**
+     * 재서명한 오프라인 토큰 저장 (조건부 UPDATE).
+     * 조회 이후 비활성화되었거나 토큰이 무효화/교체된 경우 갱신하지 않습니다 (0 반환).
+     */
+    @Modifying
+    @Query("UPDATE Activation a SET a.offlineToken = :token, a.offlineTokenExpiresAt = :expiresAt, a.updatedAt = :now " +
+            "WHERE a.id = :activationId AND a.status = 'ACTIVE' AND a.offlineToken = :previousToken")
+    int replaceOfflineToken(@Param("activationId") UUID activationId,
+                            @Param("previousToken") String previousToken,
+                            @Param("token") String token,
+                            @Param("expiresAt") Instant expiresAt,
+                            @Param("now") Instant now);
+
+    /**
+     * 지정된 활성화 중 장기 미접속 건만 STALE 처리 (스위퍼 chunk용).
+     */
+    @Modifying
+    @Query("UPDATE Activation a SET a.status = 'STALE', a.updatedAt = :now " +
+            "WHERE a.id IN :ids AND a.status = 'ACTIVE' AND a.lastSeenAt < :threshold")
+    int markStaleActivationsByIds(@Param("ids") List<UUID> ids,
+                                  @Param("threshold") Instant threshold,
+                                  @Param("now") Instant now);
+
     /**
      * 라이선스 만료 시 관련 활성화 일괄 EXPIRED 처리.
      */
@@ -93,8 +159,58 @@ public interface ActivationRepository extends JpaRepository<Activation, UUID> {
             "AND a.status = 'ACTIVE' AND a.lastSeenAt >= :threshold")
     long countActiveSessions(@Param("licenseId") UUID licenseId, @Param("threshold") Instant threshold);
 
+    /**
+     * v1.1.3: Heartbeat fast path - 락 없이 조건부 UPDATE 한 번으로 세션 갱신.
+     * 해당 기기가 ACTIVE이고 세션 TTL 이내인 경우에만 갱신되며,
+     * 갱신된 행이 없으면(0 반환) 호출자는 비관적 락 경로로 폴백해야 합니다.
+     * @param threshold 세션 만료 기준 시간 (now - sessionTtlMinutes)
+     * @return 갱신된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("UPDATE Activation a SET a.lastSeenAt = :now, a.clientVersion = :clientVersion, " +
+            "a.clientOs = :clientOs, a.updatedAt = :now " +
+            "WHERE a.license.id = :licenseId AND a.deviceFingerprint = :deviceFingerprint " +
+            "AND a.status = 'ACTIVE' AND a.lastSeenAt >= :threshold")
+    int touchActiveSession(@Param("licenseId") UUID licenseId,
+                           @Param("deviceFingerprint") String deviceFingerprint,
+                           @Param("clientVersion") String clientVersion,
+                           @Param("clientOs") String clientOs,
+                           @Param("now") Instant now,
+                           @Param("threshold") Instant threshold);
+
+    /**
+     * v1.1.3: Heartbeat fast path - 락 없이 읽은 활성화가 아직 ACTIVE인지 조건부 UPDATE로 확인.
+     * 행 락을 잡으므로 커밋 전인 비활성화가 있으면 그 커밋을 기다린 뒤 다시 평가합니다.
+     * lastSeenAt/클라이언트 정보는 write-behind 버퍼로 반영하고 여기서는 updatedAt만 갱신합니다.
+     * @return 갱신된 행 수 (0이면 호출자는 비관적 락 경로로 폴백)
+     */
+    @Modifying
+    @Query("UPDATE Activation a SET a.updatedAt = :now WHERE a.id = :activationId AND a.status = 'ACTIVE'")
+    int confirmActive(@Param("activationId") UUID activationId, @Param("now") Instant now);
+
     /**
      * 여러 활성화 ID로 조회 (force deactivate에서 사용).
      */
     List<Activation> findByIdIn(List<UUID> ids);
+
+    /**
+     * v1.1.3: 오프라인 토큰이 발급된 활성화 조회 (오프라인 토큰 일괄 무효화).
+     * 관리 엔티티가 아닌 projection으로 반환하므로 dirty checking에 의한 전체 행 UPDATE가 발생하지 않습니다.
+     */
+    @Query("SELECT new com.bulc.homepage.licensing.repository.OfflineTokenRevocationTarget(" +
+            "a.license.id, a.id, a.deviceFingerprint, a.offlineToken, a.offlineTokenExpiresAt) " +
+            "FROM Activation a WHERE a.license.id IN :licenseIds AND a.offlineToken IS NOT NULL")
+    List<OfflineTokenRevocationTarget> findOfflineTokensByLicenseIds(@Param("licenseIds") Collection<UUID> licenseIds);
+
+    /**
+     * v1.1.3: 조회한 오프라인 토큰이 그대로일 때만 제거 (조건부 UPDATE).
+     * 토큰 컬럼만 갱신하므로 동시에 커밋된 상태 변경/heartbeat 기록을 덮어쓰지 않습니다.
+     * 그 사이 토큰이 교체/제거되었으면 0을 반환합니다.
+     */
+    @Modifying
+    @Query("UPDATE Activation a SET a.offlineToken = null, a.offlineTokenExpiresAt = null, a.updatedAt = :now " +
+            "WHERE a.id = :activationId AND a.offlineToken = :token")
+    int revokeOfflineTokenIfUnchanged(@Param("activationId") UUID activationId,
+                                      @Param("token") String token,
+                                      @Param("now") Instant now);
 }
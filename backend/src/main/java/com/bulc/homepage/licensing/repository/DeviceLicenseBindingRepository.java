@@ -0,0 +1,48 @@
+package com.bulc.homepage.licensing.repository;
+
+import com.bulc.homepage.licensing.domain.DeviceLicenseBinding;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface DeviceLicenseBindingRepository extends JpaRepository<DeviceLicenseBinding, UUID> {
+
+    /**
+     * 사용자/제품/기기에 바인딩된 라이선스 ID 조회 (락 없음).
+     */
+    @Query("SELECT b.licenseId FROM DeviceLicenseBinding b " +
+            "WHERE b.ownerId = :ownerId AND b.productId = :productId AND b.deviceFingerprint = :deviceFingerprint")
+    Optional<UUID> findLicenseId(@Param("ownerId") UUID ownerId,
+                                 @Param("productId") UUID productId,
+                                 @Param("deviceFingerprint") String deviceFingerprint);
+
+    /**
+     * 기존 바인딩의 라이선스 변경.
+     * @return 바인딩이 없으면 0
+     */
+    @Modifying
+    @Query("UPDATE DeviceLicenseBinding b SET b.licenseId = :licenseId, b.updatedAt = :now " +
+            "WHERE b.ownerId = :ownerId AND b.productId = :productId AND b.deviceFingerprint = :deviceFingerprint")
+    int updateLicenseId(@Param("ownerId") UUID ownerId,
+                        @Param("productId") UUID productId,
+                        @Param("deviceFingerprint") String deviceFingerprint,
+                        @Param("licenseId") UUID licenseId,
+                        @Param("now") Instant now);
+
+    /**
+     * 바인딩 삭제. licenseId가 일치하는 경우에만 삭제하여 다른 요청이 갱신한 바인딩은 유지합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM DeviceLicenseBinding b " +
+            "WHERE b.ownerId = :ownerId AND b.productId = :productId " +
+            "AND b.deviceFingerprint = :deviceFingerprint AND b.licenseId = :licenseId")
+    int deleteBinding(@Param("ownerId") UUID ownerId,
+                      @Param("productId") UUID productId,
+                      @Param("deviceFingerprint") String deviceFingerprint,
+                      @Param("licenseId") UUID licenseId);
+}
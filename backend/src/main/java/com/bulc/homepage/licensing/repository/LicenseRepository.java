@@ -4,6 +4,7 @@ import com.bulc.homepage.licensing.domain.License;
 import com.bulc.homepage.licensing.domain.LicenseStatus;
 import com.bulc.homepage.licensing.domain.OwnerType;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -71,6 +72,16 @@ public interface LicenseRepository extends JpaRepository<License, UUID> {
     @Query("SELECT l FROM License l WHERE l.status = 'ACTIVE' AND l.validUntil IS NOT NULL AND l.validUntil < :threshold")
     List<License> findExpiredLicenses(@Param("threshold") java.time.Instant threshold);
 
+    /**
+     * 유효기간이 지난 ACTIVE/EXPIRED_GRACE 라이선스 조회 (keyset 페이지네이션, 스위퍼 chunk용).
+     * @param afterId 이전 chunk의 마지막 ID (첫 chunk는 최소 UUID)
+     */
+    @Query("SELECT l FROM License l WHERE l.status IN ('ACTIVE', 'EXPIRED_GRACE') " +
+            "AND l.validUntil IS NOT NULL AND l.validUntil < :now AND l.id > :afterId ORDER BY l.id")
+    List<License> findExpiredLicensesAfter(@Param("now") java.time.Instant now,
+                                           @Param("afterId") UUID afterId,
+                                           Pageable pageable);
+
     // ==========================================
     // v1.1 추가 메서드
     // ==========================================
@@ -100,19 +111,6 @@ public interface LicenseRepository extends JpaRepository<License, UUID> {
             @Param("statuses") List<LicenseStatus> statuses
     );
 
-    /**
-     * 사용자의 라이선스 목록 조회 (특정 제품 필터 가능).
-     */
-    @Query("SELECT l FROM License l WHERE l.ownerType = 'USER' AND l.ownerId = :userId " +
-            "AND (:productId IS NULL OR l.productId = :productId) " +
-            "AND (:status IS NULL OR l.status = :status) " +
-            "ORDER BY l.createdAt DESC")
-    List<License> findByUserIdWithFilters(
-            @Param("userId") UUID userId,
-            @Param("productId") UUID productId,
-            @Param("status") LicenseStatus status
-    );
-
     /**
      * 사용자의 모든 라이선스 조회 (특정 상태, 제품 필터 없음).
      * 복수 라이선스 선택 로직에서 사용.
@@ -0,0 +1,18 @@
+package com.bulc.homepage.licensing.repository;
+
+import com.bulc.homepage.licensing.domain.License;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 백그라운드 재서명 대상 활성화 projection.
+ * offlineToken은 조건부 UPDATE에서 조회 이후 토큰이 바뀌지 않았는지 확인하는 데 사용합니다.
+ */
+public record OfflineTokenRefreshTarget(
+        UUID activationId,
+        String deviceFingerprint,
+        String offlineToken,
+        Instant offlineTokenExpiresAt,
+        License license
+) {}
@@ -0,0 +1,16 @@
+package com.bulc.homepage.licensing.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 일괄 무효화 대상 오프라인 토큰 projection.
+ * offlineToken은 조건부 UPDATE에서 조회 이후 토큰이 바뀌지 않았는지 확인하는 데 사용합니다.
+ */
+public record OfflineTokenRevocationTarget(
+        UUID licenseId,
+        UUID activationId,
+        String deviceFingerprint,
+        String offlineToken,
+        Instant offlineTokenExpiresAt
+) {}
@@ -0,0 +1,26 @@
+package com.bulc.homepage.licensing.repository;
+
+import com.bulc.homepage.licensing.domain.RevokedOfflineToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface RevokedOfflineTokenRepository extends JpaRepository<RevokedOfflineToken, UUID> {
+
+    /**
+     * (revokedAt, id) 커서 이후 무효화 항목 중 토큰이 아직 만료되지 않은 항목 조회 (오름차순 keyset 페이지네이션).
+     */
+    @Query("SELECT r FROM RevokedOfflineToken r " +
+            "WHERE (r.revokedAt > :afterRevokedAt OR (r.revokedAt = :afterRevokedAt AND r.id > :afterId)) " +
+            "AND (r.tokenExpiresAt IS NULL OR r.tokenExpiresAt > :now) " +
+            "ORDER BY r.revokedAt, r.id")
+    List<RevokedOfflineToken> findRevokedAfter(@Param("afterRevokedAt") Instant afterRevokedAt,
+                                               @Param("afterId") UUID afterId,
+                                               @Param("now") Instant now,
+                                               Pageable pageable);
+}
@@ -0,0 +1,202 @@
+package com.bulc.homepage.licensing.scheduler;
+
+import com.bulc.homepage.licensing.domain.License;
+import com.bulc.homepage.licensing.domain.LicenseStatus;
+import com.bulc.homepage.licensing.repository.ActivationRepository;
+import com.bulc.homepage.licensing.repository.LicenseRepository;
+import com.bulc.homepage.licensing.service.ActivationHeartbeatBuffer;
+import com.bulc.homepage.service.SchedulerLeaseService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 라이선스/활성화 정리 스위퍼.
+ *
+ * 요청 경로(performValidation)가 매번 만료 세션을 걸러내는 대신,
+ * 주기적으로 상태를 정리하여 licenses / license_activations의 작업 집합을 작게 유지합니다.
+ *
+ * 작업:
+ * - stale-activations: stale-after-days 이상 미접속한 ACTIVE 활성화 → STALE
+ * - expired-licenses: 유효기간이 지난 라이선스 → EXPIRED_GRACE / EXPIRED_HARD,
+ *   EXPIRED_HARD가 되면 관련 활성화도 EXPIRED 처리
+ *
+ * 처리 방식:
+ * - id 기준 keyset 페이지네이션으로 chunk-size 단위 처리, chunk마다 별도 트랜잭션으로 커밋
+ * - scheduler_leases 행 기반 리더 lease를 획득한 노드만 실행 (다중 노드 안전), chunk마다 lease 연장
+ * - licensing.sweeper.rows / licensing.sweeper.duration 메트릭 기록
+ */
+@Slf4j
+@Component
+public class LicenseSweeper {
+
+    static final String LEASE_NAME = "license-sweeper";
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final LicenseRepository licenseRepository;
+    private final ActivationRepository activationRepository;
+    private final ActivationHeartbeatBuffer heartbeatBuffer;
+    private final SchedulerLeaseService leaseService;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int chunkSize;
+    private final int staleAfterDays;
+    private final Duration leaseDuration;
+
+    public LicenseSweeper(LicenseRepository licenseRepository,
+                          ActivationRepository activationRepository,
+                          ActivationHeartbeatBuffer heartbeatBuffer,
+                          SchedulerLeaseService leaseService,
+                          MeterRegistry meterRegistry,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${bulc.licensing.sweeper.enabled:true}") boolean enabled,
+                          @Value("${bulc.licensing.sweeper.chunk-size:500}") int chunkSize,
+                          @Value("${bulc.licensing.sweeper.stale-after-days:30}") int staleAfterDays,
+                          @Value("${bulc.licensing.sweeper.lease-seconds:300}") long leaseSeconds) {
+        this.licenseRepository = licenseRepository;
+        this.activationRepository = activationRepository;
+        this.heartbeatBuffer = heartbeatBuffer;
+        this.leaseService = leaseService;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.staleAfterDays = staleAfterDays;
+        this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${bulc.licensing.sweeper.interval-ms:300000}",
+               initialDelayString = "${bulc.licensing.sweeper.initial-delay-ms:60000}")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+        if (!leaseService.tryAcquire(LEASE_NAME, leaseDuration)) {
+            log.debug("LicenseSweeper: 다른 노드가 실행 중이므로 건너뜁니다");
+            return;
+        }
+        try {
+            // 버퍼에 남은 heartbeat을 먼저 반영해야 방금 접속한 기기가 STALE로 처리되지 않음
+            heartbeatBuffer.flush();
+            Instant now = Instant.now();
+            sweepStaleActivations(now, true);
+            sweepExpiredLicenses(now, true);
+        } catch (Exception e) {
+            log.error("LicenseSweeper: 실행 실패", e);
+        } finally {
+            leaseService.release(LEASE_NAME);
+        }
+    }
+
+    /**
+     * 장기 미접속 활성화 STALE 처리.
+     * 직접 호출(테스트/관리 기능)은 lease를 획득/연장하지 않습니다.
+     * @return STALE로 전환된 활성화 수
+     */
+    public int sweepStaleActivations(Instant now) {
+        return sweepStaleActivations(now, false);
+    }
+
+    private int sweepStaleActivations(Instant now, boolean renewLease) {
+        Instant threshold = now.minus(staleAfterDays, ChronoUnit.DAYS);
+        return runChunked("stale-activations", renewLease, afterId -> {
+            List<UUID> ids = activationRepository.findStaleActivationIdsAfter(
+                    threshold, afterId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                return null;
+            }
+            int updated = activationRepository.markStaleActivationsByIds(ids, threshold, now);
+            return new ChunkResult(ids.get(ids.size() - 1), ids.size(), updated);
+        });
+    }
+
+    /**
+     * 유효기간이 지난 라이선스 상태 반영.
+     * 직접 호출(테스트/관리 기능)은 lease를 획득/연장하지 않습니다.
+     * @return 상태가 변경된 라이선스 수
+     */
+    public int sweepExpiredLicenses(Instant now) {
+        return sweepExpiredLicenses(now, false);
+    }
+
+    private int sweepExpiredLicenses(Instant now, boolean renewLease) {
+        return runChunked("expired-licenses", renewLease, afterId -> {
+            List<License> licenses = licenseRepository.findExpiredLicensesAfter(
+                    now, afterId, PageRequest.of(0, chunkSize));
+            if (licenses.isEmpty()) {
+                return null;
+            }
+            int changed = 0;
+            for (License license : licenses) {
+                if (license.applyExpiry(now)) {
+                    changed++;
+                    if (license.getStatus() == LicenseStatus.EXPIRED_HARD) {
+                        activationRepository.expireActivationsByLicenseId(license.getId(), now);
+                    }
+                }
+            }
+            return new ChunkResult(licenses.get(licenses.size() - 1).getId(), licenses.size(), changed);
+        });
+    }
+
+    /**
+     * chunk 단위 반복 실행. chunk마다 트랜잭션을 커밋하고,
+     * lease를 보유한 스케줄 실행(renewLease)이면 lease를 연장합니다.
+     * chunkProcessor는 처리할 행이 없으면 null을 반환합니다.
+     */
+    private int runChunked(String job, boolean renewLease, Function<UUID, ChunkResult> chunkProcessor) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long startedAt = System.nanoTime();
+        UUID afterId = MIN_UUID;
+        int total = 0;
+        int chunks = 0;
+
+        while (true) {
+            UUID cursor = afterId;
+            ChunkResult result = transactionTemplate.execute(status -> chunkProcessor.apply(cursor));
+            if (result == null) {
+                break;
+            }
+            chunks++;
+            total += result.updated();
+            meterRegistry.counter("licensing.sweeper.rows", "job", job).increment(result.updated());
+
+            if (result.scanned() < chunkSize) {
+                break;
+            }
+            afterId = result.lastId();
+
+            // 장시간 실행 시 lease 만료로 다른 노드와 겹치지 않도록 연장 (잃었으면 중단)
+            if (renewLease && !leaseService.tryAcquire(LEASE_NAME, leaseDuration)) {
+                log.warn("LicenseSweeper[{}]: lease를 잃어 중단합니다 ({} chunk 처리)", job, chunks);
+                break;
+            }
+        }
+
+        sample.stop(meterRegistry.timer("licensing.sweeper.duration", "job", job));
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        if (total > 0) {
+            log.info("LicenseSweeper[{}]: {}건 처리 ({} chunk, {}ms, {} rows/s)",
+                    job, total, chunks, elapsedMs, total * 1000L / elapsedMs);
+        }
+        return total;
+    }
+
+    private record ChunkResult(UUID lastId, int scanned, int updated) {}
+}
@@ -0,0 +1,167 @@
+package com.bulc.homepage.licensing.scheduler;
+
+import com.bulc.homepage.licensing.domain.License;
+import com.bulc.homepage.licensing.domain.LicenseStatus;
+import com.bulc.homepage.licensing.repository.ActivationRepository;
+import com.bulc.homepage.licensing.repository.OfflineTokenRefreshTarget;
+import com.bulc.homepage.licensing.service.OfflineTokenSigner;
+import com.bulc.homepage.service.SchedulerLeaseService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 오프라인 토큰 백그라운드 재서명.
+ *
+ * 요청 경로는 저장된 오프라인 토큰이 유효하면 서명 없이 그대로 반환하므로,
+ * 만료가 refresh-window 이내로 다가온 토큰은 이 작업이 미리 재서명하여 저장합니다.
+ * 토큰 수명이 짧은 정책은 수명의 절반이 지났을 때부터 재서명 대상이 됩니다 (매 실행마다 재서명 방지).
+ *
+ * - ACTIVE / EXPIRED_GRACE 라이선스의 ACTIVE 활성화만 대상
+ * - id 기준 keyset 페이지네이션으로 batch-size 단위 처리
+ * - 대상은 읽기 전용 트랜잭션에서 projection으로 조회하고, 서명은 트랜잭션 밖에서 수행
+ * - 저장은 활성화별 조건부 UPDATE (ACTIVE이고 토큰이 조회 시점 그대로인 경우만)로,
+ *   서명 도중 커밋된 비활성화/토큰 무효화를 덮어쓰지 않음
+ * - scheduler_leases 행 기반 lease를 획득한 노드만 실행
+ */
+@Slf4j
+@Component
+public class OfflineTokenRefresher {
+
+    static final String LEASE_NAME = "offline-token-refresher";
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final ActivationRepository activationRepository;
+    private final OfflineTokenSigner offlineTokenSigner;
+    private final SchedulerLeaseService leaseService;
+    private final TransactionTemplate readTransactionTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final Duration refreshWindow;
+    private final int batchSize;
+    private final Duration leaseDuration;
+
+    public OfflineTokenRefresher(ActivationRepository activationRepository,
+                                 OfflineTokenSigner offlineTokenSigner,
+                                 SchedulerLeaseService leaseService,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${bulc.licensing.offline-token.refresher.enabled:true}") boolean enabled,
+                                 @Value("${bulc.licensing.offline-token.refresh-window-hours:72}") long refreshWindowHours,
+                                 @Value("${bulc.licensing.offline-token.refresher.batch-size:200}") int batchSize,
+                                 @Value("${bulc.licensing.offline-token.refresher.lease-seconds:300}") long leaseSeconds) {
+        this.activationRepository = activationRepository;
+        this.offlineTokenSigner = offlineTokenSigner;
+        this.leaseService = leaseService;
+        this.readTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readTransactionTemplate.setReadOnly(true);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.refreshWindow = Duration.ofHours(refreshWindowHours);
+        this.batchSize = batchSize;
+        this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${bulc.licensing.offline-token.refresher.interval-ms:600000}",
+               initialDelayString = "${bulc.licensing.offline-token.refresher.initial-delay-ms:90000}")
+    public void scheduledRefresh() {
+        if (!enabled) {
+            return;
+        }
+        if (!leaseService.tryAcquire(LEASE_NAME, leaseDuration)) {
+            log.debug("OfflineTokenRefresher: 다른 노드가 실행 중이므로 건너뜁니다");
+            return;
+        }
+        try {
+            refresh(Instant.now(), true);
+        } catch (Exception e) {
+            log.error("OfflineTokenRefresher: 실행 실패", e);
+        } finally {
+            leaseService.release(LEASE_NAME);
+        }
+    }
+
+    /**
+     * 만료 임박 오프라인 토큰 재서명.
+     * 직접 호출(테스트/관리 기능)은 lease를 획득/연장하지 않습니다.
+     * @return 재서명되어 저장된 토큰 수 (조회 이후 비활성화/무효화된 건은 제외)
+     */
+    public int refresh(Instant now) {
+        return refresh(now, false);
+    }
+
+    /**
+     * @param renewLease lease를 획득한 스케줄 실행이면 true - batch마다 lease 연장
+     */
+    private int refresh(Instant now, boolean renewLease) {
+        Instant refreshBefore = now.plus(refreshWindow);
+        UUID afterId = MIN_UUID;
+        int refreshed = 0;
+
+        while (true) {
+            UUID cursor = afterId;
+            List<OfflineTokenRefreshTarget> targets = readTransactionTemplate.execute(status ->
+                    activationRepository.findOfflineTokensDueForRefresh(
+                            now, refreshBefore, cursor, PageRequest.of(0, batchSize)));
+
+            List<SignedTarget> signedTargets = new ArrayList<>();
+            for (OfflineTokenRefreshTarget target : targets) {
+                if (shouldRefresh(target, now)) {
+                    signedTargets.add(new SignedTarget(target, offlineTokenSigner.sign(
+                            target.license(), target.deviceFingerprint(), now, OfflineTokenSigner.Source.REFRESH)));
+                }
+            }
+
+            int stored = signedTargets.isEmpty() ? 0 : transactionTemplate.execute(status -> {
+                int updated = 0;
+                for (SignedTarget signedTarget : signedTargets) {
+                    updated += activationRepository.replaceOfflineToken(
+                            signedTarget.target().activationId(), signedTarget.target().offlineToken(),
+                            signedTarget.token().token(), signedTarget.token().expiresAt(), now);
+                }
+                return updated;
+            });
+
+            refreshed += stored;
+            if (targets.size() < batchSize) {
+                break;
+            }
+            afterId = targets.get(targets.size() - 1).activationId();
+
+            if (renewLease && !leaseService.tryAcquire(LEASE_NAME, leaseDuration)) {
+                log.warn("OfflineTokenRefresher: lease를 잃어 중단합니다");
+                break;
+            }
+        }
+
+        if (refreshed > 0) {
+            log.info("OfflineTokenRefresher: 오프라인 토큰 {}건 재서명", refreshed);
+        }
+        return refreshed;
+    }
+
+    private boolean shouldRefresh(OfflineTokenRefreshTarget target, Instant now) {
+        License license = target.license();
+        LicenseStatus status = license.calculateEffectiveStatus(now);
+        if (status != LicenseStatus.ACTIVE && status != LicenseStatus.EXPIRED_GRACE) {
+            return false;
+        }
+        // 토큰 수명이 refresh-window보다 짧으면 수명의 절반 이하로 남았을 때 재서명
+        Duration lifetime = Duration.ofDays(license.getPolicy().allowOfflineDays());
+        Duration window = lifetime.dividedBy(2).compareTo(refreshWindow) < 0 ? lifetime.dividedBy(2) : refreshWindow;
+        return target.offlineTokenExpiresAt().isBefore(now.plus(window));
+    }
+
+    private record SignedTarget(OfflineTokenRefreshTarget target, OfflineTokenSigner.SignedOfflineToken token) {}
+}
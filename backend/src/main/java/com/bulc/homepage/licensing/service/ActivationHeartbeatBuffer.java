@@ -0,0 +1,190 @@
+package com.bulc.homepage.licensing.service;
+
+import com.bulc.homepage.licensing.domain.Activation;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * v1.1.3: Activation lastSeenAt write-behind 버퍼.
+ *
+ * Heartbeat 트래픽의 대부분은 last_seen_at을 몇 분 앞으로 옮기는 것뿐이므로,
+ * 요청마다 License를 로드/저장하는 대신 activationId별 최신 값만 메모리에 모아 두었다가
+ * 주기적으로 하나의 JDBC batch UPDATE로 반영합니다.
+ *
+ * - 같은 기기의 heartbeat은 최신 lastSeenAt/clientVersion/clientOs/lastIp 하나로 병합 (coalescing)
+ * - flush-interval-ms 주기로 flush, 종료 시 남은 항목 drain
+ * - last_seen_at은 앞으로만 이동 (WHERE last_seen_at < ?) - 엔티티 경로의 더 최신 값을 덮어쓰지 않음
+ * - ACTIVE 행만 갱신 (AND status = 'ACTIVE') - 기록 이후 비활성화/STALE 처리된 행은 건드리지 않음
+ * - 아직 flush되지 않은 lastSeenAt은 effectiveLastSeenAt()으로 세션 TTL 판단에 반영
+ * - 일괄 heartbeat(recordAll)은 버퍼 비활성화 시에도 하나의 JDBC batch UPDATE로 반영
+ */
+@Slf4j
+@Component
+public class ActivationHeartbeatBuffer {
+
+    private static final String FLUSH_SQL =
+            "UPDATE license_activations " +
+            "SET last_seen_at = ?, client_version = ?, client_os = ?, last_ip = COALESCE(?, last_ip), updated_at = ? " +
+            "WHERE id = ? AND status = 'ACTIVE' AND last_seen_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final Map<UUID, PendingHeartbeat> pending = new ConcurrentHashMap<>();
+
+    public ActivationHeartbeatBuffer(
+            JdbcTemplate jdbcTemplate,
+            @Value("${bulc.licensing.heartbeat-buffer.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Heartbeat 기록.
+     *
+     * @return 버퍼에 기록되었으면 true, 버퍼가 비활성화되어 호출자가 직접 갱신해야 하면 false
+     */
+    public boolean record(UUID activationId, Instant lastSeenAt,
+                          String clientVersion, String clientOs, String lastIp) {
+        if (!enabled) {
+            return false;
+        }
+        PendingHeartbeat heartbeat = new PendingHeartbeat(lastSeenAt, clientVersion, clientOs, lastIp);
+        pending.merge(activationId, heartbeat, PendingHeartbeat::latest);
+        return true;
+    }
+
+    /**
+     * 여러 heartbeat 기록 (일괄 heartbeat).
+     * 버퍼가 비활성화된 경우 호출자의 트랜잭션 안에서 하나의 JDBC batch UPDATE로 즉시 반영합니다.
+     */
+    public void recordAll(List<HeartbeatUpdate> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        if (enabled) {
+            updates.forEach(u -> record(u.activationId(), u.lastSeenAt(), u.clientVersion(), u.clientOs(), u.lastIp()));
+            return;
+        }
+        write(updates.stream()
+                .map(u -> Map.entry(u.activationId(),
+                        new PendingHeartbeat(u.lastSeenAt(), u.clientVersion(), u.clientOs(), u.lastIp())))
+                .toList());
+    }
+
+    /**
+     * 아직 flush되지 않은 heartbeat을 반영한 lastSeenAt.
+     * 세션 TTL 판단은 DB 값 대신 이 값을 사용해야 합니다.
+     */
+    public Instant effectiveLastSeenAt(Activation activation) {
+        PendingHeartbeat heartbeat = activation.getId() != null ? pending.get(activation.getId()) : null;
+        if (heartbeat == null || !heartbeat.lastSeenAt().isAfter(activation.getLastSeenAt())) {
+            return activation.getLastSeenAt();
+        }
+        return heartbeat.lastSeenAt();
+    }
+
+    @Scheduled(fixedDelayString = "${bulc.licensing.heartbeat-buffer.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 버퍼된 항목을 하나의 JDBC batch UPDATE로 반영.
+     *
+     * @return flush된 항목 수
+     */
+    public int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // 스냅샷 후 제거 - 그 사이 들어온 더 최신 값은 remove(key, value)가 실패하여 다음 주기에 반영
+        List<Map.Entry<UUID, PendingHeartbeat>> batch = new ArrayList<>();
+        for (Map.Entry<UUID, PendingHeartbeat> entry : pending.entrySet()) {
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            write(batch);
+        } catch (RuntimeException e) {
+            // 실패한 항목은 다시 버퍼에 넣어 다음 주기에 재시도 (그 사이 들어온 최신 값 우선)
+            batch.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(), PendingHeartbeat::latest));
+            log.warn("ActivationHeartbeatBuffer: flush 실패, {}건 재시도 예정: {}", batch.size(), e.getMessage());
+            return 0;
+        }
+
+        log.debug("ActivationHeartbeatBuffer: {}건 flush", batch.size());
+        return batch.size();
+    }
+
+    private void write(List<Map.Entry<UUID, PendingHeartbeat>> batch) {
+        Timestamp now = Timestamp.from(Instant.now());
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        jdbcTemplate.batchUpdate(FLUSH_SQL, batch, batch.size(), (ps, entry) -> {
+            PendingHeartbeat heartbeat = entry.getValue();
+            Timestamp lastSeenAt = Timestamp.from(heartbeat.lastSeenAt());
+            ps.setTimestamp(1, lastSeenAt, utc);
+            ps.setString(2, heartbeat.clientVersion());
+            ps.setString(3, heartbeat.clientOs());
+            ps.setString(4, heartbeat.lastIp());
+            ps.setTimestamp(5, now, utc);
+            ps.setObject(6, entry.getKey());
+            ps.setTimestamp(7, lastSeenAt, utc);
+        });
+    }
+
+    /**
+     * 종료 시 남은 항목 drain.
+     */
+    @PreDestroy
+    public void drain() {
+        int flushed = flush();
+        if (flushed > 0) {
+            log.info("ActivationHeartbeatBuffer: 종료 전 {}건 flush", flushed);
+        }
+    }
+
+    /**
+     * flush 대기 중인 항목 수.
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 일괄 heartbeat 항목.
+     */
+    public record HeartbeatUpdate(UUID activationId, Instant lastSeenAt,
+                                  String clientVersion, String clientOs, String lastIp) {
+    }
+
+    private record PendingHeartbeat(Instant lastSeenAt, String clientVersion, String clientOs, String lastIp) {
+
+        static PendingHeartbeat latest(PendingHeartbeat a, PendingHeartbeat b) {
+            return b.lastSeenAt().isBefore(a.lastSeenAt()) ? a : b;
+        }
+    }
+}
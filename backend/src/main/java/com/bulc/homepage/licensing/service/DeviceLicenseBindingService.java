@@ -0,0 +1,128 @@
+package com.bulc.homepage.licensing.service;
+
+import com.bulc.homepage.config.AsyncConfig;
+import com.bulc.homepage.licensing.domain.DeviceLicenseBinding;
+import com.bulc.homepage.licensing.repository.DeviceLicenseBindingRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+/**
+ * 기기-라이선스 바인딩 조회/기록 (v1.1.3).
+ *
+ * licenseId 없는 validate/heartbeat에서 (사용자, 제품, 기기) → 라이선스를 락 없이 결정합니다.
+ * 조회 결과는 Caffeine에 캐시하고 (바인딩 없음은 캐시하지 않음),
+ * 요청 스레드가 커넥션을 보유한 채 두 번째 커넥션을 기다리지 않도록 REQUIRES_NEW를 사용하지 않습니다.
+ *
+ * - bind: 검증 트랜잭션 커밋 후 deviceBindingExecutor에서 기록 (롤백된 선택은 기록하지 않음). 값이 같으면 쓰기 없음.
+ *   executor 큐가 가득 차면 기록을 생략하며, 다음 검증에서 다시 기록됨
+ * - unbind: 무효한 바인딩을 현재 트랜잭션에서 제거 (검증 트랜잭션이 롤백되면 삭제도 롤백)
+ * - 다른 노드의 변경은 TTL 이후 반영. 그 사이 이전 바인딩을 사용해도 라이선스 검증은 그대로 수행됨
+ */
+@Slf4j
+@Component
+public class DeviceLicenseBindingService {
+
+    private final DeviceLicenseBindingRepository bindingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor writer;
+    private final Cache<BindingKey, UUID> bindings;
+
+    public DeviceLicenseBindingService(DeviceLicenseBindingRepository bindingRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       @Qualifier(AsyncConfig.DEVICE_BINDING_EXECUTOR) Executor writer,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${bulc.licensing.device-binding.max-size:100000}") long maxSize,
+                                       @Value("${bulc.licensing.device-binding.ttl-seconds:1800}") long ttlSeconds) {
+        this.bindingRepository = bindingRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.writer = writer;
+        this.bindings = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, bindings, "licensing.deviceBinding");
+    }
+
+    /**
+     * 바인딩된 라이선스 ID 조회 (락 없음).
+     */
+    public Optional<UUID> resolve(UUID ownerId, UUID productId, String deviceFingerprint) {
+        BindingKey key = new BindingKey(ownerId, productId, deviceFingerprint);
+        return Optional.ofNullable(bindings.get(key, k ->
+                bindingRepository.findLicenseId(k.ownerId(), k.productId(), k.deviceFingerprint()).orElse(null)));
+    }
+
+    /**
+     * 검증에 성공한 라이선스를 바인딩으로 기록 (현재 트랜잭션 커밋 후, writer 스레드에서).
+     */
+    public void bind(UUID ownerId, UUID productId, String deviceFingerprint, UUID licenseId) {
+        BindingKey key = new BindingKey(ownerId, productId, deviceFingerprint);
+        if (licenseId.equals(bindings.getIfPresent(key))) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            writer.execute(() -> save(key, licenseId));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // afterCommit 시점에는 요청 커넥션이 아직 반납되지 않았으므로 writer 스레드로 넘김
+                writer.execute(() -> save(key, licenseId));
+            }
+        });
+    }
+
+    /**
+     * 무효해진 바인딩 제거 (해당 licenseId를 가리키는 경우에만, 현재 트랜잭션에 참여).
+     */
+    public void unbind(UUID ownerId, UUID productId, String deviceFingerprint, UUID licenseId) {
+        bindings.invalidate(new BindingKey(ownerId, productId, deviceFingerprint));
+        transactionTemplate.executeWithoutResult(status ->
+                bindingRepository.deleteBinding(ownerId, productId, deviceFingerprint, licenseId));
+    }
+
+    private void save(BindingKey key, UUID licenseId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> upsert(key, licenseId));
+            bindings.put(key, licenseId);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 키로 생성한 요청이 있음 - 다음 조회에서 DB 값을 사용
+            bindings.invalidate(key);
+        } catch (RuntimeException e) {
+            bindings.invalidate(key);
+            log.warn("DeviceLicenseBinding: 바인딩 기록 실패 (owner={}, product={})", key.ownerId(), key.productId(), e);
+        }
+    }
+
+    private void upsert(BindingKey key, UUID licenseId) {
+        int updated = bindingRepository.updateLicenseId(
+                key.ownerId(), key.productId(), key.deviceFingerprint(), licenseId, Instant.now());
+        if (updated == 0) {
+            bindingRepository.saveAndFlush(
+                    new DeviceLicenseBinding(key.ownerId(), key.productId(), key.deviceFingerprint(), licenseId));
+        }
+    }
+
+    private record BindingKey(UUID ownerId, UUID productId, String deviceFingerprint) {
+    }
+}
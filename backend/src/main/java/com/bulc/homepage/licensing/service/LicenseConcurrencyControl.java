@@ -0,0 +1,161 @@
+package com.bulc.homepage.licensing.service;
+
+import com.bulc.homepage.licensing.domain.License;
+import com.bulc.homepage.licensing.domain.LicenseStatus;
+import com.bulc.homepage.licensing.domain.OwnerType;
+import com.bulc.homepage.licensing.exception.LicenseException;
+import com.bulc.homepage.licensing.exception.LicenseException.ErrorCode;
+import com.bulc.homepage.licensing.repository.LicenseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 라이선스 쓰기 경로(validate / heartbeat / force-validate) 동시성 제어 (v1.1.3).
+ *
+ * 트랜잭션 경계와 licenses 행 잠금 방식을 배포별로 선택합니다 (bulc.licensing.concurrency.mode).
+ *
+ * - PESSIMISTIC (기본): SELECT ... FOR UPDATE로 트랜잭션 종료까지 행을 잠급니다.
+ * - OPTIMISTIC: 잠금 없이 조회하고, 변경 대상 라이선스의 @Version을 커밋 시 강제 증가시킵니다
+ *   (OPTIMISTIC_FORCE_INCREMENT). 활성화 행만 바뀌는 경우에도 버전이 증가하므로 같은 라이선스를
+ *   동시에 변경한 트랜잭션 중 하나만 커밋되어 최대 활성화/동시 세션 제한이 유지됩니다.
+ *   충돌한 트랜잭션은 지터를 둔 백오프 후 max-attempts까지 다시 실행합니다.
+ *
+ * 호출 시점에 이미 트랜잭션이 있으면 (상위 서비스, 통합 테스트) 그 트랜잭션에 참여하며 재시도하지 않습니다.
+ */
+@Slf4j
+@Component
+public class LicenseConcurrencyControl {
+
+    public enum Mode {
+        PESSIMISTIC,
+        OPTIMISTIC
+    }
+
+    private final LicenseRepository licenseRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Mode mode;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final Counter retryCounter;
+    private final Counter exhaustedCounter;
+
+    public LicenseConcurrencyControl(LicenseRepository licenseRepository,
+                                     EntityManager entityManager,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${bulc.licensing.concurrency.mode:PESSIMISTIC}") Mode mode,
+                                     @Value("${bulc.licensing.concurrency.max-attempts:3}") int maxAttempts,
+                                     @Value("${bulc.licensing.concurrency.backoff-ms:20}") long backoffMs) {
+        this.licenseRepository = licenseRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.mode = mode;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMs = Math.max(0, backoffMs);
+        this.retryCounter = Counter.builder("licensing.concurrency.retries")
+                .description("낙관적 락 충돌로 재시도한 트랜잭션 수")
+                .tag("mode", mode.name())
+                .register(meterRegistry);
+        this.exhaustedCounter = Counter.builder("licensing.concurrency.exhausted")
+                .description("재시도 횟수를 모두 소진하여 실패한 요청 수")
+                .tag("mode", mode.name())
+                .register(meterRegistry);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * 쓰기 트랜잭션 실행. OPTIMISTIC 모드에서는 버전 충돌 시 트랜잭션 전체를 다시 실행합니다.
+     *
+     * @throws LicenseException CONCURRENT_MODIFICATION - 재시도 횟수 소진
+     */
+    public <T> T execute(Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+        if (mode == Mode.PESSIMISTIC) {
+            return transactionTemplate.execute(status -> action.get());
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                if (attempt >= maxAttempts) {
+                    exhaustedCounter.increment();
+                    log.warn("LicenseConcurrencyControl: 버전 충돌 재시도 {}회 소진", maxAttempts);
+                    throw new LicenseException(ErrorCode.CONCURRENT_MODIFICATION);
+                }
+                retryCounter.increment();
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * 변경 대상 라이선스 조회.
+     * PESSIMISTIC: FOR UPDATE 잠금, OPTIMISTIC: 잠금 없이 조회 후 커밋 시 버전 증가 예약.
+     */
+    public Optional<License> findForUpdate(UUID licenseId) {
+        if (mode == Mode.PESSIMISTIC) {
+            return licenseRepository.findByIdWithLock(licenseId);
+        }
+        Optional<License> license = licenseRepository.findById(licenseId);
+        license.ifPresent(this::markForUpdate);
+        return license;
+    }
+
+    /**
+     * 사용자의 후보 라이선스 조회 (productId가 없으면 전체 제품).
+     * PESSIMISTIC: 후보 전체를 FOR UPDATE로 잠금, OPTIMISTIC: 잠금 없이 조회 (선택된 라이선스만 markForUpdate).
+     */
+    public List<License> findCandidatesForUpdate(UUID userId, UUID productId, List<LicenseStatus> statuses) {
+        if (mode == Mode.PESSIMISTIC) {
+            return productId != null
+                    ? licenseRepository.findByOwnerAndProductAndStatusInWithLock(OwnerType.USER, userId, productId, statuses)
+                    : licenseRepository.findByOwnerAndStatusInWithLock(OwnerType.USER, userId, statuses);
+        }
+        return productId != null
+                ? licenseRepository.findByOwnerAndProductAndStatusIn(OwnerType.USER, userId, productId, statuses)
+                : licenseRepository.findByOwnerAndStatusIn(OwnerType.USER, userId, statuses);
+    }
+
+    /**
+     * 후보 중 선택된 라이선스를 변경 대상으로 표시.
+     * OPTIMISTIC에서만 커밋 시 버전을 증가시킵니다 (PESSIMISTIC은 이미 잠겨 있음).
+     */
+    public void markForUpdate(License license) {
+        if (mode == Mode.OPTIMISTIC) {
+            entityManager.lock(license, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+        }
+    }
+
+    private void backoff(int attempt) {
+        long delay = backoffMs * attempt + ThreadLocalRandom.current().nextLong(backoffMs + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LicenseException(ErrorCode.CONCURRENT_MODIFICATION);
+        }
+    }
+}
@@ -11,6 +11,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.UUID;
@@ -25,6 +27,7 @@ import java.util.UUID;
 public class LicensePlanAdminService {
 
     private final LicensePlanRepository planRepository;
+    private final LicensingReferenceCache referenceCache;
 
     /**
      * 플랜 목록 조회.
@@ -120,6 +123,7 @@ public class LicensePlanAdminService {
 
         plan.setEntitlements(request.entitlements() != null ? request.entitlements() : List.of());
 
+        evictPlanAfterCommit(id);
         return LicensePlanResponse.fromEntity(plan);
     }
 
@@ -153,5 +157,23 @@ public class LicensePlanAdminService {
                 .orElseThrow(() -> new LicenseException(ErrorCode.PLAN_NOT_FOUND));
 
         plan.delete();
+        evictPlanAfterCommit(id);
+    }
+
+    /**
+     * 검증 경로의 플랜명 캐시 무효화.
+     * 커밋 전에 무효화하면 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후 실행합니다.
+     */
+    private void evictPlanAfterCommit(UUID planId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            referenceCache.evictPlan(planId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                referenceCache.evictPlan(planId);
+            }
+        });
     }
 }
@@ -1,6 +1,5 @@
 package com.bulc.homepage.licensing.service;
 
-import com.bulc.homepage.entity.Product;
 import com.bulc.homepage.licensing.domain.*;
 import com.bulc.homepage.licensing.dto.*;
 import com.bulc.homepage.licensing.dto.ValidationResponse.ActiveSessionInfo;
@@ -10,18 +9,13 @@ import com.bulc.homepage.licensing.exception.LicenseException.ErrorCode;
 import com.bulc.homepage.licensing.repository.ActivationRepository;
 import com.bulc.homepage.licensing.repository.LicensePlanRepository;
 import com.bulc.homepage.licensing.repository.LicenseRepository;
-import com.bulc.homepage.licensing.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
 import java.time.Instant;
-import java.util.Date;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -52,23 +46,34 @@ public class LicenseService {
     private final LicenseRepository licenseRepository;
     private final ActivationRepository activationRepository;
     private final LicensePlanRepository planRepository;
-    private final ProductRepository productRepository;
+    private final LicensingReferenceCache referenceCache;
     private final SessionTokenService sessionTokenService;
-    private final SecretKey offlineTokenKey;
+    private final ActivationHeartbeatBuffer heartbeatBuffer;
+    private final OfflineTokenSigner offlineTokenSigner;
+    private final DeviceLicenseBindingService deviceBindingService;
+    private final LicenseConcurrencyControl concurrencyControl;
+    private final OfflineTokenRevocationIndex revocationIndex;
 
     public LicenseService(LicenseRepository licenseRepository,
                           ActivationRepository activationRepository,
                           LicensePlanRepository planRepository,
-                          ProductRepository productRepository,
+                          LicensingReferenceCache referenceCache,
                           SessionTokenService sessionTokenService,
-                          @org.springframework.beans.factory.annotation.Value("${jwt.secret}") String jwtSecret) {
+                          ActivationHeartbeatBuffer heartbeatBuffer,
+                          OfflineTokenSigner offlineTokenSigner,
+                          DeviceLicenseBindingService deviceBindingService,
+                          LicenseConcurrencyControl concurrencyControl,
+                          OfflineTokenRevocationIndex revocationIndex) {
         this.licenseRepository = licenseRepository;
         this.activationRepository = activationRepository;
         this.planRepository = planRepository;
-        this.productRepository = productRepository;
+        this.referenceCache = referenceCache;
         this.sessionTokenService = sessionTokenService;
-        // JWT secret을 offline token 서명에도 사용 (별도 secret 추가 가능)
-        this.offlineTokenKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.heartbeatBuffer = heartbeatBuffer;
+        this.offlineTokenSigner = offlineTokenSigner;
+        this.deviceBindingService = deviceBindingService;
+        this.concurrencyControl = concurrencyControl;
+        this.revocationIndex = revocationIndex;
     }
 
     // ==========================================
@@ -335,11 +340,7 @@ public class LicenseService {
         );
 
         // 오프라인 토큰 발급 (필요시)
-        if (!activation.hasValidOfflineToken(now)) {
-            int offlineDays = getOfflineTokenValidDays(license);
-            String offlineToken = generateOfflineToken(license, activation);
-            activation.issueOfflineToken(offlineToken, now.plusSeconds(offlineDays * 24L * 60 * 60));
-        }
+        ensureOfflineToken(license, activation, now);
 
         licenseRepository.save(license);
 
@@ -382,19 +383,6 @@ public class LicenseService {
     // v1.1 계정 기반 API 메서드
     // ==========================================
 
-    /**
-     * 내 라이선스 목록 조회.
-     * 현재 로그인한 사용자의 라이선스 목록을 조회합니다.
-     *
-     * v1.1에서 추가됨.
-     */
-    public List<MyLicenseView> getMyLicenses(UUID userId, UUID productId, LicenseStatus status) {
-        List<License> licenses = licenseRepository.findByUserIdWithFilters(userId, productId, status);
-        return licenses.stream()
-                .map(MyLicenseView::from)
-                .collect(Collectors.toList());
-    }
-
     /**
      * 계정 기반 라이선스 검증 및 활성화.
      * Bearer token 인증된 사용자의 라이선스를 검증합니다.
@@ -408,11 +396,19 @@ public class LicenseService {
      *   - 후보 1개: 자동 선택
      *   - 후보 2개 이상: LICENSE_SELECTION_REQUIRED (409) + candidates 반환
      *
+     * v1.1.3: licenseId 미지정 시 기기 바인딩(이전에 선택된 라이선스)이 있으면
+     * 후보 전체 대신 바인딩된 라이선스 한 건만 락을 잡습니다. 검증 성공 시 바인딩을 기록합니다.
+     * v1.1.3: 트랜잭션/잠금 방식은 LicenseConcurrencyControl 모드를 따르며, sessionToken은 커밋 후 서명합니다.
+     *
      * @param userId 인증된 사용자 ID
      * @param request 검증 요청 (productId/productCode, deviceFingerprint 포함)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ValidationResponse validateAndActivateByUser(UUID userId, ValidateRequest request) {
+        return signSessionToken(concurrencyControl.execute(() -> doValidateAndActivateByUser(userId, request)));
+    }
+
+    private ValidationOutcome doValidateAndActivateByUser(UUID userId, ValidateRequest request) {
         // productId 확인 (productCode → productId 변환 지원)
         UUID productId = resolveProductId(request);
 
@@ -420,7 +416,7 @@ public class LicenseService {
 
         // licenseId가 지정된 경우: 해당 라이선스 직접 사용
         if (request.licenseId() != null) {
-            License license = licenseRepository.findByIdWithLock(request.licenseId())
+            License license = concurrencyControl.findForUpdate(request.licenseId())
                     .orElseThrow(() -> new LicenseException(ErrorCode.LICENSE_NOT_FOUND));
 
             // 소유자 검증
@@ -434,21 +430,25 @@ public class LicenseService {
                         "지정된 라이선스가 해당 제품에 속하지 않습니다");
             }
 
-            return performValidation(license, request.deviceFingerprint(),
-                    request.clientVersion(), request.clientOs(), null, true, request.deviceDisplayName());
+            return bindOnSuccess(userId, license, request.deviceFingerprint(),
+                    performValidation(license, request.deviceFingerprint(),
+                            request.clientVersion(), request.clientOs(), null, true, request.deviceDisplayName()));
         }
 
-        // licenseId 미지정: 후보 검색
-        List<License> candidates;
-        if (productId != null) {
-            candidates = licenseRepository.findByOwnerAndProductAndStatusInWithLock(
-                    OwnerType.USER, userId, productId, validStatuses);
-        } else {
-            // productId도 없으면 사용자의 모든 유효 라이선스 조회
-            candidates = licenseRepository.findByOwnerAndStatusInWithLock(
-                    OwnerType.USER, userId, validStatuses);
+        // v1.1.3: licenseId 미지정 + 기기 바인딩 존재: 바인딩된 라이선스만 락
+        Optional<UUID> boundLicenseId = resolveBoundLicenseId(userId, productId, request.deviceFingerprint());
+        if (boundLicenseId.isPresent()) {
+            Optional<License> boundLicense = lockBoundLicense(
+                    userId, productId, request.deviceFingerprint(), boundLicenseId.get());
+            if (boundLicense.isPresent()) {
+                return performValidation(boundLicense.get(), request.deviceFingerprint(),
+                        request.clientVersion(), request.clientOs(), null, true, request.deviceDisplayName());
+            }
         }
 
+        // licenseId 미지정: 후보 검색 (productId도 없으면 사용자의 모든 유효 라이선스 조회)
+        List<License> candidates = concurrencyControl.findCandidatesForUpdate(userId, productId, validStatuses);
+
         // 후보 0개: LICENSE_NOT_FOUND_FOR_PRODUCT (404)
         if (candidates.isEmpty()) {
             throw new LicenseException(ErrorCode.LICENSE_NOT_FOUND_FOR_PRODUCT);
@@ -456,13 +456,15 @@ public class LicenseService {
 
         // 후보 1개: 자동 선택
         if (candidates.size() == 1) {
-            return performValidation(candidates.get(0), request.deviceFingerprint(),
-                    request.clientVersion(), request.clientOs(), null, true, request.deviceDisplayName());
+            concurrencyControl.markForUpdate(candidates.get(0));
+            return bindOnSuccess(userId, candidates.get(0), request.deviceFingerprint(),
+                    performValidation(candidates.get(0), request.deviceFingerprint(),
+                            request.clientVersion(), request.clientOs(), null, true, request.deviceDisplayName()));
         }
 
         // 후보 2개 이상: LICENSE_SELECTION_REQUIRED (409) + candidates 반환
         List<LicenseCandidate> candidateList = buildCandidateList(candidates);
-        return ValidationResponse.selectionRequired(candidateList);
+        return ValidationOutcome.of(ValidationResponse.selectionRequired(candidateList));
     }
 
     /**
@@ -475,11 +477,20 @@ public class LicenseService {
      * - 이미 활성화된 기기에서만 호출 가능
      * - 새로운 기기 활성화는 불가
      *
+     * v1.1.3: licenseId가 지정되고 기기가 이미 ACTIVE인 경우 라이선스 락 없이 처리 (fast path).
+     * v1.1.3: licenseId 미지정 시 기기 바인딩이 있으면 바인딩된 라이선스로 fast path를 시도하고,
+     * 필요한 경우에도 바인딩된 라이선스 한 건만 락을 잡습니다.
+     * v1.1.3: 트랜잭션/잠금 방식은 LicenseConcurrencyControl 모드를 따르며, sessionToken은 커밋 후 서명합니다.
+     *
      * @param userId 인증된 사용자 ID
      * @param request 검증 요청 (productId/productCode, licenseId, deviceFingerprint 포함)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ValidationResponse heartbeatByUser(UUID userId, ValidateRequest request) {
+        return signSessionToken(concurrencyControl.execute(() -> doHeartbeatByUser(userId, request)));
+    }
+
+    private ValidationOutcome doHeartbeatByUser(UUID userId, ValidateRequest request) {
         // productId 확인 (productCode → productId 변환 지원)
         UUID productId = resolveProductId(request);
 
@@ -487,7 +498,13 @@ public class LicenseService {
 
         // licenseId가 지정된 경우: 해당 라이선스 직접 사용
         if (request.licenseId() != null) {
-            License license = licenseRepository.findByIdWithLock(request.licenseId())
+            // v1.1.3: 이미 ACTIVE인 기기는 라이선스 락 없이 갱신 (동시 세션 수 변화 없음)
+            Optional<ValidationOutcome> fastPathResponse = tryHeartbeatFastPath(userId, request);
+            if (fastPathResponse.isPresent()) {
+                return fastPathResponse.get();
+            }
+
+            License license = concurrencyControl.findForUpdate(request.licenseId())
                     .orElseThrow(() -> new LicenseException(ErrorCode.LICENSE_NOT_FOUND));
 
             // 소유자 검증
@@ -500,16 +517,26 @@ public class LicenseService {
                     request.clientVersion(), request.clientOs(), null, false);
         }
 
-        // licenseId 미지정: 후보 검색
-        List<License> candidates;
-        if (productId != null) {
-            candidates = licenseRepository.findByOwnerAndProductAndStatusInWithLock(
-                    OwnerType.USER, userId, productId, validStatuses);
-        } else {
-            candidates = licenseRepository.findByOwnerAndStatusInWithLock(
-                    OwnerType.USER, userId, validStatuses);
+        // v1.1.3: licenseId 미지정 + 기기 바인딩 존재: 락 없는 fast path → 바인딩된 라이선스만 락
+        Optional<UUID> boundLicenseId = resolveBoundLicenseId(userId, productId, request.deviceFingerprint());
+        if (boundLicenseId.isPresent()) {
+            Optional<ValidationOutcome> fastPathResponse =
+                    tryHeartbeatFastPath(userId, request.withLicenseId(boundLicenseId.get()));
+            if (fastPathResponse.isPresent()) {
+                return fastPathResponse.get();
+            }
+
+            Optional<License> boundLicense = lockBoundLicense(
+                    userId, productId, request.deviceFingerprint(), boundLicenseId.get());
+            if (boundLicense.isPresent()) {
+                return performValidation(boundLicense.get(), request.deviceFingerprint(),
+                        request.clientVersion(), request.clientOs(), null, false);
+            }
         }
 
+        // licenseId 미지정: 후보 검색
+        List<License> candidates = concurrencyControl.findCandidatesForUpdate(userId, productId, validStatuses);
+
         // 후보 0개: LICENSE_NOT_FOUND_FOR_PRODUCT (404)
         if (candidates.isEmpty()) {
             throw new LicenseException(ErrorCode.LICENSE_NOT_FOUND_FOR_PRODUCT);
@@ -517,13 +544,122 @@ public class LicenseService {
 
         // 후보 1개: 자동 선택
         if (candidates.size() == 1) {
-            return performValidation(candidates.get(0), request.deviceFingerprint(),
-                    request.clientVersion(), request.clientOs(), null, false);
+            concurrencyControl.markForUpdate(candidates.get(0));
+            return bindOnSuccess(userId, candidates.get(0), request.deviceFingerprint(),
+                    performValidation(candidates.get(0), request.deviceFingerprint(),
+                            request.clientVersion(), request.clientOs(), null, false));
         }
 
         // 후보 2개 이상: LICENSE_SELECTION_REQUIRED (409)
         List<LicenseCandidate> candidateList = buildCandidateList(candidates);
-        return ValidationResponse.selectionRequired(candidateList);
+        return ValidationOutcome.of(ValidationResponse.selectionRequired(candidateList));
+    }
+
+    /**
+     * v1.1.3: 일괄 Heartbeat (사이트 릴레이용).
+     *
+     * 여러 기기의 heartbeat을 한 요청으로 처리합니다. 인증/사용자 조회는 요청당 1회입니다.
+     *
+     * 처리 순서:
+     * 1. 항목을 licenseId별로 묶어 라이선스마다 한 번만 락 획득 (교착 방지를 위해 licenseId 순)
+     * 2. 라이선스별 기기 활성화를 한 번에 조회
+     * 3. 세션 TTL 이내의 ACTIVE 기기 중 저장된 오프라인 토큰을 재사용할 수 있는 기기는
+     *    lastSeenAt 갱신을 모아 하나의 JDBC batch로 반영 (write-behind 버퍼가 활성화된 경우 버퍼에 병합)
+     * 4. 그 외 기기(TTL 경과, 비활성화, 오프라인 토큰 재서명 필요 등)는 단건 heartbeat과 같은
+     *    performValidation 경로로 처리 - 항목마다 JDBC 또는 엔티티 중 한 경로로만 기록
+     * 5. 커밋 후 sessionToken을 병렬로 서명
+     *
+     * 항목별 실패(소유자 불일치, ACTIVATION_NOT_FOUND, SESSION_DEACTIVATED 등)는 예외 대신
+     * 해당 항목의 실패 응답으로 반환하며 나머지 항목은 계속 처리합니다.
+     *
+     * @param userId 인증된 사용자 ID
+     * @param request 일괄 heartbeat 요청 (항목별 licenseId 필수)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BatchHeartbeatResponse heartbeatBatchByUser(UUID userId, BatchHeartbeatRequest request) {
+        List<BatchHeartbeatRequest.Entry> entries = request.entries();
+        ValidationOutcome[] outcomes = concurrencyControl.execute(() -> doHeartbeatBatchByUser(userId, entries));
+
+        List<ValidationResponse> responses = Arrays.stream(outcomes)
+                .parallel()
+                .map(this::signSessionToken)
+                .toList();
+
+        List<BatchHeartbeatResponse.EntryResult> results = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            BatchHeartbeatRequest.Entry entry = entries.get(i);
+            results.add(new BatchHeartbeatResponse.EntryResult(
+                    entry.licenseId(), entry.deviceFingerprint(), responses.get(i)));
+        }
+        return new BatchHeartbeatResponse(results);
+    }
+
+    private ValidationOutcome[] doHeartbeatBatchByUser(UUID userId, List<BatchHeartbeatRequest.Entry> entries) {
+        ValidationOutcome[] outcomes = new ValidationOutcome[entries.size()];
+
+        // licenseId별 항목 인덱스 (락 순서 고정)
+        Map<UUID, List<Integer>> indexesByLicense = new TreeMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            indexesByLicense.computeIfAbsent(entries.get(i).licenseId(), k -> new ArrayList<>()).add(i);
+        }
+
+        Instant now = Instant.now();
+        List<ActivationHeartbeatBuffer.HeartbeatUpdate> updates = new ArrayList<>();
+
+        for (Map.Entry<UUID, List<Integer>> group : indexesByLicense.entrySet()) {
+            List<Integer> indexes = group.getValue();
+            License license = concurrencyControl.findForUpdate(group.getKey()).orElse(null);
+            if (license == null || !license.isOwnedBy(userId)) {
+                ErrorCode errorCode = license == null ? ErrorCode.LICENSE_NOT_FOUND : ErrorCode.ACCESS_DENIED;
+                indexes.forEach(i -> outcomes[i] = failureOutcome(errorCode, errorCode.getMessage()));
+                continue;
+            }
+
+            LicenseStatus effectiveStatus = license.calculateEffectiveStatus(now);
+            boolean usable = effectiveStatus == LicenseStatus.ACTIVE || effectiveStatus == LicenseStatus.EXPIRED_GRACE;
+            Instant sessionThreshold = now.minusSeconds(license.getSessionTtlMinutes() * 60L);
+
+            Map<String, Activation> activationsByDevice = new HashMap<>();
+            if (usable) {
+                Set<String> fingerprints = indexes.stream()
+                        .map(i -> entries.get(i).deviceFingerprint())
+                        .collect(Collectors.toSet());
+                activationRepository.findByLicenseIdAndDeviceFingerprintIn(license.getId(), fingerprints)
+                        .forEach(a -> activationsByDevice.put(a.getDeviceFingerprint(), a));
+            }
+
+            for (int i : indexes) {
+                BatchHeartbeatRequest.Entry entry = entries.get(i);
+                Activation activation = activationsByDevice.get(entry.deviceFingerprint());
+
+                // 이미 활성 세션이고 저장된 오프라인 토큰을 재사용할 수 있는 기기: 동시 세션 수 변화 없음 → lastSeenAt만 일괄 갱신
+                // (엔티티는 변경하지 않음 - 변경하면 커밋 시 flush가 JDBC로 갱신한 lastSeenAt/클라이언트 정보를 덮어씀)
+                if (activation != null && isActiveSession(activation, sessionThreshold)
+                        && hasReusableOfflineToken(activation, now)) {
+                    offlineTokenSigner.recordReuse();
+                    updates.add(new ActivationHeartbeatBuffer.HeartbeatUpdate(
+                            activation.getId(), now, entry.clientVersion(), entry.clientOs(), null));
+                    outcomes[i] = successOutcome(license, effectiveStatus, extractEntitlements(license),
+                            entry.deviceFingerprint(), activation);
+                    continue;
+                }
+
+                // 그 외 (토큰 재서명 필요 포함): 단건 heartbeat과 같은 엔티티 검증 경로 (이미 락을 잡은 상태)
+                try {
+                    outcomes[i] = performValidation(license, entry.deviceFingerprint(),
+                            entry.clientVersion(), entry.clientOs(), null, false);
+                } catch (LicenseException e) {
+                    outcomes[i] = failureOutcome(e.getErrorCode(), e.getMessage());
+                }
+            }
+        }
+
+        heartbeatBuffer.recordAll(updates);
+        return outcomes;
+    }
+
+    private ValidationOutcome failureOutcome(ErrorCode errorCode, String message) {
+        return ValidationOutcome.of(ValidationResponse.failure(errorCode.name(), message));
     }
 
     // ==========================================
@@ -542,14 +678,19 @@ public class LicenseService {
      * 3. 대상 세션들 비활성화 (FORCE_VALIDATE 사유)
      * 4. 새 세션 활성화
      * 5. 동시 세션 수 재검증 (race condition 방지)
+     * 6. (v1.1.3) 커밋 후 sessionToken 서명
      *
      * @param userId 인증된 사용자 ID
      * @param request 강제 검증 요청 (licenseId, deactivateActivationIds 포함)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ValidationResponse forceValidateByUser(UUID userId, ForceValidateRequest request) {
-        // 비관적 락으로 라이선스 조회
-        License license = licenseRepository.findByIdWithLock(request.licenseId())
+        return signSessionToken(concurrencyControl.execute(() -> doForceValidateByUser(userId, request)));
+    }
+
+    private ValidationOutcome doForceValidateByUser(UUID userId, ForceValidateRequest request) {
+        // 변경 대상 라이선스 조회 (PESSIMISTIC: FOR UPDATE, OPTIMISTIC: 커밋 시 버전 검증)
+        License license = concurrencyControl.findForUpdate(request.licenseId())
                 .orElseThrow(() -> new LicenseException(ErrorCode.LICENSE_NOT_FOUND));
 
         // 소유자 검증
@@ -582,36 +723,28 @@ public class LicenseService {
         int sessionTtlMinutes = license.getSessionTtlMinutes();
         Instant sessionThreshold = now.minusSeconds(sessionTtlMinutes * 60L);
 
-        // 동시 세션 수 재검증
-        long remainingActiveCount = activationRepository.countActiveSessions(license.getId(), sessionThreshold);
+        // 동시 세션 수 재검증 (write-behind 버퍼의 미반영 heartbeat 포함)
+        ValidationState state = loadValidationState(license, request.deviceFingerprint(), sessionThreshold);
+        List<Activation> activeSessions = state.activeSessions();
+        long remainingActiveCount = activeSessions.size();
 
         // 본인이 이미 활성 세션이 있는 경우 제외
-        boolean hasSelfActiveSession = license.getActivations().stream()
-                .anyMatch(a -> a.getDeviceFingerprint().equals(request.deviceFingerprint())
-                        && a.getStatus() == ActivationStatus.ACTIVE
-                        && !a.getLastSeenAt().isBefore(sessionThreshold));
+        boolean hasSelfActiveSession = activeSessions.stream()
+                .anyMatch(a -> a.getDeviceFingerprint().equals(request.deviceFingerprint()));
 
         if (!hasSelfActiveSession && remainingActiveCount >= license.getMaxConcurrentSessions()) {
             // Race condition 발생: 다른 기기가 먼저 활성화됨
-            List<Activation> activeSessions = activationRepository.findActiveSessions(
-                    license.getId(), sessionThreshold);
             List<ActiveSessionInfo> sessionInfoList = activeSessions.stream()
-                    .map(a -> new ActiveSessionInfo(
-                            a.getId(),
-                            a.getDeviceDisplayName(),
-                            maskFingerprint(a.getDeviceFingerprint()),
-                            a.getLastSeenAt(),
-                            a.getClientOs(),
-                            a.getClientVersion()
-                    ))
+                    .map(this::toActiveSessionInfo)
                     .collect(Collectors.toList());
 
-            return ValidationResponse.concurrentSessionLimitExceeded(
-                    license.getId(), sessionInfoList, license.getMaxConcurrentSessions());
+            return ValidationOutcome.of(ValidationResponse.concurrentSessionLimitExceeded(
+                    license.getId(), sessionInfoList, license.getMaxConcurrentSessions()));
         }
 
         // 새 세션 활성화
         Activation newActivation = license.addActivation(
+                state.deviceActivation(),
                 request.deviceFingerprint(),
                 request.clientVersion(),
                 request.clientOs(),
@@ -620,31 +753,17 @@ public class LicenseService {
         );
 
         // 오프라인 토큰 발급
-        if (!newActivation.hasValidOfflineToken(now)) {
-            int offlineDays = getOfflineTokenValidDays(license);
-            String offlineToken = generateOfflineToken(license, newActivation);
-            newActivation.issueOfflineToken(offlineToken, now.plusSeconds(offlineDays * 24L * 60 * 60));
-        }
+        ensureOfflineToken(license, newActivation, now);
 
         licenseRepository.save(license);
 
         LicenseStatus effectiveStatus = license.calculateEffectiveStatus(now);
         List<String> entitlements = extractEntitlements(license);
 
-        // v1.1.2: sessionToken 생성 (RS256 전용, null 가능 - dev에서 키 미설정 시)
-        String productCode = resolveProductCode(license.getProductId());
-        SessionTokenService.SessionToken sessionToken = sessionTokenService.generateSessionToken(
-                license.getId(), productCode, request.deviceFingerprint(), entitlements);
+        // v1.1.3: 강제 활성화로 선택된 라이선스를 기기 바인딩으로 기록
+        deviceBindingService.bind(userId, license.getProductId(), request.deviceFingerprint(), license.getId());
 
-        return ValidationResponse.success(
-                license.getId(),
-                effectiveStatus,
-                license.getValidUntil(),
-                entitlements,
-                sessionToken != null ? sessionToken.token() : null,
-                newActivation.getOfflineToken(),
-                newActivation.getOfflineTokenExpiresAt()
-        );
+        return successOutcome(license, effectiveStatus, entitlements, request.deviceFingerprint(), newActivation);
     }
 
     /**
@@ -683,12 +802,110 @@ public class LicenseService {
         return LicenseResponse.from(license);
     }
 
+    /**
+     * v1.1.3: (사용자, 제품, 기기) 바인딩 조회 (락 없음). productId가 없으면 바인딩을 사용하지 않습니다.
+     */
+    private Optional<UUID> resolveBoundLicenseId(UUID userId, UUID productId, String deviceFingerprint) {
+        if (productId == null) {
+            return Optional.empty();
+        }
+        return deviceBindingService.resolve(userId, productId, deviceFingerprint);
+    }
+
+    /**
+     * v1.1.3: 바인딩된 라이선스 한 건만 락을 잡고 조회.
+     * 소유자/제품이 다르거나 더 이상 유효하지 않으면 바인딩을 제거하고 empty 반환 (후보 검색으로 진행).
+     */
+    private Optional<License> lockBoundLicense(UUID userId, UUID productId, String deviceFingerprint,
+                                               UUID boundLicenseId) {
+        Instant now = Instant.now();
+        Optional<License> license = concurrencyControl.findForUpdate(boundLicenseId)
+                .filter(l -> l.isOwnedBy(userId) && productId.equals(l.getProductId()))
+                .filter(l -> {
+                    LicenseStatus effectiveStatus = l.calculateEffectiveStatus(now);
+                    return effectiveStatus == LicenseStatus.ACTIVE || effectiveStatus == LicenseStatus.EXPIRED_GRACE;
+                });
+        if (license.isEmpty()) {
+            deviceBindingService.unbind(userId, productId, deviceFingerprint, boundLicenseId);
+        }
+        return license;
+    }
+
+    /**
+     * v1.1.3: 검증에 성공한 라이선스를 기기 바인딩으로 기록 (커밋 후).
+     */
+    private ValidationOutcome bindOnSuccess(UUID userId, License license, String deviceFingerprint,
+                                            ValidationOutcome outcome) {
+        if (outcome.response().valid()) {
+            deviceBindingService.bind(userId, license.getProductId(), deviceFingerprint, license.getId());
+        }
+        return outcome;
+    }
+
+    /**
+     * v1.1.3: Heartbeat fast path.
+     *
+     * 이미 ACTIVE이고 세션 TTL 이내인 기기의 heartbeat은 동시 세션 수를 바꾸지 않으므로
+     * licenses 행에 PESSIMISTIC_WRITE 락을 잡지 않고 처리합니다.
+     * 락 없이 읽은 ACTIVE 상태는 응답 전에 단일 행 조건부 UPDATE(WHERE status = 'ACTIVE')로 확인하므로,
+     * 그 사이 커밋된 비활성화에 성공 응답/sessionToken을 내주지 않습니다.
+     * lastSeenAt/클라이언트 정보는 ActivationHeartbeatBuffer에 기록되며, 버퍼가 비활성화된 경우
+     * 같은 조건부 UPDATE에서 함께 갱신합니다. 같은 라이선스의 여러 기기 heartbeat이 서로를 직렬화하지 않습니다.
+     *
+     * 다음 경우에는 Optional.empty()를 반환하며, 호출자는 락 기반 performValidation으로 폴백합니다:
+     * - 라이선스가 없거나 소유자가 아닌 경우 (예외 처리는 락 경로에 위임)
+     * - 라이선스 유효 상태가 ACTIVE/EXPIRED_GRACE가 아닌 경우
+     * - 해당 기기 활성화가 없거나, 비활성화되었거나, 세션 TTL이 지난 경우
+     * - 조회 이후 비활성화되어 조건부 UPDATE가 0건인 경우
+     * - 저장된 오프라인 토큰이 없거나, 만료되었거나, 무효화된 경우
+     *   (fast path는 activation 엔티티를 수정하지 않음 - 락 없이 전체 행을 덮어쓰면
+     *   동시에 커밋된 비활성화를 되돌릴 수 있으므로 재서명은 락 경로에서 수행)
+     */
+    private Optional<ValidationOutcome> tryHeartbeatFastPath(UUID userId, ValidateRequest request) {
+        License license = licenseRepository.findById(request.licenseId()).orElse(null);
+        if (license == null || !license.isOwnedBy(userId)) {
+            return Optional.empty();
+        }
+
+        Instant now = Instant.now();
+        LicenseStatus effectiveStatus = license.calculateEffectiveStatus(now);
+        if (effectiveStatus != LicenseStatus.ACTIVE && effectiveStatus != LicenseStatus.EXPIRED_GRACE) {
+            return Optional.empty();
+        }
+
+        Instant sessionThreshold = now.minusSeconds(license.getSessionTtlMinutes() * 60L);
+        Activation activation = activationRepository
+                .findByLicenseIdAndDeviceFingerprint(license.getId(), request.deviceFingerprint())
+                .orElse(null);
+        if (activation == null || !isActiveSession(activation, sessionThreshold)
+                || !hasReusableOfflineToken(activation, now)) {
+            return Optional.empty();
+        }
+
+        // 락 없이 읽은 ACTIVE 상태는 응답 전에 조건부 UPDATE(status = 'ACTIVE')로 확인 - 그 사이 비활성화되었으면 0건
+        // 버퍼 활성화 시 lastSeenAt/클라이언트 정보(세션 TTL 판단 외에 영향 없음)만 write-behind 버퍼에 위임
+        int updated = heartbeatBuffer.isEnabled()
+                ? activationRepository.confirmActive(activation.getId(), now)
+                : activationRepository.touchActiveSession(license.getId(), request.deviceFingerprint(),
+                        request.clientVersion(), request.clientOs(), now, sessionThreshold);
+        if (updated == 0) {
+            return Optional.empty();
+        }
+        heartbeatBuffer.record(activation.getId(), now, request.clientVersion(), request.clientOs(), null);
+
+        offlineTokenSigner.recordReuse();
+
+        List<String> entitlements = extractEntitlements(license);
+        return Optional.of(successOutcome(license, effectiveStatus, entitlements,
+                request.deviceFingerprint(), activation));
+    }
+
     /**
      * 검증 로직 공통 메서드.
      */
-    private ValidationResponse performValidation(License license, String deviceFingerprint,
-                                                  String clientVersion, String clientOs, String clientIp,
-                                                  boolean allowNewActivation) {
+    private ValidationOutcome performValidation(License license, String deviceFingerprint,
+                                                 String clientVersion, String clientOs, String clientIp,
+                                                 boolean allowNewActivation) {
         return performValidation(license, deviceFingerprint, clientVersion, clientOs, clientIp,
                                  allowNewActivation, null);
     }
@@ -696,37 +913,37 @@ public class LicenseService {
     /**
      * 검증 로직 공통 메서드 (v1.1.1 deviceDisplayName 지원).
      */
-    private ValidationResponse performValidation(License license, String deviceFingerprint,
-                                                  String clientVersion, String clientOs, String clientIp,
-                                                  boolean allowNewActivation, String deviceDisplayName) {
+    private ValidationOutcome performValidation(License license, String deviceFingerprint,
+                                                 String clientVersion, String clientOs, String clientIp,
+                                                 boolean allowNewActivation, String deviceDisplayName) {
         Instant now = Instant.now();
         LicenseStatus effectiveStatus = license.calculateEffectiveStatus(now);
 
         // 상태 검증
         switch (effectiveStatus) {
             case EXPIRED_HARD -> {
-                return ValidationResponse.failure(
+                return ValidationOutcome.of(ValidationResponse.failure(
                         ErrorCode.LICENSE_EXPIRED.name(),
                         ErrorCode.LICENSE_EXPIRED.getMessage()
-                );
+                ));
             }
             case SUSPENDED -> {
-                return ValidationResponse.failure(
+                return ValidationOutcome.of(ValidationResponse.failure(
                         ErrorCode.LICENSE_SUSPENDED.name(),
                         ErrorCode.LICENSE_SUSPENDED.getMessage()
-                );
+                ));
             }
             case REVOKED -> {
-                return ValidationResponse.failure(
+                return ValidationOutcome.of(ValidationResponse.failure(
                         ErrorCode.LICENSE_REVOKED.name(),
                         ErrorCode.LICENSE_REVOKED.getMessage()
-                );
+                ));
             }
             case PENDING -> {
-                return ValidationResponse.failure(
+                return ValidationOutcome.of(ValidationResponse.failure(
                         ErrorCode.INVALID_LICENSE_STATE.name(),
                         "라이선스가 아직 활성화되지 않았습니다"
-                );
+                ));
             }
             // ACTIVE, EXPIRED_GRACE는 계속 진행
         }
@@ -735,27 +952,22 @@ public class LicenseService {
         int sessionTtlMinutes = license.getSessionTtlMinutes();
         Instant sessionThreshold = now.minusSeconds(sessionTtlMinutes * 60L);
 
-        // 기존 활성화 확인 (TTL 내에서 active인 것만)
-        Optional<Activation> existingActivation = license.getActivations().stream()
-                .filter(a -> a.getDeviceFingerprint().equals(deviceFingerprint)
-                        && a.getStatus() == ActivationStatus.ACTIVE
-                        && !a.getLastSeenAt().isBefore(sessionThreshold))
-                .findFirst();
+        // v1.1.3: 기기 활성화 / 활성 세션 / 활성 기기 수를 한 번에 조회 (활성화 이력 전체 로드 방지)
+        ValidationState state = loadValidationState(license, deviceFingerprint, sessionThreshold);
+        Activation deviceActivation = state.deviceActivation();
+
+        // 기존 활성화 확인 (TTL 내에서 active인 것만, 버퍼의 미반영 heartbeat 포함)
+        boolean hasActiveSession = deviceActivation != null && isActiveSession(deviceActivation, sessionThreshold);
 
         // v1.1.1: Heartbeat 모드에서 기존 활성화가 비활성화되었는지 확인
         if (!allowNewActivation) {
-            Optional<Activation> anyExisting = license.getActivations().stream()
-                    .filter(a -> a.getDeviceFingerprint().equals(deviceFingerprint))
-                    .findFirst();
-
-            if (anyExisting.isEmpty()) {
+            if (deviceActivation == null) {
                 throw new LicenseException(ErrorCode.ACTIVATION_NOT_FOUND);
             }
 
-            Activation activation = anyExisting.get();
             // 비활성화되었거나 만료된 상태 (다른 기기에서 force로 비활성화됨)
-            if (activation.getStatus() == ActivationStatus.DEACTIVATED ||
-                activation.getStatus() == ActivationStatus.EXPIRED) {
+            if (deviceActivation.getStatus() == ActivationStatus.DEACTIVATED ||
+                deviceActivation.getStatus() == ActivationStatus.EXPIRED) {
                 throw new LicenseException(ErrorCode.SESSION_DEACTIVATED);
             }
 
@@ -764,8 +976,7 @@ public class LicenseService {
         }
 
         // v1.1.1: 동시 세션 수 확인 (TTL 기반)
-        List<Activation> activeSessions = activationRepository.findActiveSessions(
-                license.getId(), sessionThreshold);
+        List<Activation> activeSessions = state.activeSessions();
 
         // 본인 세션은 제외하고 카운트 (재접속 시)
         long otherActiveSessionCount = activeSessions.stream()
@@ -775,66 +986,150 @@ public class LicenseService {
         int maxConcurrentSessions = license.getMaxConcurrentSessions();
 
         // 새 활성화 요청인데 이미 동시 세션 제한에 도달한 경우
-        if (existingActivation.isEmpty() && otherActiveSessionCount >= maxConcurrentSessions) {
+        if (!hasActiveSession && otherActiveSessionCount >= maxConcurrentSessions) {
             // 409 CONCURRENT_SESSION_LIMIT_EXCEEDED + 활성 세션 목록 반환
             List<ActiveSessionInfo> sessionInfoList = activeSessions.stream()
-                    .map(a -> new ActiveSessionInfo(
-                            a.getId(),
-                            a.getDeviceDisplayName(),
-                            maskFingerprint(a.getDeviceFingerprint()),
-                            a.getLastSeenAt(),
-                            a.getClientOs(),
-                            a.getClientVersion()
-                    ))
+                    .map(this::toActiveSessionInfo)
                     .collect(Collectors.toList());
 
-            return ValidationResponse.concurrentSessionLimitExceeded(
-                    license.getId(), sessionInfoList, maxConcurrentSessions);
+            return ValidationOutcome.of(ValidationResponse.concurrentSessionLimitExceeded(
+                    license.getId(), sessionInfoList, maxConcurrentSessions));
         }
 
         // 총 기기 활성화 수 확인 (ACTIVE + STALE 상태)
-        if (!license.canActivate(deviceFingerprint, now)) {
-            return ValidationResponse.failure(
+        if (!license.canActivate(deviceActivation, state.activeDeviceCount(), now)) {
+            return ValidationOutcome.of(ValidationResponse.failure(
                     ErrorCode.ACTIVATION_LIMIT_EXCEEDED.name(),
                     ErrorCode.ACTIVATION_LIMIT_EXCEEDED.getMessage()
-            );
+            ));
         }
 
         // 활성화 추가/갱신 (deviceDisplayName 포함)
-        Activation activation = license.addActivation(deviceFingerprint, clientVersion,
+        Activation activation = license.addActivation(deviceActivation, deviceFingerprint, clientVersion,
                                                        clientOs, clientIp, deviceDisplayName);
 
         // 오프라인 토큰 발급 (필요시)
-        if (!activation.hasValidOfflineToken(now)) {
-            int offlineDays = getOfflineTokenValidDays(license);
-            String offlineToken = generateOfflineToken(license, activation);
-            activation.issueOfflineToken(offlineToken, now.plusSeconds(offlineDays * 24L * 60 * 60));
-        }
+        ensureOfflineToken(license, activation, now);
 
         licenseRepository.save(license);
 
         List<String> entitlements = extractEntitlements(license);
+        return successOutcome(license, effectiveStatus, entitlements, deviceFingerprint, activation);
+    }
 
-        // v1.1.2: sessionToken 생성 (RS256 전용, null 가능 - dev에서 키 미설정 시)
-        String productCode = resolveProductCode(license.getProductId());
-        SessionTokenService.SessionToken sessionToken = sessionTokenService.generateSessionToken(
-                license.getId(), productCode, deviceFingerprint, entitlements);
+    /**
+     * v1.1.3: 검증 결과 + 커밋 후 서명할 sessionToken 정보.
+     * sessionToken(RS256) 서명을 트랜잭션 밖으로 옮겨 라이선스 잠금/트랜잭션 유지 시간을 줄입니다.
+     *
+     * @param sessionToken 서명 대상 (실패 응답이면 null)
+     */
+    private record ValidationOutcome(ValidationResponse response, PendingSessionToken sessionToken) {
+        static ValidationOutcome of(ValidationResponse response) {
+            return new ValidationOutcome(response, null);
+        }
+    }
 
-        return ValidationResponse.success(
+    private record PendingSessionToken(UUID licenseId, String productCode, String deviceFingerprint,
+                                       List<String> entitlements) {
+    }
+
+    /**
+     * v1.1.3: 성공 응답 생성 (sessionToken은 signSessionToken에서 채움).
+     */
+    private ValidationOutcome successOutcome(License license, LicenseStatus effectiveStatus, List<String> entitlements,
+                                             String deviceFingerprint, Activation activation) {
+        ValidationResponse response = ValidationResponse.success(
                 license.getId(),
                 effectiveStatus,
                 license.getValidUntil(),
                 entitlements,
-                sessionToken != null ? sessionToken.token() : null,
+                null,
                 activation.getOfflineToken(),
                 activation.getOfflineTokenExpiresAt()
         );
+        String productCode = resolveProductCode(license.getProductId());
+        return new ValidationOutcome(response,
+                new PendingSessionToken(license.getId(), productCode, deviceFingerprint, entitlements));
+    }
+
+    /**
+     * v1.1.2: sessionToken 생성 (RS256 전용, null 가능 - dev에서 키 미설정 시).
+     * v1.1.3: 트랜잭션 커밋 후(잠금 해제 후) 호출됩니다.
+     */
+    private ValidationResponse signSessionToken(ValidationOutcome outcome) {
+        PendingSessionToken pending = outcome.sessionToken();
+        if (pending == null) {
+            return outcome.response();
+        }
+        SessionTokenService.SessionToken sessionToken = sessionTokenService.generateSessionToken(
+                pending.licenseId(), pending.productCode(), pending.deviceFingerprint(), pending.entitlements());
+        return outcome.response().withSessionToken(sessionToken != null ? sessionToken.token() : null);
+    }
+
+    /**
+     * v1.1.3: 검증에 필요한 활성화 상태.
+     *
+     * @param deviceActivation 요청 기기의 활성화 (없으면 null)
+     * @param activeSessions 세션 TTL 내 활성 세션 (lastSeenAt 내림차순)
+     * @param activeDeviceCount ACTIVE + STALE 기기 수
+     */
+    private record ValidationState(Activation deviceActivation, List<Activation> activeSessions,
+                                   long activeDeviceCount) {
+    }
+
+    /**
+     * v1.1.3: 검증 상태 로드.
+     * 활성화 컬렉션이 아직 로드되지 않았으면 요청 기기 + ACTIVE/STALE 행만 한 번 조회하고,
+     * 이미 로드된 경우에는 추가 조회 없이 컬렉션을 사용합니다.
+     *
+     * 활성 세션은 DB의 last_seen_at만 보면 write-behind 버퍼에서 flush 대기 중인 세션이
+     * 만료된 것으로 잘못 집계되므로 effectiveLastSeenAt 기준으로 판단합니다.
+     */
+    private ValidationState loadValidationState(License license, String deviceFingerprint,
+                                                Instant sessionThreshold) {
+        Collection<Activation> activations = Hibernate.isInitialized(license.getActivations())
+                ? license.getActivations()
+                : activationRepository.findValidationState(license.getId(), deviceFingerprint);
+
+        Activation deviceActivation = null;
+        List<Activation> activeSessions = new ArrayList<>();
+        long activeDeviceCount = 0;
+        for (Activation activation : activations) {
+            if (deviceActivation == null && activation.getDeviceFingerprint().equals(deviceFingerprint)) {
+                deviceActivation = activation;
+            }
+            if (activation.getStatus() == ActivationStatus.ACTIVE || activation.getStatus() == ActivationStatus.STALE) {
+                activeDeviceCount++;
+            }
+            if (isActiveSession(activation, sessionThreshold)) {
+                activeSessions.add(activation);
+            }
+        }
+        activeSessions.sort(Comparator.comparing((Activation a) -> heartbeatBuffer.effectiveLastSeenAt(a)).reversed());
+        return new ValidationState(deviceActivation, activeSessions, activeDeviceCount);
+    }
+
+    private boolean isActiveSession(Activation activation, Instant sessionThreshold) {
+        return activation.getStatus() == ActivationStatus.ACTIVE
+                && !heartbeatBuffer.effectiveLastSeenAt(activation).isBefore(sessionThreshold);
+    }
+
+    private ActiveSessionInfo toActiveSessionInfo(Activation activation) {
+        return new ActiveSessionInfo(
+                activation.getId(),
+                activation.getDeviceDisplayName(),
+                maskFingerprint(activation.getDeviceFingerprint()),
+                heartbeatBuffer.effectiveLastSeenAt(activation),
+                activation.getClientOs(),
+                activation.getClientVersion()
+        );
     }
 
     /**
      * v1.1.1: 기기 fingerprint 마스킹 (보안).
+     * package-private: JMH 벤치마크(src/jmh)에서 직접 호출.
      */
-    private String maskFingerprint(String fingerprint) {
+    String maskFingerprint(String fingerprint) {
         if (fingerprint == null || fingerprint.length() <= 8) {
             return "****";
         }
@@ -921,18 +1216,17 @@ public class LicenseService {
 
     /**
      * productCode 또는 productId를 UUID로 변환.
-     * productCode가 있으면 Product 조회 후 Long id를 UUID로 변환.
+     * v1.1.3: 제품 조회는 LicensingReferenceCache를 통해 캐시됩니다.
      */
     private UUID resolveProductId(ValidateRequest request) {
         if (request.productId() != null) {
             return request.productId();
         }
         if (request.productCode() != null) {
-            Product product = productRepository.findByCodeAndIsActiveTrue(request.productCode())
+            // product code를 기반으로 deterministic UUID 생성
+            return referenceCache.findActiveProductId(request.productCode())
                     .orElseThrow(() -> new LicenseException(ErrorCode.LICENSE_NOT_FOUND_FOR_PRODUCT,
                             "제품을 찾을 수 없습니다: " + request.productCode()));
-            // product code를 기반으로 deterministic UUID 생성
-            return UUID.nameUUIDFromBytes(product.getCode().getBytes());
         }
         // 둘 다 없으면 null (모든 제품 대상 검색)
         return null;
@@ -946,26 +1240,24 @@ public class LicenseService {
         if (productId == null) {
             return "UNKNOWN";
         }
-        return productRepository.findAll().stream()
-                .filter(p -> UUID.nameUUIDFromBytes(p.getCode().getBytes()).equals(productId))
-                .findFirst()
-                .map(Product::getCode)
+        return referenceCache.findProductCode(productId)
                 .orElse("PRODUCT_" + productId.toString().substring(0, 8));
     }
 
     /**
      * 라이선스 목록을 LicenseCandidate 목록으로 변환.
+     * v1.1.3: 플랜명은 후보 전체에 대해 한 번에 조회 (라이선스별 조회 N+1 제거).
      */
     private List<LicenseCandidate> buildCandidateList(List<License> licenses) {
         Instant now = Instant.now();
+        Map<UUID, String> planNames = referenceCache.getPlanNames(
+                licenses.stream().map(License::getPlanId).toList());
         return licenses.stream()
                 .map(license -> {
                     // planId로 플랜명 조회 (없으면 기본값)
                     String planName = "기본 플랜";
                     if (license.getPlanId() != null) {
-                        planName = planRepository.findById(license.getPlanId())
-                                .map(LicensePlan::getName)
-                                .orElse("알 수 없는 플랜");
+                        planName = planNames.getOrDefault(license.getPlanId(), "알 수 없는 플랜");
                     }
 
                     // 활성 기기 수 계산
@@ -991,7 +1283,8 @@ public class LicenseService {
                 .collect(Collectors.toList());
     }
 
-    private String generateLicenseKey() {
+    // package-private: JMH 벤치마크(src/jmh)에서 직접 호출
+    String generateLicenseKey() {
         // 형식: XXXX-XXXX-XXXX-XXXX
         String uuid = UUID.randomUUID().toString().replace("-", "").toUpperCase();
         return String.format("%s-%s-%s-%s",
@@ -1013,56 +1306,27 @@ public class LicenseService {
         );
     }
 
-    private int getOfflineTokenValidDays(License license) {
-        if (license.getPolicySnapshot() != null &&
-                license.getPolicySnapshot().containsKey("allowOfflineDays")) {
-            return ((Number) license.getPolicySnapshot().get("allowOfflineDays")).intValue();
+    /**
+     * v1.1.3: 오프라인 토큰 보장.
+     * 저장된 토큰이 유효하면 그대로 반환하고 (만료 임박 토큰은 OfflineTokenRefresher가 미리 재서명),
+     * 토큰이 없거나 만료된 경우에만 요청 스레드에서 서명합니다.
+     * 저장된 토큰이 무효화 목록에 있으면 (OfflineTokenRevocationIndex, DB 조회 없음) 재사용하지 않고 새로 서명합니다.
+     */
+    private void ensureOfflineToken(License license, Activation activation, Instant now) {
+        if (hasReusableOfflineToken(activation, now)) {
+            offlineTokenSigner.recordReuse();
+            return;
         }
-        return 30; // 기본값
+        OfflineTokenSigner.SignedOfflineToken signed =
+                offlineTokenSigner.sign(license, activation, now, OfflineTokenSigner.Source.REQUEST);
+        activation.issueOfflineToken(signed.token(), signed.expiresAt());
     }
 
-    @SuppressWarnings("unchecked")
-    private List<String> extractEntitlements(License license) {
-        if (license.getPolicySnapshot() != null &&
-                license.getPolicySnapshot().containsKey("entitlements")) {
-            Object entitlements = license.getPolicySnapshot().get("entitlements");
-            if (entitlements instanceof List<?>) {
-                return (List<String>) entitlements;
-            }
-        }
-        return List.of("core-simulation");
+    private boolean hasReusableOfflineToken(Activation activation, Instant now) {
+        return activation.hasValidOfflineToken(now) && !revocationIndex.isRevoked(activation.getOfflineToken());
     }
 
-    /**
-     * JWS 서명된 오프라인 토큰 생성.
-     *
-     * 토큰 페이로드:
-     * - sub: licenseId
-     * - deviceFingerprint: 기기 고유 식별자
-     * - validUntil: 라이선스 만료일
-     * - maxActivations: 최대 기기 수
-     * - entitlements: 권한 목록
-     * - iat: 발급 시각
-     * - exp: 오프라인 토큰 만료 시각
-     *
-     * 클라이언트는 이 토큰을 로컬에서 검증하여 오프라인 실행 가능.
-     * 서명 검증 실패 시 온라인 재검증 필요.
-     */
-    private String generateOfflineToken(License license, Activation activation) {
-        Instant now = Instant.now();
-        int offlineDays = getOfflineTokenValidDays(license);
-        Instant expiration = now.plusSeconds(offlineDays * 24L * 60 * 60);
-
-        return Jwts.builder()
-                .subject(license.getId().toString())
-                .claim("deviceFingerprint", activation.getDeviceFingerprint())
-                .claim("validUntil", license.getValidUntil() != null
-                        ? license.getValidUntil().toEpochMilli() : null)
-                .claim("maxActivations", license.getMaxActivations())
-                .claim("entitlements", extractEntitlements(license))
-                .issuedAt(Date.from(now))
-                .expiration(Date.from(expiration))
-                .signWith(offlineTokenKey)
-                .compact();
+    private List<String> extractEntitlements(License license) {
+        return license.getPolicy().entitlementsOr(PolicySnapshot.DEFAULT_ENTITLEMENTS);
     }
 }
@@ -0,0 +1,140 @@
+package com.bulc.homepage.licensing.service;
+
+import com.bulc.homepage.entity.Product;
+import com.bulc.homepage.licensing.domain.LicensePlan;
+import com.bulc.homepage.licensing.repository.LicensePlanRepository;
+import com.bulc.homepage.licensing.repository.ProductRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 검증 경로용 Product / LicensePlan 참조 데이터 로컬 캐시 (Caffeine).
+ *
+ * validate/heartbeat/force-validate마다 반복되던 제품/플랜 조회를 캐시합니다.
+ * 엔티티 대신 필요한 스칼라 값(productId, productCode, planName)만 보관하여
+ * detached 엔티티의 지연 로딩 문제를 피합니다.
+ *
+ * - 크기 제한(max-size) + TTL(ttl-seconds) - 다른 노드의 변경도 TTL 이후 반영
+ * - 플랜 변경 시 LicensePlanAdminService가 evictPlan()으로 즉시 무효화
+ * - hit/miss 통계는 Micrometer(cache.gets, cache.evictions 등)와 getStats()로 제공
+ */
+@Component
+public class LicensingReferenceCache {
+
+    private final ProductRepository productRepository;
+    private final LicensePlanRepository planRepository;
+
+    private final Cache<String, UUID> productIdByCode;
+    private final Cache<UUID, String> productCodeById;
+    private final Cache<UUID, String> planNameById;
+
+    public LicensingReferenceCache(ProductRepository productRepository,
+                                   LicensePlanRepository planRepository,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${bulc.licensing.reference-cache.max-size:1000}") long maxSize,
+                                   @Value("${bulc.licensing.reference-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.productRepository = productRepository;
+        this.planRepository = planRepository;
+        this.productIdByCode = newCache(maxSize, ttlSeconds);
+        this.productCodeById = newCache(maxSize, ttlSeconds);
+        this.planNameById = newCache(maxSize, ttlSeconds);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, productIdByCode, "licensing.productIdByCode");
+        CaffeineCacheMetrics.monitor(meterRegistry, productCodeById, "licensing.productCodeById");
+        CaffeineCacheMetrics.monitor(meterRegistry, planNameById, "licensing.planNameById");
+    }
+
+    /**
+     * 활성 제품 코드 → productId (제품 코드 기반 deterministic UUID).
+     *
+     * @return 활성 제품이 없으면 empty (결과를 캐시하지 않음)
+     */
+    public Optional<UUID> findActiveProductId(String productCode) {
+        return Optional.ofNullable(productIdByCode.get(productCode, code ->
+                productRepository.findByCodeAndIsActiveTrue(code)
+                        .map(product -> toProductId(product.getCode()))
+                        .orElse(null)));
+    }
+
+    /**
+     * productId → 제품 코드.
+     * 미스 시 전체 제품을 한 번 조회하여 함께 채웁니다.
+     *
+     * @return 일치하는 제품이 없으면 empty
+     */
+    public Optional<String> findProductCode(UUID productId) {
+        String cached = productCodeById.getIfPresent(productId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        for (Product product : productRepository.findAll()) {
+            productCodeById.put(toProductId(product.getCode()), product.getCode());
+        }
+        return Optional.ofNullable(productCodeById.getIfPresent(productId));
+    }
+
+    /**
+     * planId 목록 → 플랜명 (미스인 ID만 한 번의 IN 조회로 로드, N+1 방지).
+     * 존재하지 않는 플랜은 결과 맵에 포함되지 않습니다.
+     */
+    public Map<UUID, String> getPlanNames(Collection<UUID> planIds) {
+        Set<UUID> keys = planIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        return planNameById.getAll(keys, missing -> planRepository.findAllById(List.copyOf(missing)).stream()
+                .collect(Collectors.toMap(LicensePlan::getId, LicensePlan::getName)));
+    }
+
+    /**
+     * 플랜 변경 시 캐시 무효화.
+     */
+    public void evictPlan(UUID planId) {
+        if (planId != null) {
+            planNameById.invalidate(planId);
+        }
+    }
+
+    /**
+     * 제품 변경 시 캐시 무효화.
+     */
+    public void evictProducts() {
+        productIdByCode.invalidateAll();
+        productCodeById.invalidateAll();
+    }
+
+    /**
+     * 캐시별 hit/miss 통계.
+     */
+    public Map<String, CacheStats> getStats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        stats.put("productIdByCode", productIdByCode.stats());
+        stats.put("productCodeById", productCodeById.stats());
+        stats.put("planNameById", planNameById.stats());
+        return stats;
+    }
+
+    /**
+     * 제품 코드 기반 deterministic productId.
+     */
+    public static UUID toProductId(String productCode) {
+        return UUID.nameUUIDFromBytes(productCode.getBytes());
+    }
+
+    private static <K, V> Cache<K, V> newCache(long maxSize, long ttlSeconds) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+}
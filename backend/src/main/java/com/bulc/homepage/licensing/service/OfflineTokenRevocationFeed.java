@@ -0,0 +1,258 @@
+package com.bulc.homepage.licensing.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Jwts;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 클라이언트용 오프라인 토큰 무효화 피드 (v1.1.3).
+ *
+ * 오프라인 상태의 클라이언트가 다시 연결되었을 때 작은 응답으로 로컬 deny-list를 갱신할 수 있도록,
+ * OfflineTokenRevocationIndex가 로드한 무효화 항목을 revoked_at 순 journal로 보관하고 서명된 응답을 만듭니다.
+ *
+ * 응답은 sessionToken 키링의 active 키로 서명한 JWS(compact)이며 kid로 JWKS에서 검증 키를 찾습니다.
+ * - DELTA: cursor 이후 항목의 SHA-256 앞 16바이트를 이어 붙여 Base64url 인코딩 (항목당 약 22자)
+ * - BLOOM: 전체 항목의 Bloom filter 스냅샷 (m, k, bits). 위치 = (h1 + i·h2) mod m,
+ *   h1/h2 = SHA-256(token) 앞 8바이트/다음 8바이트 (big-endian)
+ *
+ * 클라이언트는 응답의 cursor를 다음 요청의 since로 사용합니다. 늦게 커밋된 항목을 놓치지 않도록
+ * since는 overlap만큼 되돌리고 bucket 단위로 내림하여 조회합니다 (중복 항목은 클라이언트에서 무시).
+ * 응답은 (형식, bucket, journal 버전)별로 한 번만 생성하여 캐시하며, 항목이 추가되거나 제거되면 버전이 바뀝니다.
+ * 피드는 인증 없이 호출되므로 since로 만들 수 있는 bucket은 journal 범위로 제한합니다:
+ * 가장 오래된 bucket 이전은 전체 스냅샷(from = 0)으로, 마지막 bucket 이후는 그 다음 bucket 하나로 모읍니다.
+ * 토큰 만료 시각이 지난 항목은 클라이언트도 만료로 거부하므로 journal에서 제거합니다 (evictExpired).
+ * ETag는 서명된 본문(iat, 무작위 서명 포함)이 아니라 (형식, from, cursor, count, kid, 포함 항목 digest의 XOR)에서
+ * 만들므로 같은 journal 상태면 노드나 캐시 재생성과 무관하게 같은 값이고, 만료 제거와 늦은 추가로
+ * cursor/count가 그대로여도 항목 집합이 다르면 달라집니다.
+ */
+@Component
+public class OfflineTokenRevocationFeed {
+
+    public enum Format { DELTA, BLOOM }
+
+    /**
+     * 서명된 응답 본문 (JWS compact)과 ETag.
+     */
+    public record Document(byte[] body, String etag) {
+    }
+
+    static final int DIGEST_PREFIX_BYTES = 16;
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final SessionTokenKeyring keyring;
+    private final long bucketMillis;
+    private final long overlapMillis;
+    private final double bloomFalsePositiveRate;
+
+    private final ConcurrentSkipListMap<Long, List<Entry>> journal = new ConcurrentSkipListMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong size = new AtomicLong();
+    private final Cache<DocumentKey, Document> documents;
+
+    public OfflineTokenRevocationFeed(
+            SessionTokenKeyring keyring,
+            @Value("${bulc.licensing.revocation-feed.bucket-seconds:300}") long bucketSeconds,
+            @Value("${bulc.licensing.revocation-index.overlap-seconds:60}") long overlapSeconds,
+            @Value("${bulc.licensing.revocation-feed.bloom-false-positive-rate:0.001}") double bloomFalsePositiveRate) {
+        this.keyring = keyring;
+        this.bucketMillis = Duration.ofSeconds(Math.max(1, bucketSeconds)).toMillis();
+        this.overlapMillis = Duration.ofSeconds(overlapSeconds).toMillis();
+        this.bloomFalsePositiveRate = bloomFalsePositiveRate;
+        this.documents = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .build();
+    }
+
+    /**
+     * 무효화 항목 추가 (OfflineTokenRevocationIndex에서 새 항목만 전달).
+     */
+    void record(String tokenHash, Instant revokedAt, Instant tokenExpiresAt) {
+        byte[] prefix = new byte[DIGEST_PREFIX_BYTES];
+        System.arraycopy(HEX.parseHex(tokenHash), 0, prefix, 0, DIGEST_PREFIX_BYTES);
+        long expiresAt = tokenExpiresAt != null ? tokenExpiresAt.toEpochMilli() : Long.MAX_VALUE;
+        journal.computeIfAbsent(revokedAt.toEpochMilli(), k -> new CopyOnWriteArrayList<>())
+                .add(new Entry(prefix, expiresAt));
+        size.incrementAndGet();
+        version.incrementAndGet();
+    }
+
+    /**
+     * 토큰 만료 시각이 지난 항목 제거 (OfflineTokenRevocationIndex에서 record와 같은 락으로 호출).
+     * @return 제거한 항목 수
+     */
+    int evictExpired(Instant now) {
+        long nowMillis = now.toEpochMilli();
+        int evicted = 0;
+        for (Map.Entry<Long, List<Entry>> bucket : journal.entrySet()) {
+            List<Entry> entries = bucket.getValue();
+            int before = entries.size();
+            entries.removeIf(entry -> entry.expiresAt() <= nowMillis);
+            evicted += before - entries.size();
+            if (entries.isEmpty()) {
+                journal.remove(bucket.getKey(), entries);
+            }
+        }
+        if (evicted > 0) {
+            size.addAndGet(-evicted);
+            version.incrementAndGet();
+        }
+        return evicted;
+    }
+
+    /**
+     * 서명된 피드 응답 (서명 키가 없으면 null).
+     *
+     * @param since 이전 응답의 cursor (epoch millis, 없으면 전체)
+     */
+    public Document document(Format format, Long since) {
+        SessionTokenKeyring.SigningKey signingKey = keyring.activeKey();
+        if (signingKey == null) {
+            return null;
+        }
+        long from = format == Format.BLOOM || since == null || since <= 0 ? 0 : clampFrom(since);
+        DocumentKey key = new DocumentKey(format, from, version.get(), signingKey.kid());
+        return documents.get(key, k -> build(k, signingKey));
+    }
+
+    /**
+     * since를 overlap만큼 되돌려 bucket 단위로 내림하고 journal 범위로 제한.
+     * 가장 오래된 bucket 이전(또는 빈 journal)은 0, 마지막 bucket 이후는 마지막 bucket 다음 값 하나로 모아
+     * 임의의 since 값이 새 캐시 항목/서명을 만들지 않도록 합니다.
+     */
+    private long clampFrom(long since) {
+        Map.Entry<Long, List<Entry>> first = journal.firstEntry();
+        Map.Entry<Long, List<Entry>> last = journal.lastEntry();
+        if (first == null || last == null) {
+            return 0;
+        }
+        long from = floorToBucket(since - overlapMillis);
+        if (from <= floorToBucket(first.getKey())) {
+            return 0;
+        }
+        return Math.min(from, floorToBucket(last.getKey()) + bucketMillis);
+    }
+
+    private long floorToBucket(long epochMillis) {
+        return Math.floorDiv(epochMillis, bucketMillis) * bucketMillis;
+    }
+
+    private Document build(DocumentKey key, SessionTokenKeyring.SigningKey signingKey) {
+        long cursor = journal.isEmpty() ? key.from() : journal.lastKey();
+        long count = size.get();
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("fmt", key.format().name().toLowerCase());
+        claims.put("iat", Instant.now().getEpochSecond());
+        claims.put("cursor", cursor);
+        claims.put("count", count);
+
+        Map<Long, List<Entry>> covered = key.format() == Format.DELTA ? journal.tailMap(key.from(), true) : journal;
+        List<Entry> entries = new ArrayList<>();
+        covered.values().forEach(entries::addAll);
+        if (key.format() == Format.DELTA) {
+            byte[] packed = new byte[entries.size() * DIGEST_PREFIX_BYTES];
+            for (int i = 0; i < entries.size(); i++) {
+                System.arraycopy(entries.get(i).prefix(), 0, packed, i * DIGEST_PREFIX_BYTES, DIGEST_PREFIX_BYTES);
+            }
+            claims.put("since", key.from());
+            claims.put("n", entries.size());
+            claims.put("d", BASE64_URL.encodeToString(packed));
+        } else {
+            BloomSnapshot bloom = BloomSnapshot.of(entries, bloomFalsePositiveRate);
+            claims.put("m", bloom.bitCount());
+            claims.put("k", bloom.hashCount());
+            claims.put("bits", BASE64_URL.encodeToString(bloom.bits()));
+        }
+
+        String jws = Jwts.builder()
+                .header().keyId(signingKey.kid()).add("typ", "revocation+jwt").and()
+                .claims(claims)
+                .signWith(signingKey.privateKey(), signingKey.algorithm().getSignatureAlgorithm())
+                .compact();
+        byte[] body = jws.getBytes(StandardCharsets.US_ASCII);
+        String content = String.join("|", key.format().name(), Long.toString(key.from()),
+                Long.toString(cursor), Long.toString(count), signingKey.kid(), HEX.formatHex(xorDigest(entries)));
+        return new Document(body, "\"" + BASE64_URL.encodeToString(sha256(content)).substring(0, 22) + "\"");
+    }
+
+    /**
+     * 항목 digest 앞 16바이트의 XOR (순서 무관 - journal 내 순서가 노드마다 달라도 같은 값).
+     */
+    private static byte[] xorDigest(List<Entry> entries) {
+        byte[] digest = new byte[DIGEST_PREFIX_BYTES];
+        for (Entry entry : entries) {
+            byte[] prefix = entry.prefix();
+            for (int i = 0; i < DIGEST_PREFIX_BYTES; i++) {
+                digest[i] ^= prefix[i];
+            }
+        }
+        return digest;
+    }
+
+    private static byte[] sha256(String content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record DocumentKey(Format format, long from, long version, String kid) {
+    }
+
+    /**
+     * journal 항목: digest 앞 16바이트와 토큰 만료 시각 (epoch millis, 알 수 없으면 Long.MAX_VALUE).
+     */
+    private record Entry(byte[] prefix, long expiresAt) {
+    }
+
+    /**
+     * 클라이언트 배포용 Bloom filter (비트 배열은 little-endian 비트 순서: bit i = bits[i/8] & (1 << i%8)).
+     */
+    private record BloomSnapshot(long bitCount, int hashCount, byte[] bits) {
+
+        static BloomSnapshot of(List<Entry> entries, double falsePositiveRate) {
+            long n = Math.max(1, entries.size());
+            long m = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+            m = (m + 7) / 8 * 8;
+            int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+            byte[] bits = new byte[(int) (m / 8)];
+            for (Entry entry : entries) {
+                byte[] digest = entry.prefix();
+                long h1 = longAt(digest, 0);
+                long h2 = longAt(digest, 8);
+                for (int i = 0; i < k; i++) {
+                    long bit = Math.floorMod(h1 + i * h2, m);
+                    bits[(int) (bit >>> 3)] |= (byte) (1 << (bit & 7));
+                }
+            }
+            return new BloomSnapshot(m, k, bits);
+        }
+
+        private static long longAt(byte[] bytes, int offset) {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (bytes[offset + i] & 0xFF);
+            }
+            return value;
+        }
+    }
+}
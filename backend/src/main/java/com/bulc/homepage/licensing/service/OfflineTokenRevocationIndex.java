@@ -0,0 +1,284 @@
+package com.bulc.homepage.licensing.service;
+
+import com.bulc.homepage.licensing.domain.RevokedOfflineToken;
+import com.bulc.homepage.licensing.repository.RevokedOfflineTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 오프라인 토큰 무효화 인덱스 (v1.1.3).
+ *
+ * revoked_offline_tokens의 token_hash(SHA-256 hex)를 노드 메모리에 보관하여
+ * 검증 경로에서 DB 조회 없이 O(1)로 무효화 여부를 판단합니다.
+ *
+ * - 조회: Bloom filter로 대부분의 (무효화되지 않은) 토큰을 걸러내고, 양성일 때만 해시 맵 확인
+ * - 갱신: (revoked_at, id) 커서로 증분 로드. 늦게 커밋된 행을 놓치지 않도록 커서를 overlap만큼 되돌려 다시 읽음
+ *   (집합 추가는 멱등)
+ * - 이 노드에서 무효화한 토큰은 커밋 직후 바로 반영 (add)
+ * - 용량을 넘으면 Bloom filter를 두 배 크기로 재구성
+ * - 새 항목은 클라이언트용 피드(OfflineTokenRevocationFeed) journal에도 추가
+ * - 토큰 만료 시각(token_expires_at)이 지난 항목은 로드하지 않고, 주기적으로 인덱스와 피드에서 제거
+ *   (만료된 토큰은 무효화 여부와 무관하게 거부되므로 보관할 필요 없음). 제거 후 Bloom filter를 다시 만듦
+ *
+ * 메트릭:
+ * - licensing.revocation_index.size: 인덱스의 무효화 토큰 수
+ * - licensing.revocation_index.rejected: 무효화된 토큰으로 판정된 횟수
+ */
+@Slf4j
+@Component
+public class OfflineTokenRevocationIndex {
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final RevokedOfflineTokenRepository revokedTokenRepository;
+    private final OfflineTokenRevocationFeed revocationFeed;
+    private final boolean enabled;
+    private final int expectedSize;
+    private final int batchSize;
+    private final Duration overlap;
+    private final double falsePositiveRate;
+    private final Counter rejectedCounter;
+
+    /** token_hash → 토큰 만료 시각 (알 수 없으면 Instant.MAX) */
+    private final Map<String, Instant> revokedHashes = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+    private Instant cursor = Instant.EPOCH;
+
+    public OfflineTokenRevocationIndex(RevokedOfflineTokenRepository revokedTokenRepository,
+                                       OfflineTokenRevocationFeed revocationFeed,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${bulc.licensing.revocation-index.enabled:true}") boolean enabled,
+                                       @Value("${bulc.licensing.revocation-index.expected-size:100000}") int expectedSize,
+                                       @Value("${bulc.licensing.revocation-index.false-positive-rate:0.01}") double falsePositiveRate,
+                                       @Value("${bulc.licensing.revocation-index.batch-size:1000}") int batchSize,
+                                       @Value("${bulc.licensing.revocation-index.overlap-seconds:60}") long overlapSeconds) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.revocationFeed = revocationFeed;
+        this.enabled = enabled;
+        this.expectedSize = expectedSize;
+        this.batchSize = batchSize;
+        this.overlap = Duration.ofSeconds(overlapSeconds);
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedSize, falsePositiveRate);
+        this.rejectedCounter = Counter.builder("licensing.revocation_index.rejected")
+                .description("무효화된 오프라인 토큰으로 판정된 횟수")
+                .register(meterRegistry);
+        Gauge.builder("licensing.revocation_index.size", revokedHashes, Map::size)
+                .description("인덱스에 로드된 무효화 토큰 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 무효화 여부 (DB 조회 없음).
+     */
+    public boolean isRevoked(String token) {
+        if (token == null || revokedHashes.isEmpty()) {
+            return false;
+        }
+        byte[] digest = sha256(token);
+        if (!bloomFilter.mightContain(digest)) {
+            return false;
+        }
+        boolean revoked = revokedHashes.containsKey(HEX.formatHex(digest));
+        if (revoked) {
+            rejectedCounter.increment();
+        }
+        return revoked;
+    }
+
+    /**
+     * 이 노드에서 무효화한 토큰 즉시 반영 (다른 노드는 다음 refresh에서 반영).
+     */
+    public void addAll(Collection<RevokedOfflineToken> revoked) {
+        Instant now = Instant.now();
+        revoked.forEach(r -> add(r.getTokenHash(), r.getRevokedAt(), r.getTokenExpiresAt(), now));
+    }
+
+    @Scheduled(fixedDelayString = "${bulc.licensing.revocation-index.refresh-interval-ms:5000}",
+               initialDelayString = "${bulc.licensing.revocation-index.initial-delay-ms:0}")
+    public void scheduledRefresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("OfflineTokenRevocationIndex: 증분 로드 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${bulc.licensing.revocation-index.evict-interval-ms:3600000}",
+               initialDelayString = "${bulc.licensing.revocation-index.evict-interval-ms:3600000}")
+    public void scheduledEvict() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            evictExpired(Instant.now());
+        } catch (Exception e) {
+            log.error("OfflineTokenRevocationIndex: 만료 항목 제거 실패", e);
+        }
+    }
+
+    /**
+     * 커서 이후(overlap 포함) 무효화 항목 증분 로드.
+     * @return 읽은 행 수
+     */
+    public synchronized int refresh() {
+        Instant now = Instant.now();
+        Instant afterRevokedAt = cursor.equals(Instant.EPOCH) ? Instant.EPOCH : cursor.minus(overlap);
+        UUID afterId = MIN_UUID;
+        Instant latest = cursor;
+        int loaded = 0;
+
+        while (true) {
+            List<RevokedOfflineToken> batch = revokedTokenRepository.findRevokedAfter(
+                    afterRevokedAt, afterId, now, PageRequest.of(0, batchSize));
+            for (RevokedOfflineToken revoked : batch) {
+                add(revoked.getTokenHash(), revoked.getRevokedAt(), revoked.getTokenExpiresAt(), now);
+                if (revoked.getRevokedAt().isAfter(latest)) {
+                    latest = revoked.getRevokedAt();
+                }
+            }
+            loaded += batch.size();
+            if (batch.size() < batchSize) {
+                break;
+            }
+            RevokedOfflineToken last = batch.get(batch.size() - 1);
+            afterRevokedAt = last.getRevokedAt();
+            afterId = last.getId();
+        }
+
+        cursor = latest;
+        return loaded;
+    }
+
+    /**
+     * 토큰 만료 시각이 지난 항목을 인덱스와 피드에서 제거하고 Bloom filter 재구성.
+     * @return 제거한 항목 수
+     */
+    public synchronized int evictExpired(Instant now) {
+        int before = revokedHashes.size();
+        revokedHashes.values().removeIf(expiresAt -> !now.isBefore(expiresAt));
+        int evicted = before - revokedHashes.size();
+        if (evicted == 0) {
+            return 0;
+        }
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedSize, revokedHashes.size()), falsePositiveRate);
+        revokedHashes.keySet().forEach(hash -> rebuilt.put(HEX.parseHex(hash)));
+        bloomFilter = rebuilt;
+        revocationFeed.evictExpired(now);
+        log.info("OfflineTokenRevocationIndex: 만료 항목 {}건 제거 (남은 항목={}, capacity={})",
+                evicted, revokedHashes.size(), rebuilt.capacity());
+        return evicted;
+    }
+
+    /**
+     * 토큰 원문 → token_hash (SHA-256 hex).
+     */
+    public static String hash(String token) {
+        return HEX.formatHex(sha256(token));
+    }
+
+    private synchronized void add(String tokenHash, Instant revokedAt, Instant tokenExpiresAt, Instant now) {
+        Instant expiresAt = tokenExpiresAt != null ? tokenExpiresAt : Instant.MAX;
+        if (!now.isBefore(expiresAt) || revokedHashes.putIfAbsent(tokenHash, expiresAt) != null) {
+            return;
+        }
+        revocationFeed.record(tokenHash, revokedAt, tokenExpiresAt);
+        if (revokedHashes.size() > bloomFilter.capacity()) {
+            BloomFilter resized = new BloomFilter(bloomFilter.capacity() * 2, falsePositiveRate);
+            revokedHashes.keySet().forEach(hash -> resized.put(HEX.parseHex(hash)));
+            bloomFilter = resized;
+            log.info("OfflineTokenRevocationIndex: Bloom filter 재구성 (capacity={})", resized.capacity());
+        } else {
+            bloomFilter.put(HEX.parseHex(tokenHash));
+        }
+    }
+
+    private static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * SHA-256 digest 전용 Bloom filter.
+     * digest 자체가 균등 분포이므로 앞 16바이트를 두 해시 값으로 사용합니다 (double hashing).
+     */
+    private static final class BloomFilter {
+
+        private final int capacity;
+        private final long bitCount;
+        private final int hashCount;
+        private final AtomicLongArray bits;
+
+        BloomFilter(int capacity, double falsePositiveRate) {
+            this.capacity = Math.max(capacity, 1);
+            long m = (long) Math.ceil(-this.capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bitCount = Math.max(64, m);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / this.capacity * Math.log(2)));
+            this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+        }
+
+        int capacity() {
+            return capacity;
+        }
+
+        void put(byte[] digest) {
+            long h1 = longAt(digest, 0);
+            long h2 = longAt(digest, 8);
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long current;
+                do {
+                    current = bits.get(word);
+                } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(byte[] digest) {
+            long h1 = longAt(digest, 0);
+            long h2 = longAt(digest, 8);
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long longAt(byte[] bytes, int offset) {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (bytes[offset + i] & 0xFF);
+            }
+            return value;
+        }
+    }
+}
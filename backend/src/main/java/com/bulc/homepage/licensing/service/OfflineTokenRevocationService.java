@@ -0,0 +1,77 @@
+package com.bulc.homepage.licensing.service;
+
+import com.bulc.homepage.licensing.domain.RevokedOfflineToken;
+import com.bulc.homepage.licensing.repository.ActivationRepository;
+import com.bulc.homepage.licensing.repository.OfflineTokenRevocationTarget;
+import com.bulc.homepage.licensing.repository.RevokedOfflineTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 오프라인 토큰 일괄 무효화 (v1.1.3).
+ *
+ * 관리자 API(POST /api/admin/licenses/offline-tokens/revoke)에서 토큰 탈취 대응 등으로 호출합니다.
+ *
+ * 발급된 오프라인 토큰의 digest를 revoked_offline_tokens에 기록하고 활성화의 토큰을 제거합니다.
+ * 이 노드의 OfflineTokenRevocationIndex에는 커밋 직후, 다른 노드에는 다음 증분 로드에서 반영됩니다.
+ *
+ * 활성화는 projection으로 읽고 토큰 컬럼만 조건부 UPDATE로 지우므로, 라이선스 락 없이도
+ * 동시에 커밋된 비활성화/상태 변경/heartbeat 기록을 덮어쓰지 않습니다.
+ * 조회 이후 토큰이 재서명되어 바뀐 경우 조회한 토큰만 무효화 목록에 기록되고 새 토큰은 유지됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OfflineTokenRevocationService {
+
+    private final ActivationRepository activationRepository;
+    private final RevokedOfflineTokenRepository revokedTokenRepository;
+    private final OfflineTokenRevocationIndex revocationIndex;
+
+    /**
+     * 라이선스들의 발급된 오프라인 토큰 일괄 무효화.
+     *
+     * @return 무효화된 토큰 수
+     */
+    @Transactional
+    public int revokeByLicenseIds(Collection<UUID> licenseIds, String reason) {
+        if (licenseIds.isEmpty()) {
+            return 0;
+        }
+        Instant now = Instant.now();
+        List<RevokedOfflineToken> revoked = new ArrayList<>();
+        for (OfflineTokenRevocationTarget target : activationRepository.findOfflineTokensByLicenseIds(licenseIds)) {
+            // 이미 교체/제거된 토큰도 클라이언트가 보유하고 있을 수 있으므로 무효화 목록에는 기록
+            revoked.add(new RevokedOfflineToken(
+                    target.licenseId(),
+                    target.activationId(),
+                    target.deviceFingerprint(),
+                    OfflineTokenRevocationIndex.hash(target.offlineToken()),
+                    now,
+                    target.offlineTokenExpiresAt(),
+                    reason));
+            activationRepository.revokeOfflineTokenIfUnchanged(target.activationId(), target.offlineToken(), now);
+        }
+        revokedTokenRepository.saveAll(revoked);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revocationIndex.addAll(revoked);
+            }
+        });
+        log.info("OfflineTokenRevocation: 라이선스 {}건의 오프라인 토큰 {}건 무효화 (reason={})",
+                licenseIds.size(), revoked.size(), reason);
+        return revoked.size();
+    }
+}
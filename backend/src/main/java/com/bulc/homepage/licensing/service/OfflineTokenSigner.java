@@ -0,0 +1,105 @@
+package com.bulc.homepage.licensing.service;
+
+import com.bulc.homepage.licensing.domain.Activation;
+import com.bulc.homepage.licensing.domain.License;
+import com.bulc.homepage.licensing.domain.PolicySnapshot;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * 오프라인 토큰 서명기.
+ *
+ * 요청 경로(LicenseService)와 백그라운드 재서명(OfflineTokenRefresher)이 같은 서명 로직을 사용합니다.
+ *
+ * 메트릭:
+ * - licensing.offline_token.sign{source=request|refresh}: 서명 횟수/소요 시간 (rate = 초당 서명 수)
+ * - licensing.offline_token.reused: 요청 경로에서 저장된 토큰을 재사용하여 서명을 생략한 횟수
+ */
+@Component
+public class OfflineTokenSigner {
+
+    public enum Source { REQUEST, REFRESH }
+
+    private final SecretKey offlineTokenKey;
+    private final Timer requestSignTimer;
+    private final Timer refreshSignTimer;
+    private final Counter reusedCounter;
+
+    public OfflineTokenSigner(@Value("${jwt.secret}") String jwtSecret, MeterRegistry meterRegistry) {
+        // JWT secret을 offline token 서명에도 사용 (별도 secret 추가 가능)
+        this.offlineTokenKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.requestSignTimer = Timer.builder("licensing.offline_token.sign")
+                .tag("source", "request")
+                .register(meterRegistry);
+        this.refreshSignTimer = Timer.builder("licensing.offline_token.sign")
+                .tag("source", "refresh")
+                .register(meterRegistry);
+        this.reusedCounter = Counter.builder("licensing.offline_token.reused")
+                .description("요청 경로에서 저장된 오프라인 토큰을 재사용하여 생략한 서명 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * JWS 서명된 오프라인 토큰 생성.
+     *
+     * 토큰 페이로드:
+     * - sub: licenseId
+     * - deviceFingerprint: 기기 고유 식별자
+     * - validUntil: 라이선스 만료일
+     * - maxActivations: 최대 기기 수
+     * - entitlements: 권한 목록
+     * - iat: 발급 시각
+     * - exp: 오프라인 토큰 만료 시각
+     *
+     * 클라이언트는 이 토큰을 로컬에서 검증하여 오프라인 실행 가능.
+     * 서명 검증 실패 시 온라인 재검증 필요.
+     */
+    public SignedOfflineToken sign(License license, Activation activation, Instant now, Source source) {
+        return sign(license, activation.getDeviceFingerprint(), now, source);
+    }
+
+    /**
+     * 기기 지문만으로 서명 (활성화 엔티티를 로드하지 않는 백그라운드 재서명용).
+     */
+    public SignedOfflineToken sign(License license, String deviceFingerprint, Instant now, Source source) {
+        Timer timer = source == Source.REFRESH ? refreshSignTimer : requestSignTimer;
+        return timer.record(() -> doSign(license, deviceFingerprint, now));
+    }
+
+    /**
+     * 요청 경로에서 서명을 생략한 경우 기록.
+     */
+    public void recordReuse() {
+        reusedCounter.increment();
+    }
+
+    private SignedOfflineToken doSign(License license, String deviceFingerprint, Instant now) {
+        PolicySnapshot policy = license.getPolicy();
+        Instant expiration = now.plusSeconds(policy.allowOfflineDays() * 24L * 60 * 60);
+
+        String token = Jwts.builder()
+                .subject(license.getId().toString())
+                .claim("deviceFingerprint", deviceFingerprint)
+                .claim("validUntil", license.getValidUntil() != null
+                        ? license.getValidUntil().toEpochMilli() : null)
+                .claim("maxActivations", policy.maxActivations())
+                .claim("entitlements", policy.entitlementsOr(PolicySnapshot.DEFAULT_ENTITLEMENTS))
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(expiration))
+                .signWith(offlineTokenKey)
+                .compact();
+        return new SignedOfflineToken(token, expiration);
+    }
+
+    public record SignedOfflineToken(String token, Instant expiresAt) {}
+}
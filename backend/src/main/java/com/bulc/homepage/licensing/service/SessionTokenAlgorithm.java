@@ -0,0 +1,56 @@
+package com.bulc.homepage.licensing.service;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+
+/**
+ * v1.1.3: sessionToken 서명 알고리즘.
+ *
+ * 키마다 하나의 알고리즘이 고정되며 (kid → alg), 토큰 헤더의 alg는 서명 키의 알고리즘과 항상 일치합니다.
+ */
+public enum SessionTokenAlgorithm {
+
+    RS256("RS256", "RSA", Jwts.SIG.RS256),
+    ES256("ES256", "EC", Jwts.SIG.ES256),
+    EDDSA("EdDSA", "Ed25519", Jwts.SIG.EdDSA);
+
+    private final String jwaName;
+    private final String keyAlgorithm;
+    private final SignatureAlgorithm signatureAlgorithm;
+
+    SessionTokenAlgorithm(String jwaName, String keyAlgorithm, SignatureAlgorithm signatureAlgorithm) {
+        this.jwaName = jwaName;
+        this.keyAlgorithm = keyAlgorithm;
+        this.signatureAlgorithm = signatureAlgorithm;
+    }
+
+    /**
+     * JWS 헤더 alg 값 (RS256, ES256, EdDSA).
+     */
+    public String getJwaName() {
+        return jwaName;
+    }
+
+    /**
+     * java.security.KeyFactory 알고리즘 이름.
+     */
+    public String getKeyAlgorithm() {
+        return keyAlgorithm;
+    }
+
+    public SignatureAlgorithm getSignatureAlgorithm() {
+        return signatureAlgorithm;
+    }
+
+    /**
+     * 설정 값(JWA 이름 또는 enum 이름, 대소문자 무시)으로 조회.
+     */
+    public static SessionTokenAlgorithm fromName(String name) {
+        for (SessionTokenAlgorithm algorithm : values()) {
+            if (algorithm.jwaName.equalsIgnoreCase(name) || algorithm.name().equalsIgnoreCase(name)) {
+                return algorithm;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 sessionToken 알고리즘: " + name);
+    }
+}
@@ -0,0 +1,114 @@
+package com.bulc.homepage.licensing.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * v1.1.3: sessionToken 검증 공개키 JWK Set (RFC 7517).
+ *
+ * 키링이 로드될 때 한 번 직렬화하여 바이트와 ETag를 함께 보관합니다.
+ * 요청 경로는 미리 만든 바이트를 그대로 응답하므로 직렬화/DB 조회가 없습니다.
+ *
+ * - RS256: kty=RSA (n, e)
+ * - ES256: kty=EC, crv=P-256 (x, y)
+ * - EdDSA: kty=OKP, crv=Ed25519 (x)
+ */
+public final class SessionTokenJwks {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    // Ed25519 X.509 SubjectPublicKeyInfo = 12바이트 헤더 + 32바이트 공개키
+    private static final int ED25519_KEY_LENGTH = 32;
+
+    private SessionTokenJwks() {
+    }
+
+    /**
+     * 직렬화된 JWK Set과 강한 ETag (본문 SHA-256).
+     */
+    public record Document(byte[] body, String etag) {
+    }
+
+    static Document build(Collection<SessionTokenKeyring.SigningKey> keys) {
+        List<Map<String, Object>> jwks = keys.stream()
+                .sorted(Comparator.comparing(SessionTokenKeyring.SigningKey::kid))
+                .map(SessionTokenJwks::toJwk)
+                .toList();
+        try {
+            byte[] body = OBJECT_MAPPER.writeValueAsBytes(Map.of("keys", jwks));
+            return new Document(body, "\"" + BASE64_URL.encodeToString(sha256(body)) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JWK Set 직렬화 실패", e);
+        }
+    }
+
+    private static Map<String, Object> toJwk(SessionTokenKeyring.SigningKey key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        PublicKey publicKey = key.publicKey();
+        switch (key.algorithm()) {
+            case RS256 -> {
+                RSAPublicKey rsa = (RSAPublicKey) publicKey;
+                jwk.put("kty", "RSA");
+                jwk.put("n", encode(rsa.getModulus(), 0));
+                jwk.put("e", encode(rsa.getPublicExponent(), 0));
+            }
+            case ES256 -> {
+                ECPublicKey ec = (ECPublicKey) publicKey;
+                jwk.put("kty", "EC");
+                jwk.put("crv", "P-256");
+                jwk.put("x", encode(ec.getW().getAffineX(), 32));
+                jwk.put("y", encode(ec.getW().getAffineY(), 32));
+            }
+            case EDDSA -> {
+                byte[] encoded = publicKey.getEncoded();
+                jwk.put("kty", "OKP");
+                jwk.put("crv", "Ed25519");
+                jwk.put("x", BASE64_URL.encodeToString(
+                        Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_LENGTH, encoded.length)));
+            }
+        }
+        jwk.put("kid", key.kid());
+        jwk.put("use", "sig");
+        jwk.put("alg", key.algorithm().getJwaName());
+        return jwk;
+    }
+
+    /**
+     * 부호 없는 big-endian 바이트로 Base64url 인코딩 (length > 0이면 앞을 0으로 채움).
+     */
+    private static String encode(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (length > bytes.length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return BASE64_URL.encodeToString(bytes);
+    }
+
+    private static byte[] sha256(byte[] body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.bulc.homepage.licensing.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * v1.1.3: sessionToken 서명 키링.
+ *
+ * 여러 서명 키(kid별 RS256 / ES256 / EdDSA)를 보관하고, 그중 active 키로 새 토큰을 서명합니다.
+ * 토큰 헤더의 kid로 클라이언트가 검증 키를 선택하므로, 키 교체 중에도 이전 키로 서명된 토큰을 검증할 수 있습니다.
+ *
+ * 키 출처:
+ * - bulc.licensing.session-token.private-key: 기존 단일 RS256 키 (kid = legacy-kid)
+ * - bulc.licensing.session-token.keyring-file: 키링 JSON 파일 (reload-interval-ms마다 변경 여부를 확인하여 재로드)
+ *
+ * <pre>
+ * {
+ *   "activeKid": "ed-2026-10",
+ *   "keys": [
+ *     {"kid": "ed-2026-10", "alg": "EdDSA", "privateKey": "...", "publicKey": "..."},
+ *     {"kid": "rs-2026-01", "alg": "RS256", "publicKey": "..."}
+ *   ]
+ * }
+ * </pre>
+ *
+ * - privateKey: PKCS#8 (PEM 또는 Base64 DER). 서명하지 않는 이전 키는 생략 가능
+ * - publicKey: X.509 SubjectPublicKeyInfo. RS256은 개인키에서 유도하므로 생략 가능, ES256/EdDSA는 필수
+ *
+ * 교체 절차 (재시작 불필요): 새 키 추가 → 클라이언트가 공개키를 받을 시간 경과 후 activeKid 변경
+ * → sessionToken TTL 경과 후 이전 키 제거.
+ * 파일 로드에 실패하면 이전 키링을 유지합니다.
+ */
+@Slf4j
+@Component
+public class SessionTokenKeyring {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String legacyPrivateKey;
+    private final String legacyKid;
+    private final String keyringFile;
+    private final String activeProfile;
+
+    private volatile Snapshot snapshot = Snapshot.of(null, List.of());
+    private volatile long loadedFileModifiedAt = -1;
+
+    public SessionTokenKeyring(
+            @Value("${bulc.licensing.session-token.private-key:}") String legacyPrivateKey,
+            @Value("${bulc.licensing.session-token.legacy-kid:default}") String legacyKid,
+            @Value("${bulc.licensing.session-token.keyring-file:}") String keyringFile,
+            @Value("${spring.profiles.active:dev}") String activeProfile) {
+        this.legacyPrivateKey = legacyPrivateKey;
+        this.legacyKid = legacyKid;
+        this.keyringFile = keyringFile;
+        this.activeProfile = activeProfile;
+    }
+
+    /**
+     * 지정한 키로 구성된 키링 (벤치마크/테스트용, 파일 재로드 없음).
+     */
+    static SessionTokenKeyring of(String activeKid, List<SigningKey> keys) {
+        SessionTokenKeyring keyring = new SessionTokenKeyring("", "default", "", "test");
+        keyring.snapshot = Snapshot.of(activeKid, keys);
+        return keyring;
+    }
+
+    @PostConstruct
+    public void init() {
+        boolean isProd = activeProfile.contains("prod");
+        try {
+            snapshot = load();
+        } catch (Exception e) {
+            if (isProd) {
+                throw new IllegalStateException(
+                    "[FATAL] SessionTokenKeyring: 서명 키 로드 실패. " +
+                    "키 형식을 확인하세요 (PKCS#8 / X.509, PEM 또는 Base64). 에러: " + e.getMessage(), e
+                );
+            }
+            log.error("SessionTokenKeyring: 서명 키 로드 실패. sessionToken 발급이 비활성화됩니다.", e);
+            return;
+        }
+
+        if (snapshot.active() == null) {
+            if (isProd) {
+                // prod에서 서명 키 없으면 부팅 실패 (fail-fast)
+                throw new IllegalStateException(
+                    "[FATAL] SessionTokenKeyring: sessionToken 서명 키가 설정되지 않았습니다. " +
+                    "prod 환경에서는 SESSION_TOKEN_PRIVATE_KEY 또는 SESSION_TOKEN_KEYRING_FILE 설정이 필수입니다. " +
+                    "서버를 시작할 수 없습니다."
+                );
+            }
+            log.warn("========================================");
+            log.warn("SessionTokenKeyring: sessionToken 서명 키가 설정되지 않았습니다.");
+            log.warn("sessionToken 발급이 비활성화됩니다.");
+            log.warn("키 생성: openssl genpkey -algorithm ed25519 -out private_key.pem");
+            log.warn("========================================");
+            return;
+        }
+        log.info("SessionTokenKeyring: 서명 키 {}개 로드 (active kid={}, alg={})",
+                snapshot.keys().size(), snapshot.active().kid(), snapshot.active().algorithm().getJwaName());
+    }
+
+    /**
+     * 키링 파일이 변경되었으면 재로드. 실패 시 이전 키링 유지.
+     */
+    @Scheduled(fixedDelayString = "${bulc.licensing.session-token.keyring-reload-interval-ms:60000}",
+               initialDelayString = "${bulc.licensing.session-token.keyring-reload-interval-ms:60000}")
+    public void reloadIfChanged() {
+        if (keyringFile == null || keyringFile.isBlank()) {
+            return;
+        }
+        try {
+            long modifiedAt = Files.getLastModifiedTime(Path.of(keyringFile)).toMillis();
+            if (modifiedAt == loadedFileModifiedAt) {
+                return;
+            }
+            Snapshot reloaded = load();
+            if (reloaded.active() == null) {
+                log.error("SessionTokenKeyring: 재로드한 키링에 서명 가능한 active 키가 없어 이전 키링을 유지합니다");
+                return;
+            }
+            String previousKid = snapshot.active() != null ? snapshot.active().kid() : null;
+            snapshot = reloaded;
+            log.info("SessionTokenKeyring: 키링 재로드 (키 {}개, active kid {} → {})",
+                    reloaded.keys().size(), previousKid, reloaded.active().kid());
+        } catch (Exception e) {
+            log.error("SessionTokenKeyring: 키링 재로드 실패. 이전 키링을 유지합니다", e);
+        }
+    }
+
+    /**
+     * 새 토큰 서명에 사용할 키 (없으면 null).
+     */
+    public SigningKey activeKey() {
+        return snapshot.active();
+    }
+
+    /**
+     * 검증용으로 공개하는 모든 키 (active, 다음 키, 교체 중인 이전 키).
+     */
+    public Collection<SigningKey> publishedKeys() {
+        return snapshot.keys().values();
+    }
+
+    /**
+     * 공개키 JWK Set (키링 로드 시 미리 직렬화됨).
+     */
+    public SessionTokenJwks.Document jwks() {
+        return snapshot.jwks();
+    }
+
+    private Snapshot load() throws Exception {
+        Map<String, SigningKey> keys = new LinkedHashMap<>();
+        String activeKid = null;
+
+        if (legacyPrivateKey != null && !legacyPrivateKey.isBlank()) {
+            keys.put(legacyKid, SigningKey.create(legacyKid, SessionTokenAlgorithm.RS256, legacyPrivateKey, null));
+            activeKid = legacyKid;
+        }
+
+        if (keyringFile != null && !keyringFile.isBlank()) {
+            Path path = Path.of(keyringFile);
+            long modifiedAt = Files.getLastModifiedTime(path).toMillis();
+            JsonNode root = readKeyringFile(path);
+            for (JsonNode node : root.path("keys")) {
+                String kid = requiredText(node, "kid");
+                SigningKey key = SigningKey.create(kid,
+                        SessionTokenAlgorithm.fromName(requiredText(node, "alg")),
+                        node.path("privateKey").asText(null),
+                        node.path("publicKey").asText(null));
+                keys.put(kid, key);
+            }
+            if (root.hasNonNull("activeKid")) {
+                activeKid = root.get("activeKid").asText();
+            }
+            loadedFileModifiedAt = modifiedAt;
+        }
+
+        return Snapshot.of(activeKid, List.copyOf(keys.values()));
+    }
+
+    private static JsonNode readKeyringFile(Path path) throws IOException {
+        return OBJECT_MAPPER.readTree(Files.readString(path));
+    }
+
+    private static String requiredText(JsonNode node, String field) {
+        String value = node.path(field).asText(null);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("키링 항목에 " + field + "가 없습니다");
+        }
+        return value;
+    }
+
+    /**
+     * 서명 키. privateKey가 없으면 검증 전용 (이전 키 또는 다음 키).
+     */
+    public record SigningKey(String kid, SessionTokenAlgorithm algorithm, PrivateKey privateKey, PublicKey publicKey) {
+
+        static SigningKey create(String kid, SessionTokenAlgorithm algorithm,
+                                 String privateKeyData, String publicKeyData) throws Exception {
+            KeyFactory keyFactory = KeyFactory.getInstance(algorithm.getKeyAlgorithm());
+            PrivateKey privateKey = privateKeyData != null && !privateKeyData.isBlank()
+                    ? keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decode(privateKeyData)))
+                    : null;
+            PublicKey publicKey = publicKeyData != null && !publicKeyData.isBlank()
+                    ? keyFactory.generatePublic(new X509EncodedKeySpec(decode(publicKeyData)))
+                    : null;
+
+            // RS256은 CRT 개인키에서 공개키 유도
+            if (publicKey == null && privateKey instanceof RSAPrivateCrtKey rsa) {
+                publicKey = keyFactory.generatePublic(new RSAPublicKeySpec(rsa.getModulus(), rsa.getPublicExponent()));
+            }
+            if (privateKey == null && publicKey == null) {
+                throw new IllegalArgumentException("키 " + kid + "에 privateKey/publicKey가 모두 없습니다");
+            }
+            if (publicKey == null) {
+                throw new IllegalArgumentException("키 " + kid + " (" + algorithm.getJwaName() + ")는 publicKey가 필요합니다");
+            }
+            return new SigningKey(kid, algorithm, privateKey, publicKey);
+        }
+
+        /**
+         * PEM 헤더/푸터 및 공백 제거 후 Base64 디코딩.
+         */
+        private static byte[] decode(String keyData) {
+            String cleanedKey = keyData
+                    .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                    .replaceAll("\\s", "");
+            return Base64.getDecoder().decode(cleanedKey);
+        }
+    }
+
+    private record Snapshot(SigningKey active, Map<String, SigningKey> keys, SessionTokenJwks.Document jwks) {
+
+        static Snapshot of(String activeKid, List<SigningKey> keys) {
+            Map<String, SigningKey> byKid = new LinkedHashMap<>();
+            keys.forEach(key -> byKid.put(key.kid(), key));
+            SigningKey active = activeKid != null ? byKid.get(activeKid) : null;
+            if (activeKid != null && (active == null || active.privateKey() == null)) {
+                throw new IllegalArgumentException("active kid " + activeKid + "에 해당하는 개인키가 없습니다");
+            }
+            return new Snapshot(active, Map.copyOf(byKid), SessionTokenJwks.build(byKid.values()));
+        }
+    }
+}
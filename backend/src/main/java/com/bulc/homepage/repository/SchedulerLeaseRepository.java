@@ -0,0 +1,39 @@
+package com.bulc.homepage.repository;
+
+import com.bulc.homepage.entity.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    /**
+     * 만료되었거나 이미 자신이 보유한 lease를 획득/연장.
+     * @return 획득 성공 시 1, 다른 노드가 유효한 lease를 보유 중이면 0
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.owner = :owner, l.leaseUntil = :leaseUntil " +
+            "WHERE l.name = :name AND (l.leaseUntil < :now OR l.owner = :owner)")
+    int tryAcquire(@Param("name") String name, @Param("owner") String owner,
+                   @Param("leaseUntil") Instant leaseUntil, @Param("now") Instant now);
+
+    /**
+     * lease 행 최초 생성. 다른 노드가 먼저 생성했으면 키 중복 예외 발생.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_leases (name, owner, lease_until) VALUES (:name, :owner, :leaseUntil)",
+            nativeQuery = true)
+    int insert(@Param("name") String name, @Param("owner") String owner, @Param("leaseUntil") Instant leaseUntil);
+
+    /**
+     * 자신이 보유한 lease 반납.
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.leaseUntil = :now WHERE l.name = :name AND l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") Instant now);
+}
@@ -1,5 +1,8 @@
 package com.bulc.homepage.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -11,7 +14,12 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -26,11 +34,34 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-expiration}")
     private long refreshTokenExpiration;
 
+    // 검증 완료 토큰 캐시 (0이면 비활성화)
+    @Value("${jwt.verified-token-cache.max-size:10000}")
+    private long verifiedTokenCacheMaxSize;
+
+    // 토큰 만료 전이라도 이 시간이 지나면 다시 검증
+    @Value("${jwt.verified-token-cache.ttl-seconds:60}")
+    private long verifiedTokenCacheTtlSeconds;
+
     private SecretKey secretKey;
 
+    // thread-safe, init()에서 한 번만 생성
+    private JwtParser jwtParser;
+
+    // SHA-256(token) -> 검증된 Claims
+    private Cache<String, Claims> verifiedTokens;
+
     @PostConstruct
     protected void init() {
         this.secretKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        if (verifiedTokenCacheMaxSize > 0) {
+            this.verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(verifiedTokenCacheMaxSize)
+                    .expireAfter(new ClaimsExpiry(Duration.ofSeconds(verifiedTokenCacheTtlSeconds)))
+                    .build();
+        }
     }
 
     public String generateAccessToken(Authentication authentication) {
@@ -58,23 +89,45 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * 토큰을 한 번만 파싱/검증하여 Claims 반환.
+     * 최근 검증된 토큰은 digest 기준으로 캐시되며, 캐시 항목은 토큰 만료 시각을 넘기지 않습니다.
+     *
+     * @return 유효하지 않은 토큰이면 empty
+     */
+    public Optional<Claims> parseAndValidate(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        if (verifiedTokens == null) {
+            return verify(token);
+        }
+
+        String digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && !isExpired(cached)) {
+            return Optional.of(cached);
+        }
 
-        return claims.getSubject();
+        Optional<Claims> claims = verify(token);
+        claims.ifPresent(c -> verifiedTokens.put(digest, c));
+        return claims;
+    }
+
+    public String getEmailFromToken(String token) {
+        return parseAndValidate(token)
+                .map(Claims::getSubject)
+                // 유효하지 않은 토큰은 기존과 동일하게 JwtException을 던지도록 다시 파싱
+                .orElseGet(() -> jwtParser.parseSignedClaims(token).getPayload().getSubject());
     }
 
     public boolean validateToken(String token) {
+        return parseAndValidate(token).isPresent();
+    }
+
+    private Optional<Claims> verify(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return Optional.of(jwtParser.parseSignedClaims(token).getPayload());
         } catch (SecurityException | MalformedJwtException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -84,6 +137,47 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    private static boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.getTime() <= System.currentTimeMillis();
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 캐시 만료 = min(토큰 만료까지 남은 시간, 최대 TTL).
+     */
+    private record ClaimsExpiry(Duration maxTtl) implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long maxNanos = maxTtl.toNanos();
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return maxNanos;
+            }
+            long remainingNanos = Duration.ofMillis(expiration.getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(maxNanos, remainingNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,52 @@
+package com.bulc.homepage.security;
+
+import com.bulc.homepage.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * 요청 범위의 인증 사용자 holder.
+ *
+ * JwtAuthenticationFilter가 이미 조회(또는 캐시에서 확인)한 UserDetails principal은 그대로 신뢰하고,
+ * 그 외의 인증(principal이 문자열 등)만 users 테이블을 한 번 조회하여 요청 동안 재사용합니다.
+ * 따라서 요청당 사용자 조회는 최대 1회입니다.
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class RequestPrincipalHolder {
+
+    private final UserRepository userRepository;
+
+    private String resolvedEmail;
+
+    /**
+     * 현재 인증된 사용자의 email.
+     *
+     * @throws IllegalStateException 인증되지 않았거나 사용자가 존재하지 않는 경우
+     */
+    public String getEmail() {
+        if (resolvedEmail != null) {
+            return resolvedEmail;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new IllegalStateException("인증된 사용자가 없습니다");
+        }
+
+        String email = authentication.getName();
+        if (!(authentication.getPrincipal() instanceof UserDetails)) {
+            // 필터에서 확인되지 않은 principal만 사용자 존재 여부 확인
+            userRepository.findByEmail(email)
+                    .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다: " + email));
+        }
+
+        resolvedEmail = email;
+        return email;
+    }
+}
@@ -0,0 +1,68 @@
+package com.bulc.homepage.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * JWT 인증 필터용 UserDetails 단기 캐시 (email 기준).
+ *
+ * 인증된 요청마다 users 테이블을 조회하지 않도록 짧은 TTL 동안 principal을 보관합니다.
+ * - 비밀번호 해시는 보관하지 않음 (필터 인증에는 credentials가 필요 없음)
+ * - User 엔티티 변경/삭제 시 UserPrincipalCacheInvalidator가 즉시 무효화
+ * - 다른 노드에서의 변경은 TTL 이후 반영
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final Cache<String, UserDetails> cache;
+
+    public UserPrincipalCache(@Value("${bulc.security.principal-cache.max-size:10000}") long maxSize,
+                              @Value("${bulc.security.principal-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 principal 반환. 없으면 loader로 조회 후 캐시.
+     * loader 예외(UsernameNotFoundException 등)는 그대로 전파되며 캐시하지 않습니다.
+     */
+    public UserDetails get(String email, Function<String, UserDetails> loader) {
+        return cache.get(email, key -> withoutPassword(loader.apply(key)));
+    }
+
+    public void evict(String email) {
+        if (email != null) {
+            cache.invalidate(email);
+        }
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    private static UserDetails withoutPassword(UserDetails userDetails) {
+        return User.withUsername(userDetails.getUsername())
+                .password("")
+                .authorities(userDetails.getAuthorities())
+                .accountExpired(!userDetails.isAccountNonExpired())
+                .accountLocked(!userDetails.isAccountNonLocked())
+                .credentialsExpired(!userDetails.isCredentialsNonExpired())
+                .disabled(!userDetails.isEnabled())
+                .build();
+    }
+}
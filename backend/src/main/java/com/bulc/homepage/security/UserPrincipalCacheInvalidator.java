@@ -0,0 +1,53 @@
+package com.bulc.homepage.security;
+
+import com.bulc.homepage.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * User 엔티티 변경(역할/비밀번호 등) 시 UserPrincipalCache 무효화.
+ * Hibernate SpringBeanContainer를 통해 Spring 빈으로 생성됩니다.
+ *
+ * 엔티티 리스너는 flush 시점(커밋 전)에 호출되므로 무효화는 커밋 후에 실행합니다.
+ * 커밋 전에 무효화하면 다른 요청이 아직 커밋되지 않은 이전 값을 다시 캐시할 수 있습니다.
+ * JPQL/native bulk UPDATE·DELETE는 엔티티 리스너를 거치지 않으므로 해당 경로에서 evictAfterCommit을 직접 호출해야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalCacheInvalidator {
+
+    private final UserPrincipalCache principalCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        // 로드 시점 email(변경 전 키)과 현재 email 모두 무효화
+        evictAfterCommit(user.getLoadedEmail(), user.getEmail());
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 principal 무효화 (트랜잭션 밖이면 즉시).
+     */
+    public void evictAfterCommit(String... emails) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(emails);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(emails);
+            }
+        });
+    }
+
+    private void evict(String... emails) {
+        for (String email : emails) {
+            principalCache.evict(email);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.entity.ActivityLog;
+
+import java.time.LocalDateTime;
+
+/**
+ * v1.1.3: 활동 로그 이벤트 (ActivityLogIngestor 입력).
+ *
+ * 요청 스레드에서 필요한 값을 모두 복사해 둔 불변 값이므로, 요청이 끝난 뒤 기록해도 안전합니다.
+ * createdAt은 이벤트 발생 시각이며 DB 기록 시각과 다를 수 있습니다.
+ */
+public record ActivityLogEvent(
+        String userEmail,
+        String action,
+        String targetType,
+        Long targetId,
+        String description,
+        String ipAddress,
+        String userAgent,
+        LocalDateTime createdAt
+) {
+
+    public static ActivityLogEvent of(String userEmail, String action, String targetType, Long targetId,
+                                      String description, String ipAddress, String userAgent) {
+        return new ActivityLogEvent(userEmail, action, targetType, targetId, description,
+                ipAddress, userAgent, LocalDateTime.now());
+    }
+
+    ActivityLog toEntity() {
+        return ActivityLog.builder()
+                .userEmail(userEmail)
+                .action(action)
+                .targetType(targetType)
+                .targetId(targetId)
+                .description(description)
+                .ipAddress(ipAddress)
+                .userAgent(userAgent)
+                .createdAt(createdAt)
+                .build();
+    }
+}
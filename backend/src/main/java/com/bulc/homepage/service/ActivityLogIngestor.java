@@ -0,0 +1,177 @@
+package com.bulc.homepage.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * v1.1.3: 활동 로그 일괄 기록 파이프라인.
+ *
+ * 로그인/페이지 조회마다 activity_logs에 한 건씩 INSERT하던 것을, 요청 스레드에서는 메모리 링 버퍼에 넣기만 하고
+ * 단일 writer가 주기적으로 batch-size 단위 JDBC batch INSERT로 기록합니다.
+ *
+ * - 요청 스레드: lock-free 링 버퍼(MpscRingBuffer)에 offer. 가득 차면 버리고 dropped 카운트 (요청을 막지 않음)
+ * - 트랜잭션 안에서 기록하면 트랜잭션 종료 후 버퍼에 넣음 (가입 중인 사용자의 FK 등 커밋 전 데이터 참조 방지,
+ *   롤백되어도 로그인 실패 같은 기록은 남김)
+ * - writer: flush-interval-ms 주기 @Scheduled (한 번에 하나만 실행), 종료 시 남은 항목 drain
+ * - ActivityLog id는 pooled sequence이므로 Hibernate JDBC batch INSERT가 동작
+ * - batch 실패 시(예: 탈퇴한 사용자 FK) 행 단위로 다시 기록하여 나머지 로그는 유지
+ *
+ * 메트릭:
+ * - activity_log.ingest.pending: 버퍼에서 기록을 기다리는 이벤트 수
+ * - activity_log.ingest.lag: 마지막 flush에서 가장 오래 기다린 이벤트의 대기 시간 (ms)
+ * - activity_log.ingest.written / dropped / failed: 기록 / 버퍼 초과로 버림 / 기록 실패 건수
+ */
+@Slf4j
+@Component
+public class ActivityLogIngestor {
+
+    private final MpscRingBuffer<Pending> buffer;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final int batchSize;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private volatile long lagMillis;
+
+    public ActivityLogIngestor(PlatformTransactionManager transactionManager,
+                               EntityManager entityManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${bulc.activity-log.buffer-capacity:8192}") int bufferCapacity,
+                               @Value("${bulc.activity-log.batch-size:500}") int batchSize) {
+        this.buffer = new MpscRingBuffer<>(bufferCapacity);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+        this.batchSize = Math.max(1, batchSize);
+        this.writtenCounter = Counter.builder("activity_log.ingest.written")
+                .description("기록된 활동 로그 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("activity_log.ingest.dropped")
+                .description("버퍼가 가득 차서 버린 활동 로그 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("activity_log.ingest.failed")
+                .description("기록에 실패한 활동 로그 수")
+                .register(meterRegistry);
+        Gauge.builder("activity_log.ingest.pending", buffer, MpscRingBuffer::size)
+                .description("기록 대기 중인 활동 로그 수")
+                .register(meterRegistry);
+        Gauge.builder("activity_log.ingest.lag", this, ingestor -> ingestor.lagMillis)
+                .description("마지막 flush에서 가장 오래 기다린 활동 로그의 대기 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 활동 로그 기록 요청 (DB 접근 없음).
+     */
+    public void record(ActivityLogEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            offer(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                offer(event);
+            }
+        });
+    }
+
+    private void offer(ActivityLogEvent event) {
+        if (!buffer.offer(new Pending(event, System.nanoTime()))) {
+            droppedCounter.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${bulc.activity-log.flush-interval-ms:500}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 버퍼의 이벤트를 batch-size 단위로 모두 기록.
+     *
+     * @return 기록된 이벤트 수
+     */
+    public synchronized int flush() {
+        int written = 0;
+        List<Pending> batch = new ArrayList<>(Math.min(batchSize, buffer.capacity()));
+        long oldestWait = 0;
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            oldestWait = Math.max(oldestWait, System.nanoTime() - batch.get(0).enqueuedAtNanos());
+            written += write(batch);
+            batch.clear();
+        }
+        lagMillis = oldestWait / 1_000_000;
+        return written;
+    }
+
+    private int write(List<Pending> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(batch));
+            writtenCounter.increment(batch.size());
+            return batch.size();
+        } catch (RuntimeException e) {
+            log.warn("ActivityLogIngestor: {}건 batch 기록 실패, 행 단위로 재시도: {}", batch.size(), e.getMessage());
+        }
+
+        int written = 0;
+        for (Pending pending : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(List.of(pending)));
+                writtenCounter.increment();
+                written++;
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                log.debug("ActivityLogIngestor: 기록 실패 action={}, user={}: {}",
+                        pending.event().action(), pending.event().userEmail(), e.getMessage());
+            }
+        }
+        return written;
+    }
+
+    private void persist(List<Pending> batch) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        for (Pending pending : batch) {
+            entityManager.persist(pending.event().toEntity());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * 종료 시 남은 이벤트 drain.
+     */
+    @PreDestroy
+    public void drain() {
+        int written = flush();
+        if (written > 0) {
+            log.info("ActivityLogIngestor: 종료 전 {}건 기록", written);
+        }
+    }
+
+    /**
+     * 기록 대기 중인 이벤트 수.
+     */
+    public int pendingCount() {
+        return buffer.size();
+    }
+
+    private record Pending(ActivityLogEvent event, long enqueuedAtNanos) {
+    }
+}
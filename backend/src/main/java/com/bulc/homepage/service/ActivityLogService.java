@@ -1,99 +1,80 @@
 package com.bulc.homepage.service;
 
 import com.bulc.homepage.dto.request.ActivityLogRequest;
-import com.bulc.homepage.entity.ActivityLog;
 import com.bulc.homepage.entity.User;
-import com.bulc.homepage.repository.ActivityLogRepository;
-import com.bulc.homepage.repository.UserRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 활동 로그 기록.
+ *
+ * v1.1.3: 요청 스레드에서 필요한 값만 복사하여 ActivityLogIngestor 버퍼에 넣고 반환합니다.
+ * DB 기록은 ingestor가 일괄 처리하므로 로그 한 건마다 DB 왕복이 발생하지 않습니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ActivityLogService {
 
-    private final ActivityLogRepository activityLogRepository;
-    private final UserRepository userRepository;
+    private final ActivityLogIngestor activityLogIngestor;
 
-    @Async
-    @Transactional
     public void logActivity(ActivityLogRequest request, HttpServletRequest httpRequest) {
         try {
-            User user = getCurrentUser();
-
-            ActivityLog activityLog = ActivityLog.builder()
-                    .userEmail(user != null ? user.getEmail() : null)
-                    .action(request.getAction())
-                    .targetType(request.getResourcePath() != null ? "resource" : null)
-                    .description(buildDescription(request, httpRequest))
-                    .ipAddress(getClientIpAddress(httpRequest))
-                    .userAgent(httpRequest.getHeader("User-Agent"))
-                    .build();
-
-            activityLogRepository.save(activityLog);
+            activityLogIngestor.record(ActivityLogEvent.of(
+                    getCurrentUserEmail(),
+                    request.getAction(),
+                    request.getResourcePath() != null ? "resource" : null,
+                    null,
+                    buildDescription(request, httpRequest),
+                    getClientIpAddress(httpRequest),
+                    httpRequest.getHeader("User-Agent")));
             log.debug("Activity logged: {} - {}", request.getAction(), request.getResourcePath());
         } catch (Exception e) {
             log.error("Failed to log activity: {}", e.getMessage());
         }
     }
 
-    @Transactional
     public void logActivitySync(String action, String resourcePath, String httpMethod, HttpServletRequest httpRequest) {
         try {
-            User user = getCurrentUser();
-
-            ActivityLog activityLog = ActivityLog.builder()
-                    .userEmail(user != null ? user.getEmail() : null)
-                    .action(action)
-                    .targetType("resource")
-                    .description(String.format("%s %s", httpMethod, resourcePath))
-                    .ipAddress(getClientIpAddress(httpRequest))
-                    .userAgent(httpRequest.getHeader("User-Agent"))
-                    .build();
-
-            activityLogRepository.save(activityLog);
+            activityLogIngestor.record(ActivityLogEvent.of(
+                    getCurrentUserEmail(),
+                    action,
+                    "resource",
+                    null,
+                    String.format("%s %s", httpMethod, resourcePath),
+                    getClientIpAddress(httpRequest),
+                    httpRequest.getHeader("User-Agent")));
         } catch (Exception e) {
             log.error("Failed to log activity: {}", e.getMessage());
         }
     }
 
-    @Transactional
     public void logLoginActivity(User user, HttpServletRequest httpRequest, boolean success) {
         String action = success ? "login" : "login_failed";
 
-        ActivityLog activityLog = ActivityLog.builder()
-                .userEmail(user != null ? user.getEmail() : null)
-                .action(action)
-                .targetType("user")
-                .targetId(null)
-                .description(success ? "로그인 성공" : "로그인 실패")
-                .ipAddress(getClientIpAddress(httpRequest))
-                .userAgent(httpRequest.getHeader("User-Agent"))
-                .build();
-
-        activityLogRepository.save(activityLog);
+        activityLogIngestor.record(ActivityLogEvent.of(
+                user != null ? user.getEmail() : null,
+                action,
+                "user",
+                null,
+                success ? "로그인 성공" : "로그인 실패",
+                getClientIpAddress(httpRequest),
+                httpRequest.getHeader("User-Agent")));
     }
 
-    @Transactional
     public void logSignupActivity(User user, HttpServletRequest httpRequest) {
-        ActivityLog activityLog = ActivityLog.builder()
-                .userEmail(user.getEmail())
-                .action("signup")
-                .targetType("user")
-                .targetId(null)
-                .description("회원가입 완료")
-                .ipAddress(getClientIpAddress(httpRequest))
-                .userAgent(httpRequest.getHeader("User-Agent"))
-                .build();
-
-        activityLogRepository.save(activityLog);
+        activityLogIngestor.record(ActivityLogEvent.of(
+                user.getEmail(),
+                "signup",
+                "user",
+                null,
+                "회원가입 완료",
+                getClientIpAddress(httpRequest),
+                httpRequest.getHeader("User-Agent")));
     }
 
     private String buildDescription(ActivityLogRequest request, HttpServletRequest httpRequest) {
@@ -110,12 +91,14 @@ public class ActivityLogService {
         return sb.toString();
     }
 
-    private User getCurrentUser() {
+    /**
+     * 인증된 사용자의 email (JWT principal 이름). 사용자 조회 없이 사용합니다.
+     */
+    private String getCurrentUserEmail() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.isAuthenticated()
                 && !"anonymousUser".equals(authentication.getPrincipal())) {
-            String email = authentication.getName();
-            return userRepository.findByEmail(email).orElse(null);
+            return authentication.getName();
         }
         return null;
     }
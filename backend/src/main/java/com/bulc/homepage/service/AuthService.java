@@ -4,9 +4,7 @@ import com.bulc.homepage.dto.request.LoginRequest;
 import com.bulc.homepage.dto.request.RefreshTokenRequest;
 import com.bulc.homepage.dto.request.SignupRequest;
 import com.bulc.homepage.dto.response.AuthResponse;
-import com.bulc.homepage.entity.ActivityLog;
 import com.bulc.homepage.entity.User;
-import com.bulc.homepage.repository.ActivityLogRepository;
 import com.bulc.homepage.repository.UserRepository;
 import com.bulc.homepage.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
@@ -25,7 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final ActivityLogRepository activityLogRepository;
+    private final ActivityLogIngestor activityLogIngestor;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
@@ -123,16 +121,13 @@ public class AuthService {
         }
     }
 
+    /**
+     * v1.1.3: 트랜잭션 종료 후 ActivityLogIngestor가 일괄 기록 (로그인 실패로 롤백되어도 기록 유지).
+     */
     private void saveActivityLog(String userEmail, String action, String targetType, Long targetId, String description) {
         try {
-            ActivityLog activityLog = ActivityLog.builder()
-                    .userEmail(userEmail)
-                    .action(action)
-                    .targetType(targetType)
-                    .targetId(targetId)
-                    .description(description)
-                    .build();
-            activityLogRepository.save(activityLog);
+            activityLogIngestor.record(ActivityLogEvent.of(
+                    userEmail, action, targetType, targetId, description, null, null));
         } catch (Exception e) {
             log.error("활동 로그 저장 실패: {}", e.getMessage());
         }
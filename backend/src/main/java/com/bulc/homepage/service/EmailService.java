@@ -24,6 +24,7 @@ public class EmailService {
 
     /**
      * 이메일 인증 코드 발송
+     * 호출 스레드에서 동기 발송하며, 실패 시 RuntimeException으로 호출자에게 알립니다.
      */
     public void sendVerificationEmail(String toEmail, String verificationCode) {
         if (!mailEnabled) {
@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.Random;
@@ -19,6 +20,7 @@ public class EmailVerificationService {
     private final EmailVerificationRepository emailVerificationRepository;
     private final UserRepository userRepository;
     private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
 
     private static final int CODE_LENGTH = 6;
     private static final int EXPIRATION_MINUTES = 10;
@@ -31,10 +33,29 @@ public class EmailVerificationService {
     }
 
     /**
-     * 인증 코드 생성 및 저장
+     * 인증 코드 생성 및 저장.
+     * v1.1.3: 코드를 커밋한 뒤 DB 커넥션을 반납한 상태에서 메일을 동기 발송합니다 (SMTP 지연 동안 커넥션 점유 방지).
+     * 발송에 실패하면 저장한 코드를 삭제하고 예외를 전파하여 호출자가 실패를 받고 다시 요청할 수 있게 합니다.
      */
-    @Transactional
     public String sendVerificationCode(String email) {
+        String code = transactionTemplate.execute(status -> saveVerificationCode(email));
+
+        log.info("인증 코드 발송 - 이메일: {}, 코드: {}", email, code);
+
+        // 실제 이메일 발송 (mail.enabled=true 시 발송)
+        try {
+            emailService.sendVerificationEmail(email, code);
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> emailVerificationRepository
+                    .findByEmailAndVerificationCode(email, code)
+                    .ifPresent(emailVerificationRepository::delete));
+            throw e;
+        }
+
+        return code; // 개발 단계에서는 코드 반환, 운영에서는 제거
+    }
+
+    private String saveVerificationCode(String email) {
         // 이메일 중복 체크
         if (userRepository.existsByEmail(email)) {
             throw new RuntimeException("이미 가입된 이메일입니다");
@@ -54,13 +75,7 @@ public class EmailVerificationService {
                 .build();
 
         emailVerificationRepository.save(verification);
-
-        log.info("인증 코드 발송 - 이메일: {}, 코드: {}", email, code);
-
-        // 실제 이메일 발송 (mail.enabled=true 시 발송)
-        emailService.sendVerificationEmail(email, code);
-
-        return code; // 개발 단계에서는 코드 반환, 운영에서는 제거
+        return code;
     }
 
     /**
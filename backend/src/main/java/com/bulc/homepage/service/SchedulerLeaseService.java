@@ -0,0 +1,83 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.repository.SchedulerLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 스케줄러 리더 lease 서비스.
+ *
+ * @Scheduled 작업을 여러 노드에서 실행해도 lease를 획득한 한 노드만 작업을 수행하도록 합니다.
+ * lease는 scheduler_leases 테이블의 행으로 관리되며 (DB 종류 무관),
+ * 노드가 비정상 종료되어도 leaseUntil이 지나면 다른 노드가 인계받습니다.
+ */
+@Slf4j
+@Service
+public class SchedulerLeaseService {
+
+    private final SchedulerLeaseRepository leaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+
+    public SchedulerLeaseService(SchedulerLeaseRepository leaseRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.leaseRepository = leaseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = resolveHostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * lease 획득 또는 연장 (별도 트랜잭션으로 즉시 커밋).
+     *
+     * @return 이 노드가 lease를 보유하게 되면 true
+     */
+    public boolean tryAcquire(String name, Duration leaseDuration) {
+        Instant now = Instant.now();
+        Instant leaseUntil = now.plus(leaseDuration);
+        try {
+            Integer updated = transactionTemplate.execute(status ->
+                    leaseRepository.tryAcquire(name, nodeId, leaseUntil, now));
+            if (updated != null && updated > 0) {
+                return true;
+            }
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> leaseRepository.existsById(name)))) {
+                return false;
+            }
+            // 최초 실행: lease 행 생성 (동시에 생성한 다른 노드가 있으면 키 중복으로 실패)
+            transactionTemplate.executeWithoutResult(status -> leaseRepository.insert(name, nodeId, leaseUntil));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("SchedulerLease[{}]: 다른 노드가 먼저 lease를 생성했습니다", name);
+            return false;
+        }
+    }
+
+    /**
+     * lease 반납. 다음 주기에 다른 노드가 바로 획득할 수 있습니다.
+     */
+    public void release(String name) {
+        transactionTemplate.executeWithoutResult(status -> leaseRepository.release(name, nodeId, Instant.now()));
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "node";
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.bulc.homepage.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AsyncConfig 실행기 단위 테스트 (v1.1.3).
+ */
+@DisplayName("AsyncConfig 테스트")
+class AsyncConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AsyncConfig asyncConfig = new AsyncConfig(meterRegistry, 5);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        SecurityContextHolder.clearContext();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("CALLER_RUNS: 스레드와 큐가 가득 차면 호출 스레드에서 실행하고 rejected 카운트")
+    void runsOnCallerWhenSaturated() throws Exception {
+        // given - 스레드 1개 + 큐 1개
+        executor = start("test-caller-runs", AsyncConfig.OverflowPolicy.CALLER_RUNS);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> { });
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+
+        // when
+        executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+        // then
+        assertThat(ranOn.get()).isSameAs(Thread.currentThread());
+        assertThat(gauge("async.executor.queue_depth", "test-caller-runs")).isEqualTo(1);
+        assertThat(gauge("async.executor.active_threads", "test-caller-runs")).isEqualTo(1);
+        assertThat(meterRegistry.get("async.executor.rejected").tag("pool", "test-caller-runs").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ABORT: 스레드와 큐가 가득 차면 TaskRejectedException")
+    void abortsWhenSaturated() {
+        // given
+        executor = start("test-abort", AsyncConfig.OverflowPolicy.ABORT);
+        executor.execute(() -> await(release));
+        executor.execute(() -> await(release));
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(TaskRejectedException.class);
+        assertThat(meterRegistry.get("async.executor.rejected").tag("pool", "test-abort").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("mvcAsyncExecutor: 장시간 작업이 코어 스레드를 점유해도 대기 없이 max-size까지 스레드를 늘림")
+    void mvcExecutorGrowsToMaxSizeWithoutQueueing() throws Exception {
+        // given - 코어 1, 최대 3
+        executor = asyncConfig.mvcAsyncExecutor(1, 3);
+        executor.initialize();
+        CountDownLatch started = new CountDownLatch(3);
+
+        // when - 끝나지 않는 작업 3개 (예: 장시간 export)
+        for (int i = 0; i < 3; i++) {
+            executor.execute(() -> {
+                started.countDown();
+                await(release);
+            });
+        }
+
+        // then - 세 작업 모두 바로 실행되고, 네 번째는 큐에 쌓이지 않고 거부
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(gauge("async.executor.queue_depth", "mvc")).isZero();
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(TaskRejectedException.class);
+    }
+
+    @Test
+    @DisplayName("제출 시점의 SecurityContext를 작업 스레드에 전달")
+    void propagatesSecurityContext() throws Exception {
+        // given
+        executor = start("test-context", AsyncConfig.OverflowPolicy.ABORT);
+        Authentication authentication = new UsernamePasswordAuthenticationToken("user@example.com", null, List.of());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        executor.execute(() -> {
+            seen.set(SecurityContextHolder.getContext().getAuthentication());
+            done.countDown();
+        });
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(seen.get()).isSameAs(authentication);
+    }
+
+    private ThreadPoolTaskExecutor start(String pool, AsyncConfig.OverflowPolicy policy) {
+        ThreadPoolTaskExecutor created = asyncConfig.boundedExecutor(pool, 1, 1, 1, policy);
+        created.initialize();
+        return created;
+    }
+
+    private double gauge(String name, String pool) {
+        return meterRegistry.get(name).tag("pool", pool).gauge().value();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
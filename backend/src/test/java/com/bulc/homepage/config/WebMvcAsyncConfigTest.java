@@ -0,0 +1,62 @@
+package com.bulc.homepage.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * WebMvcAsyncConfig 요청별 비동기 타임아웃 단위 테스트 (v1.1.3).
+ */
+@DisplayName("WebMvcAsyncConfig 테스트")
+class WebMvcAsyncConfigTest {
+
+    private final WebMvcAsyncConfig.RequestAsyncTimeoutInterceptor interceptor =
+            new WebMvcAsyncConfig.RequestAsyncTimeoutInterceptor();
+
+    @Test
+    @DisplayName("setAsyncTimeout으로 지정한 요청만 타임아웃을 덮어씀")
+    void appliesPerRequestTimeout() throws Exception {
+        // given
+        MockHttpServletRequest request = asyncRequest();
+        StandardServletAsyncWebRequest asyncWebRequest =
+                new StandardServletAsyncWebRequest(request, new MockHttpServletResponse());
+        asyncWebRequest.setTimeout(30_000L);
+        WebMvcAsyncConfig.setAsyncTimeout(request, Duration.ofMinutes(30));
+
+        // when
+        interceptor.beforeConcurrentHandling(asyncWebRequest, () -> null);
+        asyncWebRequest.startAsync();
+
+        // then
+        assertThat(request.getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+    }
+
+    @Test
+    @DisplayName("지정하지 않은 요청은 전역 기본 타임아웃 유지")
+    void keepsDefaultTimeoutOtherwise() throws Exception {
+        // given
+        MockHttpServletRequest request = asyncRequest();
+        StandardServletAsyncWebRequest asyncWebRequest =
+                new StandardServletAsyncWebRequest(request, new MockHttpServletResponse());
+        asyncWebRequest.setTimeout(30_000L);
+
+        // when
+        interceptor.beforeConcurrentHandling(asyncWebRequest, () -> null);
+        asyncWebRequest.startAsync();
+
+        // then
+        assertThat(request.getAsyncContext().getTimeout()).isEqualTo(30_000L);
+    }
+
+    private static MockHttpServletRequest asyncRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/licenses/export");
+        request.setAsyncSupported(true);
+        return request;
+    }
+}
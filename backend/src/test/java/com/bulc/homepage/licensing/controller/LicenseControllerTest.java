@@ -9,6 +9,8 @@ import com.bulc.homepage.licensing.service.LicenseService;
 import com.bulc.homepage.entity.User;
 import com.bulc.homepage.repository.UserRepository;
 import com.bulc.homepage.security.JwtTokenProvider;
+import com.bulc.homepage.security.RequestPrincipalHolder;
+import com.bulc.homepage.security.UserPrincipalCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -44,7 +46,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * LicenseService는 mock으로 처리하여 API 계약(contract)만 검증.
  */
 @WebMvcTest(LicenseController.class)
-@Import(LicenseExceptionHandler.class)
+@Import({LicenseExceptionHandler.class, RequestPrincipalHolder.class, UserPrincipalCache.class})
 class LicenseControllerTest {
 
     @Autowired
@@ -0,0 +1,73 @@
+package com.bulc.homepage.licensing.controller;
+
+import com.bulc.homepage.licensing.service.SessionTokenJwks;
+import com.bulc.homepage.licensing.service.SessionTokenKeyring;
+import com.bulc.homepage.repository.UserRepository;
+import com.bulc.homepage.security.JwtTokenProvider;
+import com.bulc.homepage.security.UserPrincipalCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * SessionTokenJwksController 슬라이스 테스트 (v1.1.3).
+ */
+@WebMvcTest(SessionTokenJwksController.class)
+@Import(UserPrincipalCache.class)
+@WithMockUser
+@DisplayName("GET /.well-known/jwks.json")
+class SessionTokenJwksControllerTest {
+
+    private static final String ETAG = "\"abc123\"";
+    private static final String BODY = "{\"keys\":[{\"kty\":\"OKP\",\"crv\":\"Ed25519\",\"x\":\"AAAA\",\"kid\":\"k1\"}]}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SessionTokenKeyring keyring;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        given(keyring.jwks()).willReturn(new SessionTokenJwks.Document(BODY.getBytes(StandardCharsets.UTF_8), ETAG));
+    }
+
+    @Test
+    @DisplayName("JWK Set을 ETag/Cache-Control과 함께 반환")
+    void shouldReturnJwksWithCachingHeaders() throws Exception {
+        mockMvc.perform(get("/.well-known/jwks.json"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, public"))
+                .andExpect(content().contentType("application/jwk-set+json"))
+                .andExpect(content().json(BODY));
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 일치하면 본문 없이 304 반환")
+    void shouldReturn304WhenEtagMatches() throws Exception {
+        mockMvc.perform(get("/.well-known/jwks.json").header(HttpHeaders.IF_NONE_MATCH, "W/" + ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(content().bytes(new byte[0]));
+    }
+}
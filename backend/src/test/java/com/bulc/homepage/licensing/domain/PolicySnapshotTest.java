@@ -0,0 +1,59 @@
+package com.bulc.homepage.licensing.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PolicySnapshot 테스트")
+class PolicySnapshotTest {
+
+    @Test
+    @DisplayName("JSON Map의 숫자 값을 한 번에 파싱")
+    void shouldParseValues() {
+        PolicySnapshot policy = PolicySnapshot.from(Map.of(
+                "maxActivations", 5,
+                "maxConcurrentSessions", 3L,
+                "gracePeriodDays", 14,
+                "sessionTtlMinutes", 30.0,
+                "allowOfflineDays", 10,
+                "entitlements", List.of("core-simulation", "export-pdf")
+        ));
+
+        assertThat(policy.maxActivations()).isEqualTo(5);
+        assertThat(policy.maxConcurrentSessions()).isEqualTo(3);
+        assertThat(policy.gracePeriodDays()).isEqualTo(14);
+        assertThat(policy.sessionTtlMinutes()).isEqualTo(30);
+        assertThat(policy.allowOfflineDays()).isEqualTo(10);
+        assertThat(policy.entitlementsOr(List.of("default"))).containsExactly("core-simulation", "export-pdf");
+    }
+
+    @Test
+    @DisplayName("키가 없으면 기본값, entitlements가 없으면 호출자 기본값 사용")
+    void shouldApplyDefaults() {
+        PolicySnapshot policy = PolicySnapshot.from(Map.of("maxActivations", 5));
+
+        assertThat(policy.maxActivations()).isEqualTo(5);
+        assertThat(policy.maxConcurrentSessions()).isEqualTo(PolicySnapshot.DEFAULT_MAX_CONCURRENT_SESSIONS);
+        assertThat(policy.gracePeriodDays()).isEqualTo(PolicySnapshot.DEFAULT_GRACE_PERIOD_DAYS);
+        assertThat(policy.sessionTtlMinutes()).isEqualTo(PolicySnapshot.DEFAULT_SESSION_TTL_MINUTES);
+        assertThat(policy.allowOfflineDays()).isEqualTo(PolicySnapshot.DEFAULT_ALLOW_OFFLINE_DAYS);
+        assertThat(policy.entitlementsOr(List.of("default"))).containsExactly("default");
+        assertThat(PolicySnapshot.from(null)).isSameAs(PolicySnapshot.DEFAULT);
+    }
+
+    @Test
+    @DisplayName("동일한 entitlements 목록은 같은 불변 인스턴스를 공유")
+    void shouldInternEntitlements() {
+        List<String> first = PolicySnapshot.from(Map.of("entitlements", new ArrayList<>(List.of("a", "b")))).entitlements();
+        List<String> second = PolicySnapshot.from(Map.of("entitlements", new ArrayList<>(List.of("a", "b")))).entitlements();
+
+        assertThat(second).isSameAs(first);
+        assertThatThrownBy(() -> first.add("c")).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,109 @@
+package com.bulc.homepage.licensing.integration;
+
+import com.bulc.homepage.licensing.domain.*;
+import com.bulc.homepage.licensing.dto.*;
+import com.bulc.homepage.licensing.repository.ActivationRepository;
+import com.bulc.homepage.licensing.repository.LicenseRepository;
+import com.bulc.homepage.licensing.service.LicenseService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 일괄 Heartbeat 기록 경로 테스트 (write-behind 버퍼 비활성화).
+ *
+ * 버퍼가 꺼져 있으면 활성 세션의 lastSeenAt이 요청 트랜잭션 안에서 JDBC batch로 즉시 반영되므로,
+ * 같은 행을 엔티티로도 변경하면 커밋 시 flush가 JDBC 갱신을 덮어쓴다.
+ * 커밋 후 DB 값을 확인해야 하므로 @Transactional 없이 실행하고, 테스트 후 생성한 라이선스를 삭제한다.
+ */
+@SpringBootTest(properties = "bulc.licensing.heartbeat-buffer.enabled=false")
+@ActiveProfiles("test")
+class HeartbeatBatchWritePathTest {
+
+    @Autowired
+    private LicenseService licenseService;
+
+    @Autowired
+    private LicenseRepository licenseRepository;
+
+    @Autowired
+    private ActivationRepository activationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID productId = UUID.randomUUID();
+    private UUID licenseId;
+
+    @BeforeEach
+    void setUp() {
+        LicenseResponse license = licenseService.issueLicense(new LicenseIssueRequest(
+                OwnerType.USER,
+                userId,
+                productId,
+                null,
+                LicenseType.SUBSCRIPTION,
+                UsageCategory.COMMERCIAL,
+                Instant.now(),
+                Instant.now().plus(365, ChronoUnit.DAYS),
+                Map.of(
+                        "maxActivations", 2,
+                        "maxConcurrentSessions", 2,
+                        "sessionTtlMinutes", 60,
+                        "entitlements", List.of("core-simulation")
+                ),
+                null
+        ));
+        licenseId = license.id();
+
+        for (String device : List.of("device-reuse", "device-resign")) {
+            ValidationResponse response = licenseService.validateAndActivateByUser(userId, new ValidateRequest(
+                    null, productId, licenseId, device, "1.0.0", "Windows", null));
+            assertThat(response.valid()).isTrue();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        licenseRepository.deleteById(licenseId);
+    }
+
+    @Test
+    @DisplayName("오프라인 토큰 재서명이 필요한 기기도 커밋 후 last_seen_at/클라이언트 정보가 앞으로 이동")
+    void batchHeartbeatShouldAdvanceLastSeenAtForEveryEntry() {
+        // given - 두 기기 모두 세션 TTL 이내, device-resign은 오프라인 토큰이 없어 재서명 필요
+        Instant fiveMinutesAgo = Instant.now().minus(5, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.MILLIS);
+        jdbcTemplate.update("UPDATE license_activations SET last_seen_at = ? WHERE license_id = ?",
+                Timestamp.from(fiveMinutesAgo), licenseId);
+        jdbcTemplate.update("UPDATE license_activations SET offline_token = NULL, offline_token_expires_at = NULL "
+                + "WHERE license_id = ? AND device_fingerprint = 'device-resign'", licenseId);
+
+        // when
+        BatchHeartbeatResponse response = licenseService.heartbeatBatchByUser(userId, new BatchHeartbeatRequest(List.of(
+                new BatchHeartbeatRequest.Entry(licenseId, "device-reuse", "2.0.0", "Windows 11"),
+                new BatchHeartbeatRequest.Entry(licenseId, "device-resign", "2.0.0", "Windows 11")
+        )));
+
+        // then
+        assertThat(response.results()).allSatisfy(r -> assertThat(r.result().valid()).isTrue());
+        for (String device : List.of("device-reuse", "device-resign")) {
+            Activation activation = activationRepository.findByLicenseIdAndDeviceFingerprint(licenseId, device)
+                    .orElseThrow();
+            assertThat(activation.getLastSeenAt()).as(device).isAfter(fiveMinutesAgo);
+            assertThat(activation.getClientVersion()).as(device).isEqualTo("2.0.0");
+            assertThat(activation.getOfflineToken()).as(device).isNotNull();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.bulc.homepage.licensing.integration;
+
+import com.bulc.homepage.licensing.domain.*;
+import com.bulc.homepage.licensing.dto.*;
+import com.bulc.homepage.licensing.exception.LicenseException;
+import com.bulc.homepage.licensing.repository.ActivationRepository;
+import com.bulc.homepage.licensing.repository.LicenseRepository;
+import com.bulc.homepage.licensing.service.LicenseService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Heartbeat fast path 동시성 테스트.
+ *
+ * 스레드 간 락 경합을 재현해야 하므로 @Transactional 없이 실제 커밋된 데이터로 테스트하고,
+ * 다른 통합 테스트에 영향이 없도록 테스트 후 생성한 라이선스를 삭제한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class HeartbeatConcurrencyTest {
+
+    @Autowired
+    private LicenseService licenseService;
+
+    @Autowired
+    private LicenseRepository licenseRepository;
+
+    @Autowired
+    private ActivationRepository activationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private static final int DEVICE_COUNT = 4;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID productId = UUID.randomUUID();
+    private UUID licenseId;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        LicenseResponse license = licenseService.issueLicense(new LicenseIssueRequest(
+                OwnerType.USER,
+                userId,
+                productId,
+                null,
+                LicenseType.SUBSCRIPTION,
+                UsageCategory.COMMERCIAL,
+                Instant.now(),
+                Instant.now().plus(365, ChronoUnit.DAYS),
+                Map.of(
+                        "maxActivations", DEVICE_COUNT,
+                        "maxConcurrentSessions", DEVICE_COUNT,
+                        "sessionTtlMinutes", 60,
+                        "entitlements", List.of("core-simulation")
+                ),
+                null
+        ));
+        licenseId = license.id();
+
+        for (int i = 0; i < DEVICE_COUNT; i++) {
+            ValidationResponse response = licenseService.validateAndActivateByUser(userId, request("device-" + i));
+            assertThat(response.valid()).isTrue();
+        }
+
+        executor = Executors.newFixedThreadPool(DEVICE_COUNT + 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        licenseRepository.deleteById(licenseId);
+    }
+
+    @Test
+    @DisplayName("라이선스 행이 PESSIMISTIC_WRITE로 잠겨 있어도 ACTIVE 기기의 heartbeat은 대기 없이 완료")
+    void heartbeatShouldNotWaitForLicenseRowLock() throws Exception {
+        // given - 다른 트랜잭션이 라이선스 행 락을 보유
+        CountDownLatch lockAcquired = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        Future<?> lockHolder = executor.submit(() -> tx.executeWithoutResult(status -> {
+            licenseRepository.findByIdWithLock(licenseId).orElseThrow();
+            lockAcquired.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(lockAcquired.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - 락이 해제되기 전에 heartbeat 수행
+        Future<ValidationResponse> heartbeat = executor.submit(
+                () -> licenseService.heartbeatByUser(userId, request("device-0")));
+
+        // then - 락 보유 트랜잭션이 끝나기 전에 성공해야 함
+        ValidationResponse response = heartbeat.get(5, TimeUnit.SECONDS);
+        assertThat(response.valid()).isTrue();
+        assertThat(response.licenseId()).isEqualTo(licenseId);
+
+        release.countDown();
+        lockHolder.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("같은 라이선스의 여러 기기 heartbeat이 동시에 모두 성공")
+    void concurrentHeartbeatsOnSameLicenseShouldAllSucceed() throws Exception {
+        // given
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ValidationResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < DEVICE_COUNT; i++) {
+            String device = "device-" + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return licenseService.heartbeatByUser(userId, request(device));
+            }));
+        }
+
+        // when
+        start.countDown();
+
+        // then
+        for (Future<ValidationResponse> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS).valid()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("오프라인 토큰 재서명이 필요한 heartbeat은 동시에 커밋된 비활성화를 되돌리지 않음")
+    void heartbeatShouldNotUndoConcurrentDeactivation() throws Exception {
+        // given - device-0의 오프라인 토큰이 무효화되어 heartbeat 시 재서명 필요
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Activation device = activationRepository.findByLicenseIdAndDeviceFingerprint(licenseId, "device-0")
+                .orElseThrow();
+        tx.executeWithoutResult(status -> activationRepository.revokeOfflineToken(device.getId(), Instant.now()));
+
+        // 다른 트랜잭션이 라이선스 락을 잡고 device-0을 비활성화 (아직 커밋 전)
+        CountDownLatch deactivated = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> deactivator = executor.submit(() -> tx.executeWithoutResult(status -> {
+            licenseRepository.findByIdWithLock(licenseId).orElseThrow();
+            Activation activation = activationRepository.findById(device.getId()).orElseThrow();
+            activation.deactivate("FORCE_VALIDATE");
+            activationRepository.saveAndFlush(activation);
+            deactivated.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(deactivated.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - 비활성화 전 상태(ACTIVE)를 읽은 heartbeat이 진행되는 도중 비활성화가 커밋됨
+        Future<ValidationResponse> heartbeat = executor.submit(
+                () -> licenseService.heartbeatByUser(userId, request("device-0")));
+        Thread.sleep(200);
+        release.countDown();
+        deactivator.get(5, TimeUnit.SECONDS);
+
+        // then - heartbeat은 락 경로에서 비활성화를 관측하고, 행은 DEACTIVATED로 남음
+        assertThatThrownBy(() -> heartbeat.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(LicenseException.class);
+        Activation reloaded = activationRepository.findById(device.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(ActivationStatus.DEACTIVATED);
+        assertThat(reloaded.getOfflineToken()).isNull();
+    }
+
+    private ValidateRequest request(String deviceFingerprint) {
+        return new ValidateRequest(null, productId, licenseId, deviceFingerprint, "1.0.0", "Windows", null);
+    }
+}
@@ -0,0 +1,95 @@
+package com.bulc.homepage.licensing.integration;
+
+import com.bulc.homepage.licensing.domain.*;
+import com.bulc.homepage.licensing.dto.ValidateRequest;
+import com.bulc.homepage.licensing.dto.ValidationResponse;
+import com.bulc.homepage.licensing.repository.LicenseRepository;
+import com.bulc.homepage.licensing.service.LicenseService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검증 경로 SQL 문 수 테스트.
+ *
+ * 활성화 이력이 많은 라이선스에서도 validate가 이력 전체를 로드하지 않고
+ * 정해진 수 이하의 SQL 문만 실행하는지 Hibernate Statistics로 확인.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("검증 경로 SQL 문 수 테스트")
+class ValidationStatementCountTest {
+
+    // 라이선스 락 조회 + 검증 상태 조회 + 제품 코드 조회(캐시 미스) + 활성화 UPDATE
+    private static final long MAX_STATEMENTS = 4;
+    private static final int HISTORICAL_ACTIVATIONS = 50;
+
+    @Autowired
+    private LicenseService licenseService;
+
+    @Autowired
+    private LicenseRepository licenseRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("활성화 이력이 많아도 재검증은 최대 N개의 SQL 문으로 처리")
+    void shouldValidateWithBoundedStatements() {
+        // given - 비활성화 이력 50건 + 현재 기기 활성화
+        UUID ownerId = UUID.randomUUID();
+        UUID productId = UUID.randomUUID();
+        License license = License.builder()
+                .ownerType(OwnerType.USER)
+                .ownerId(ownerId)
+                .productId(productId)
+                .licenseType(LicenseType.SUBSCRIPTION)
+                .validFrom(Instant.now().minus(30, ChronoUnit.DAYS))
+                .validUntil(Instant.now().plus(365, ChronoUnit.DAYS))
+                .policySnapshot(Map.of("maxActivations", 100, "maxConcurrentSessions", 5))
+                .build();
+        license.activate();
+        for (int i = 0; i < HISTORICAL_ACTIVATIONS; i++) {
+            license.addActivation("old-device-" + i, "1.0.0", "Windows", null).deactivate("USER_REQUEST");
+        }
+        licenseRepository.saveAndFlush(license);
+
+        ValidateRequest request = new ValidateRequest(
+                null, productId, license.getId(), "main-device", "1.0.0", "Windows", null);
+        licenseService.validateAndActivateByUser(ownerId, request);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        statistics.clear();
+        ValidationResponse response = licenseService.validateAndActivateByUser(ownerId, request);
+        entityManager.flush();
+
+        // then
+        assertThat(response.valid()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+        assertThat(statistics.getEntityLoadCount()).isLessThan(HISTORICAL_ACTIVATIONS);
+    }
+}
@@ -0,0 +1,95 @@
+package com.bulc.homepage.licensing.query;
+
+import com.bulc.homepage.licensing.domain.*;
+import com.bulc.homepage.licensing.query.view.ActivationView;
+import com.bulc.homepage.licensing.query.view.LicenseExportRow;
+import com.bulc.homepage.licensing.query.view.LicenseExportView;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LicenseExportService 테스트")
+class LicenseExportServiceTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Mock
+    private LicenseQueryRepository queryRepository;
+
+    private LicenseExportService exportService;
+
+    private final LicenseExportView licenseA = license("KEY-A");
+    private final LicenseExportView licenseB = license("KEY-B");
+
+    @BeforeEach
+    void setUp() {
+        exportService = new LicenseExportService(queryRepository, OBJECT_MAPPER);
+        // 라이선스 A: 활성화 2건, 라이선스 B: 활성화 없음
+        given(queryRepository.streamForExport(any())).willReturn(Stream.of(
+                new LicenseExportRow(licenseA, activation("device-1")),
+                new LicenseExportRow(licenseA, activation("=cmd|calc, \"x\"")),
+                new LicenseExportRow(licenseB, null)));
+    }
+
+    @Test
+    @DisplayName("NDJSON: 라이선스당 한 줄, 연속된 활성화 행을 activations로 묶음")
+    void ndjsonGroupsActivationsPerLicense() throws Exception {
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = exportService.export(LicenseSearchCond.builder().build(), LicenseExportService.Format.NDJSON, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(written).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        JsonNode first = OBJECT_MAPPER.readTree(lines[0]);
+        assertThat(first.get("licenseKey").asText()).isEqualTo("KEY-A");
+        assertThat(first.get("activations")).hasSize(2);
+        assertThat(OBJECT_MAPPER.readTree(lines[1]).get("activations")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("CSV: 활성화당 한 줄, 특수문자 이스케이프 및 수식 주입 방지")
+    void csvWritesOneRowPerActivation() throws Exception {
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = exportService.export(LicenseSearchCond.builder().build(), LicenseExportService.Format.CSV, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(written).isEqualTo(3);
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).startsWith("license_id,license_key,");
+        assertThat(lines[2]).contains(",\"'=cmd|calc, \"\"x\"\"\",");
+        assertThat(lines[3]).contains("KEY-B").endsWith(",,,,,,");
+    }
+
+    private static LicenseExportView license(String key) {
+        return new LicenseExportView(UUID.randomUUID(), key, LicenseStatus.ACTIVE, LicenseType.SUBSCRIPTION,
+                UsageCategory.COMMERCIAL, OwnerType.USER, UUID.randomUUID(), UUID.randomUUID(), null,
+                Instant.now(), null, Instant.now(), List.of());
+    }
+
+    private static ActivationView activation(String fingerprint) {
+        return new ActivationView(UUID.randomUUID(), fingerprint, ActivationStatus.ACTIVE,
+                Instant.now(), Instant.now(), "1.0.0", "Windows 11");
+    }
+}
@@ -1,9 +1,14 @@
 package com.bulc.homepage.licensing.query;
 
 import com.bulc.homepage.licensing.domain.*;
+import com.bulc.homepage.licensing.dto.MyLicenseView;
 import com.bulc.homepage.licensing.query.view.LicenseDetailView;
+import com.bulc.homepage.licensing.query.view.LicenseExportRow;
 import com.bulc.homepage.licensing.query.view.LicenseSummaryView;
+import com.bulc.homepage.licensing.query.view.MyLicensesVersion;
 import com.bulc.homepage.licensing.repository.LicenseRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,10 +22,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -36,6 +43,9 @@ class LicenseQueryRepositoryTest {
     @Autowired
     private LicenseQueryRepository queryRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private UUID userId;
     private UUID productId;
     private License activeLicense;
@@ -174,6 +184,21 @@ class LicenseQueryRepositoryTest {
             assertThat(activeView.usedActivations()).isEqualTo(1);
             assertThat(activeView.maxActivations()).isEqualTo(3);
         }
+
+        @Test
+        @DisplayName("v1.1.3: 요약 조회는 엔티티를 영속성 컨텍스트에 로드하지 않음")
+        void doesNotHydrateEntities() {
+            // given
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            List<LicenseSummaryView> result = queryRepository.findByOwner(OwnerType.USER, userId);
+
+            // then
+            assertThat(result).hasSize(2);
+            assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+        }
     }
 
     @Nested
@@ -228,6 +253,43 @@ class LicenseQueryRepositoryTest {
             assertThat(result.getTotalElements()).isGreaterThanOrEqualTo(1);
         }
 
+        @Test
+        @DisplayName("라이선스 키 검색은 대소문자/구분자를 무시")
+        void byLicenseKeyNormalized() {
+            // given - "TEST-KEY-ABCD1234" → "key abcd"
+            String suffix = activeLicense.getLicenseKey().substring("TEST-KEY-".length(), "TEST-KEY-".length() + 4);
+            LicenseSearchCond cond = LicenseSearchCond.builder()
+                    .ownerId(userId)
+                    .licenseKey("key " + suffix.toLowerCase())
+                    .build();
+
+            // when
+            Page<LicenseSummaryView> result = queryRepository.search(cond, PageRequest.of(0, 10));
+
+            // then
+            assertThat(result.getContent()).extracting(LicenseSummaryView::id)
+                    .containsExactly(activeLicense.getId());
+        }
+
+        @Test
+        @DisplayName("PREFIX 모드는 키 앞부분만 일치")
+        void byLicenseKeyPrefix() {
+            // given
+            LicenseSearchCond.Builder builder = LicenseSearchCond.builder()
+                    .ownerId(userId)
+                    .licenseKeyMatch(LicenseSearchCond.LicenseKeyMatch.PREFIX);
+
+            // when
+            Page<LicenseSummaryView> prefix = queryRepository.search(
+                    builder.licenseKey("test-key").build(), PageRequest.of(0, 10));
+            Page<LicenseSummaryView> middle = queryRepository.search(
+                    builder.licenseKey("KEY-").build(), PageRequest.of(0, 10));
+
+            // then
+            assertThat(prefix.getTotalElements()).isEqualTo(1);
+            assertThat(middle.getTotalElements()).isZero();
+        }
+
         @Test
         @DisplayName("복합 조건 검색")
         void multipleConditions() {
@@ -296,4 +358,192 @@ class LicenseQueryRepositoryTest {
             assertThat(result.getTotalElements()).isEqualTo(2);
         }
     }
+
+    @Nested
+    @DisplayName("searchByCursor")
+    class SearchByCursor {
+
+        @Test
+        @DisplayName("커서로 다음 페이지 조회 - 중복/누락 없이 최신순")
+        void pagesWithoutOverlap() {
+            // given - 추가 라이선스 3건 (기존 2건 포함 5건)
+            for (int i = 0; i < 3; i++) {
+                License license = License.builder()
+                        .ownerType(OwnerType.USER)
+                        .ownerId(userId)
+                        .productId(UUID.randomUUID())
+                        .planId(UUID.randomUUID())
+                        .licenseType(LicenseType.SUBSCRIPTION)
+                        .policySnapshot(Map.of("maxActivations", 1))
+                        .build();
+                license.activate();
+                licenseRepository.save(license);
+            }
+
+            LicenseSearchCond cond = LicenseSearchCond.builder()
+                    .ownerType(OwnerType.USER)
+                    .ownerId(userId)
+                    .build();
+
+            // when
+            CursorPage<LicenseSummaryView> page1 = queryRepository.searchByCursor(cond, null, 2, true);
+            CursorPage<LicenseSummaryView> page2 = queryRepository.searchByCursor(cond, page1.nextCursor(), 2, false);
+            CursorPage<LicenseSummaryView> page3 = queryRepository.searchByCursor(cond, page2.nextCursor(), 2, false);
+
+            // then
+            assertThat(page1.totalElements()).isEqualTo(5);
+            assertThat(page2.totalElements()).isNull();
+            assertThat(page1.content()).hasSize(2);
+            assertThat(page2.content()).hasSize(2);
+            assertThat(page3.content()).hasSize(1);
+            assertThat(page3.hasNext()).isFalse();
+
+            List<UUID> ids = new ArrayList<>();
+            List.of(page1, page2, page3).forEach(page -> page.content().forEach(v -> ids.add(v.id())));
+            assertThat(ids).doesNotHaveDuplicates().hasSize(5)
+                    .contains(activeLicense.getId(), expiredLicense.getId());
+        }
+
+        @Test
+        @DisplayName("페이지의 활성화 수도 함께 계산")
+        void includesActivationCounts() {
+            // given
+            LicenseSearchCond cond = LicenseSearchCond.builder()
+                    .status(LicenseStatus.ACTIVE)
+                    .build();
+
+            // when
+            CursorPage<LicenseSummaryView> page = queryRepository.searchByCursor(cond, null, 10, false);
+
+            // then
+            assertThat(page.content()).hasSize(1);
+            assertThat(page.content().get(0).usedActivations()).isEqualTo(1);
+            assertThat(page.hasNext()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("streamForExport")
+    class StreamForExport {
+
+        @Test
+        @DisplayName("라이선스 LEFT JOIN 활성화 행을 스트림으로 반환 (활성화 없는 라이선스 포함)")
+        void streamsLicensesWithActivations() {
+            // given
+            LicenseSearchCond cond = LicenseSearchCond.builder()
+                    .ownerType(OwnerType.USER)
+                    .ownerId(userId)
+                    .build();
+
+            // when
+            List<LicenseExportRow> rows;
+            try (Stream<LicenseExportRow> stream = queryRepository.streamForExport(cond)) {
+                rows = stream.toList();
+            }
+
+            // then
+            assertThat(rows).hasSize(2);
+            LicenseExportRow activeRow = rows.stream()
+                    .filter(r -> r.license().id().equals(activeLicense.getId()))
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(activeRow.activation().deviceFingerprint()).isEqualTo("device-1");
+            assertThat(rows).anyMatch(r -> r.license().id().equals(expiredLicense.getId()) && r.activation() == null);
+        }
+    }
+
+    @Nested
+    @DisplayName("findMyLicenses")
+    class FindMyLicenses {
+
+        @Test
+        @DisplayName("사용자 라이선스를 엔티티 로드 없이 반환")
+        void returnsViewsWithoutHydratingEntities() {
+            // given
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            List<MyLicenseView> result = queryRepository.findMyLicenses(userId, null, null);
+
+            // then
+            assertThat(result).extracting(MyLicenseView::id)
+                    .containsExactlyInAnyOrder(expiredLicense.getId(), activeLicense.getId());
+            MyLicenseView active = result.stream()
+                    .filter(v -> v.id().equals(activeLicense.getId()))
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(active.usedActivations()).isEqualTo(1);
+            assertThat(active.maxActivations()).isEqualTo(3);
+            assertThat(active.entitlements()).containsExactly("core", "export");
+            assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("상태 필터 적용")
+        void filtersByStatus() {
+            // when
+            List<MyLicenseView> result = queryRepository.findMyLicenses(userId, null, LicenseStatus.SUSPENDED);
+
+            // then
+            assertThat(result).extracting(MyLicenseView::id).containsExactly(expiredLicense.getId());
+        }
+
+        @Test
+        @DisplayName("활성화가 바뀌면 버전(ETag)이 바뀜")
+        void versionChangesWhenActivationsChange() {
+            // given
+            entityManager.flush();
+            MyLicensesVersion before = queryRepository.findMyLicensesVersion(userId, null, null);
+
+            // when
+            activeLicense.addActivation("device-2", "1.0.0", "macOS", "192.168.1.2");
+            entityManager.flush();
+            MyLicensesVersion after = queryRepository.findMyLicensesVersion(userId, null, null);
+
+            // then
+            assertThat(before.licenseCount()).isEqualTo(2);
+            assertThat(before.usedActivations()).isEqualTo(1);
+            assertThat(after.usedActivations()).isEqualTo(2);
+            assertThat(after.etag()).isNotEqualTo(before.etag());
+            assertThat(queryRepository.findMyLicensesVersion(userId, null, null).etag()).isEqualTo(after.etag());
+        }
+
+        @Test
+        @DisplayName("heartbeat(lastSeenAt/클라이언트 정보/활성화 updatedAt 변경)만으로는 버전(ETag)이 바뀌지 않음")
+        void versionIgnoresHeartbeats() {
+            // given
+            entityManager.flush();
+            MyLicensesVersion before = queryRepository.findMyLicensesVersion(userId, null, null);
+
+            // when - 응답에 나타나지 않는 활성화 컬럼만 변경
+            entityManager.createQuery("UPDATE Activation a SET a.lastSeenAt = :now, a.updatedAt = :now, "
+                            + "a.clientVersion = '9.9.9' WHERE a.license.id = :licenseId")
+                    .setParameter("now", Instant.now().plusSeconds(60))
+                    .setParameter("licenseId", activeLicense.getId())
+                    .executeUpdate();
+
+            // then
+            assertThat(queryRepository.findMyLicensesVersion(userId, null, null).etag()).isEqualTo(before.etag());
+        }
+
+        @Test
+        @DisplayName("활성화가 비활성화되면(사용 중 활성화 수 변화) 버전(ETag)이 바뀜")
+        void versionChangesWhenActivationDeactivated() {
+            // given
+            entityManager.flush();
+            MyLicensesVersion before = queryRepository.findMyLicensesVersion(userId, null, null);
+
+            // when
+            entityManager.createQuery("UPDATE Activation a SET a.status = :status WHERE a.license.id = :licenseId")
+                    .setParameter("status", ActivationStatus.DEACTIVATED)
+                    .setParameter("licenseId", activeLicense.getId())
+                    .executeUpdate();
+
+            // then
+            MyLicensesVersion after = queryRepository.findMyLicensesVersion(userId, null, null);
+            assertThat(after.usedActivations()).isZero();
+            assertThat(after.etag()).isNotEqualTo(before.etag());
+        }
+    }
 }
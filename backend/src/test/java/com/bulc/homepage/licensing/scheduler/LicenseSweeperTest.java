@@ -0,0 +1,178 @@
+package com.bulc.homepage.licensing.scheduler;
+
+import com.bulc.homepage.licensing.domain.*;
+import com.bulc.homepage.licensing.repository.ActivationRepository;
+import com.bulc.homepage.licensing.repository.LicenseRepository;
+import com.bulc.homepage.licensing.service.ActivationHeartbeatBuffer;
+import com.bulc.homepage.service.SchedulerLeaseService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * LicenseSweeper 통합 테스트.
+ * chunk-size를 작게 두어 keyset 페이지네이션이 여러 chunk에 걸쳐 동작하는지 확인.
+ */
+@SpringBootTest(properties = "bulc.licensing.sweeper.chunk-size=2")
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("LicenseSweeper 통합 테스트")
+class LicenseSweeperTest {
+
+    @Autowired
+    private LicenseSweeper sweeper;
+
+    @Autowired
+    private LicenseRepository licenseRepository;
+
+    @Autowired
+    private ActivationRepository activationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ActivationHeartbeatBuffer heartbeatBuffer;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("장기 미접속 활성화만 여러 chunk에 걸쳐 STALE 처리")
+    void shouldMarkStaleActivationsAcrossChunks() {
+        // given - 오래된 기기 5대 + 최근 기기 1대
+        License license = createLicense(Instant.now().plus(365, ChronoUnit.DAYS));
+        for (int i = 0; i < 5; i++) {
+            Activation old = license.addActivation("old-device-" + i, "1.0.0", "Windows", null);
+            ReflectionTestUtils.setField(old, "lastSeenAt", Instant.now().minus(40, ChronoUnit.DAYS));
+        }
+        license.addActivation("recent-device", "1.0.0", "Windows", null);
+        licenseRepository.saveAndFlush(license);
+
+        // when
+        int updated = sweeper.sweepStaleActivations(Instant.now());
+        entityManager.clear();
+
+        // then
+        assertThat(updated).isGreaterThanOrEqualTo(5);
+        List<Activation> activations = activationRepository.findByLicenseId(license.getId());
+        assertThat(activations)
+                .filteredOn(a -> a.getDeviceFingerprint().startsWith("old-device-"))
+                .extracting(Activation::getStatus)
+                .containsOnly(ActivationStatus.STALE);
+        assertThat(activations)
+                .filteredOn(a -> a.getDeviceFingerprint().equals("recent-device"))
+                .extracting(Activation::getStatus)
+                .containsOnly(ActivationStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("유예기간이 끝난 라이선스는 EXPIRED_HARD + 활성화 EXPIRED, 유예기간 중이면 EXPIRED_GRACE")
+    void shouldApplyLicenseExpiry() {
+        // given
+        License hardExpired = createLicense(Instant.now().minus(30, ChronoUnit.DAYS));
+        hardExpired.addActivation("device-1", "1.0.0", "Windows", null);
+        License inGrace = createLicense(Instant.now().minus(1, ChronoUnit.DAYS));
+        License valid = createLicense(Instant.now().plus(30, ChronoUnit.DAYS));
+        licenseRepository.saveAll(List.of(hardExpired, inGrace, valid));
+        licenseRepository.flush();
+
+        // when
+        sweeper.sweepExpiredLicenses(Instant.now());
+        entityManager.clear();
+
+        // then
+        assertThat(licenseRepository.findById(hardExpired.getId()).orElseThrow().getStatus())
+                .isEqualTo(LicenseStatus.EXPIRED_HARD);
+        assertThat(activationRepository.findByLicenseId(hardExpired.getId()))
+                .extracting(Activation::getStatus)
+                .containsOnly(ActivationStatus.EXPIRED);
+        assertThat(licenseRepository.findById(inGrace.getId()).orElseThrow().getStatus())
+                .isEqualTo(LicenseStatus.EXPIRED_GRACE);
+        assertThat(licenseRepository.findById(valid.getId()).orElseThrow().getStatus())
+                .isEqualTo(LicenseStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("직접 호출은 여러 chunk를 처리해도 lease를 획득/연장하지 않음")
+    void directSweepShouldNotTouchLease() {
+        // given
+        SchedulerLeaseService leaseService = mock(SchedulerLeaseService.class);
+        LicenseSweeper directSweeper = sweeper(leaseService);
+        createStaleActivations(5);
+
+        // when
+        directSweeper.sweepStaleActivations(Instant.now());
+        directSweeper.sweepExpiredLicenses(Instant.now());
+
+        // then
+        verify(leaseService, never()).tryAcquire(anyString(), any());
+        verify(leaseService, never()).release(anyString());
+    }
+
+    @Test
+    @DisplayName("스케줄 실행은 획득한 lease를 chunk마다 연장하고 종료 시 반납")
+    void scheduledSweepShouldRenewAndReleaseLease() {
+        // given
+        SchedulerLeaseService leaseService = mock(SchedulerLeaseService.class);
+        given(leaseService.tryAcquire(eq(LicenseSweeper.LEASE_NAME), any(Duration.class))).willReturn(true);
+        LicenseSweeper scheduledSweeper = sweeper(leaseService);
+        createStaleActivations(5);
+
+        // when
+        scheduledSweeper.sweep();
+
+        // then - 최초 획득 1회 + chunk 사이 연장
+        verify(leaseService, atLeast(2)).tryAcquire(eq(LicenseSweeper.LEASE_NAME), any(Duration.class));
+        verify(leaseService).release(LicenseSweeper.LEASE_NAME);
+    }
+
+    private LicenseSweeper sweeper(SchedulerLeaseService leaseService) {
+        return new LicenseSweeper(licenseRepository, activationRepository, heartbeatBuffer, leaseService,
+                new SimpleMeterRegistry(), transactionManager, true, 2, 30, 300);
+    }
+
+    private void createStaleActivations(int count) {
+        License license = createLicense(Instant.now().plus(365, ChronoUnit.DAYS));
+        for (int i = 0; i < count; i++) {
+            Activation old = license.addActivation("old-device-" + i, "1.0.0", "Windows", null);
+            ReflectionTestUtils.setField(old, "lastSeenAt", Instant.now().minus(40, ChronoUnit.DAYS));
+        }
+        licenseRepository.saveAndFlush(license);
+    }
+
+    private License createLicense(Instant validUntil) {
+        License license = License.builder()
+                .ownerType(OwnerType.USER)
+                .ownerId(UUID.randomUUID())
+                .productId(UUID.randomUUID())
+                .licenseType(LicenseType.SUBSCRIPTION)
+                .validFrom(Instant.now().minus(60, ChronoUnit.DAYS))
+                .validUntil(validUntil)
+                .policySnapshot(Map.of("maxActivations", 10, "gracePeriodDays", 7))
+                .build();
+        license.activate();
+        return license;
+    }
+}
@@ -0,0 +1,179 @@
+package com.bulc.homepage.licensing.scheduler;
+
+import com.bulc.homepage.licensing.domain.*;
+import com.bulc.homepage.licensing.repository.ActivationRepository;
+import com.bulc.homepage.licensing.repository.LicenseRepository;
+import com.bulc.homepage.licensing.service.OfflineTokenSigner;
+import com.bulc.homepage.service.SchedulerLeaseService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * OfflineTokenRefresher 통합 테스트.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("OfflineTokenRefresher 통합 테스트")
+class OfflineTokenRefresherTest {
+
+    @Autowired
+    private OfflineTokenRefresher refresher;
+
+    @Autowired
+    private LicenseRepository licenseRepository;
+
+    @Autowired
+    private ActivationRepository activationRepository;
+
+    @Autowired
+    private SchedulerLeaseService leaseService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("만료 임박 토큰만 재서명하고 여유 있는 토큰은 그대로 둠")
+    void shouldRefreshOnlyTokensNearExpiry() {
+        // given - 1일 후 만료 토큰 1개, 20일 후 만료 토큰 1개
+        License license = createLicense();
+        Activation expiring = license.addActivation("expiring-device", "1.0.0", "Windows", null);
+        expiring.issueOfflineToken("old-token", Instant.now().plus(1, ChronoUnit.DAYS));
+        Activation fresh = license.addActivation("fresh-device", "1.0.0", "Windows", null);
+        fresh.issueOfflineToken("fresh-token", Instant.now().plus(20, ChronoUnit.DAYS));
+        licenseRepository.saveAndFlush(license);
+
+        // when
+        int refreshed = refresher.refresh(Instant.now());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(refreshed).isGreaterThanOrEqualTo(1);
+        Activation reloadedExpiring = activationRepository.findById(expiring.getId()).orElseThrow();
+        assertThat(reloadedExpiring.getOfflineToken()).isNotEqualTo("old-token");
+        assertThat(reloadedExpiring.getOfflineTokenExpiresAt()).isAfter(Instant.now().plus(29, ChronoUnit.DAYS));
+        assertThat(activationRepository.findById(fresh.getId()).orElseThrow().getOfflineToken())
+                .isEqualTo("fresh-token");
+    }
+
+    @Test
+    @DisplayName("서명 도중 토큰이 무효화되면 재서명한 토큰을 저장하지 않음")
+    void shouldNotRestoreTokenRevokedWhileSigning() {
+        // given
+        License license = createLicense();
+        Activation activation = license.addActivation("revoked-device", "1.0.0", "Windows", null);
+        activation.issueOfflineToken("old-token", Instant.now().plus(1, ChronoUnit.DAYS));
+        licenseRepository.saveAndFlush(license);
+        UUID activationId = activation.getId();
+
+        // 서명 중 다른 요청(force-validate/비활성화)이 토큰을 무효화하고 커밋한 상황
+        OfflineTokenSigner revokingSigner = new OfflineTokenSigner(
+                "TestSecretKeyForJwtTokenGenerationMustBeAtLeast256BitsLong", new SimpleMeterRegistry()) {
+            @Override
+            public SignedOfflineToken sign(License l, String deviceFingerprint, Instant now, Source source) {
+                activationRepository.revokeOfflineToken(activationId, now);
+                return super.sign(l, deviceFingerprint, now, source);
+            }
+        };
+        OfflineTokenRefresher racingRefresher = new OfflineTokenRefresher(activationRepository, revokingSigner,
+                leaseService, transactionManager, false, 72, 200, 300);
+
+        // when
+        int refreshed = racingRefresher.refresh(Instant.now());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(refreshed).isZero();
+        Activation reloaded = activationRepository.findById(activationId).orElseThrow();
+        assertThat(reloaded.getOfflineToken()).isNull();
+        assertThat(reloaded.getStatus()).isEqualTo(ActivationStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("직접 호출은 여러 batch를 처리해도 lease를 획득/연장하지 않음")
+    void directRefreshShouldNotTouchLease() {
+        // given - batch-size 1, 만료 임박 토큰 3개
+        SchedulerLeaseService mockLeaseService = mock(SchedulerLeaseService.class);
+        OfflineTokenRefresher directRefresher = refresher(mockLeaseService, true);
+        createExpiringTokens(3);
+
+        // when
+        directRefresher.refresh(Instant.now());
+
+        // then
+        verify(mockLeaseService, never()).tryAcquire(anyString(), any());
+        verify(mockLeaseService, never()).release(anyString());
+    }
+
+    @Test
+    @DisplayName("스케줄 실행은 획득한 lease를 batch마다 연장하고 종료 시 반납")
+    void scheduledRefreshShouldRenewAndReleaseLease() {
+        // given
+        SchedulerLeaseService mockLeaseService = mock(SchedulerLeaseService.class);
+        given(mockLeaseService.tryAcquire(eq(OfflineTokenRefresher.LEASE_NAME), any(Duration.class))).willReturn(true);
+        OfflineTokenRefresher scheduledRefresher = refresher(mockLeaseService, true);
+        createExpiringTokens(3);
+
+        // when
+        scheduledRefresher.scheduledRefresh();
+
+        // then - 최초 획득 1회 + batch 사이 연장
+        verify(mockLeaseService, atLeast(2)).tryAcquire(eq(OfflineTokenRefresher.LEASE_NAME), any(Duration.class));
+        verify(mockLeaseService).release(OfflineTokenRefresher.LEASE_NAME);
+    }
+
+    private OfflineTokenRefresher refresher(SchedulerLeaseService leaseService, boolean enabled) {
+        OfflineTokenSigner signer = new OfflineTokenSigner(
+                "TestSecretKeyForJwtTokenGenerationMustBeAtLeast256BitsLong", new SimpleMeterRegistry());
+        return new OfflineTokenRefresher(activationRepository, signer, leaseService, transactionManager,
+                enabled, 72, 1, 300);
+    }
+
+    private void createExpiringTokens(int count) {
+        License license = createLicense();
+        for (int i = 0; i < count; i++) {
+            license.addActivation("expiring-device-" + i, "1.0.0", "Windows", null)
+                    .issueOfflineToken("old-token-" + i, Instant.now().plus(1, ChronoUnit.DAYS));
+        }
+        licenseRepository.saveAndFlush(license);
+    }
+
+    private License createLicense() {
+        License license = License.builder()
+                .ownerType(OwnerType.USER)
+                .ownerId(UUID.randomUUID())
+                .productId(UUID.randomUUID())
+                .licenseType(LicenseType.SUBSCRIPTION)
+                .validFrom(Instant.now())
+                .validUntil(Instant.now().plus(365, ChronoUnit.DAYS))
+                .policySnapshot(Map.of("maxActivations", 5, "allowOfflineDays", 30))
+                .build();
+        license.activate();
+        return license;
+    }
+}
@@ -0,0 +1,202 @@
+package com.bulc.homepage.licensing.service;
+
+import com.bulc.homepage.licensing.domain.*;
+import com.bulc.homepage.licensing.repository.LicenseRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ActivationHeartbeatBuffer 테스트.
+ *
+ * flush SQL은 실제 DB(H2)에 실행하고, flush 실패는 JdbcTemplate mock으로 재현합니다.
+ * 스케줄러의 flush와 섞이지 않도록 테스트마다 버퍼를 직접 생성합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("ActivationHeartbeatBuffer 테스트")
+class ActivationHeartbeatBufferTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LicenseRepository licenseRepository;
+
+    @Test
+    @DisplayName("flush는 last_seen_at을 앞으로만 이동 - DB 값보다 오래된 heartbeat은 반영하지 않음")
+    void flushShouldOnlyMoveLastSeenAtForward() {
+        // given - DB last_seen_at = 지금
+        ActivationHeartbeatBuffer buffer = new ActivationHeartbeatBuffer(jdbcTemplate, true);
+        Activation activation = createActivation();
+
+        // when - 엔티티 경로가 이미 더 최신 값을 기록한 뒤 도착한 오래된 heartbeat
+        buffer.record(activation.getId(), Instant.now().minus(1, ChronoUnit.DAYS), "0.9.0", "Linux", "10.0.0.9");
+        buffer.flush();
+
+        // then
+        assertThat(clientVersion(activation.getId())).isEqualTo("1.0.0");
+
+        // when - 더 최신 heartbeat
+        buffer.record(activation.getId(), Instant.now().plus(1, ChronoUnit.DAYS), "2.0.0", "Linux", null);
+        int flushed = buffer.flush();
+
+        // then - lastIp가 null이면 기존 값 유지
+        assertThat(flushed).isEqualTo(1);
+        assertThat(clientVersion(activation.getId())).isEqualTo("2.0.0");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT last_ip FROM license_activations WHERE id = ?", String.class, activation.getId()))
+                .isEqualTo("10.0.0.1");
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("기록 이후 비활성화된 행은 flush와 즉시 반영(recordAll) 모두 갱신하지 않음")
+    void flushShouldSkipRowsNoLongerActive() {
+        // given - heartbeat 기록 후 다른 요청이 기기를 비활성화
+        ActivationHeartbeatBuffer buffer = new ActivationHeartbeatBuffer(jdbcTemplate, true);
+        ActivationHeartbeatBuffer immediate = new ActivationHeartbeatBuffer(jdbcTemplate, false);
+        Activation activation = createActivation();
+        buffer.record(activation.getId(), Instant.now().plus(1, ChronoUnit.DAYS), "2.0.0", "Linux", null);
+        jdbcTemplate.update("UPDATE license_activations SET status = 'DEACTIVATED' WHERE id = ?", activation.getId());
+
+        // when
+        buffer.flush();
+        immediate.recordAll(List.of(new ActivationHeartbeatBuffer.HeartbeatUpdate(
+                activation.getId(), Instant.now().plus(2, ChronoUnit.DAYS), "3.0.0", "Linux", null)));
+
+        // then
+        assertThat(clientVersion(activation.getId())).isEqualTo("1.0.0");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT status FROM license_activations WHERE id = ?", String.class, activation.getId()))
+                .isEqualTo("DEACTIVATED");
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("flush 실패 시 항목을 다시 버퍼에 넣고, 그 사이 들어온 값과는 더 최신 값을 유지")
+    void failedFlushShouldRemergeKeepingNewerValue() {
+        // given
+        JdbcTemplate failingJdbc = mock(JdbcTemplate.class);
+        ActivationHeartbeatBuffer buffer = new ActivationHeartbeatBuffer(failingJdbc, true);
+        Activation newerDuringFlush = createActivation();
+        Activation olderDuringFlush = createActivation();
+        Instant t1 = newerDuringFlush.getLastSeenAt().plusSeconds(60);
+        buffer.record(newerDuringFlush.getId(), t1, "1.0.0", "Windows", null);
+        buffer.record(olderDuringFlush.getId(), t1, "1.0.0", "Windows", null);
+
+        // flush 도중 같은 기기의 heartbeat이 도착한 뒤 batch UPDATE 실패
+        willAnswer(invocation -> {
+            buffer.record(newerDuringFlush.getId(), t1.plusSeconds(60), "1.0.1", "Windows", null);
+            buffer.record(olderDuringFlush.getId(), t1.minusSeconds(30), "1.0.0", "Windows", null);
+            throw new DataAccessResourceFailureException("connection reset");
+        }).given(failingJdbc).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+
+        // when
+        int flushed = buffer.flush();
+
+        // then
+        assertThat(flushed).isZero();
+        assertThat(buffer.pendingCount()).isEqualTo(2);
+        assertThat(buffer.effectiveLastSeenAt(newerDuringFlush)).isEqualTo(t1.plusSeconds(60));
+        assertThat(buffer.effectiveLastSeenAt(olderDuringFlush)).isEqualTo(t1);
+    }
+
+    @Test
+    @DisplayName("effectiveLastSeenAt은 flush 전 항목 중 DB 값보다 최신인 값만 반영")
+    void effectiveLastSeenAtShouldCoverUnflushedEntries() {
+        // given
+        ActivationHeartbeatBuffer buffer = new ActivationHeartbeatBuffer(jdbcTemplate, true);
+        Activation activation = createActivation();
+        Activation stale = createActivation();
+        Instant stored = activation.getLastSeenAt();
+
+        // when
+        buffer.record(activation.getId(), stored.plusSeconds(120), "1.0.0", "Windows", null);
+        buffer.record(stale.getId(), stale.getLastSeenAt().minusSeconds(120), "1.0.0", "Windows", null);
+
+        // then
+        assertThat(buffer.effectiveLastSeenAt(activation)).isEqualTo(stored.plusSeconds(120));
+        assertThat(buffer.effectiveLastSeenAt(stale)).isEqualTo(stale.getLastSeenAt());
+
+        // flush 후에는 DB(엔티티) 값 사용
+        buffer.flush();
+        assertThat(buffer.effectiveLastSeenAt(activation)).isEqualTo(stored);
+    }
+
+    @Test
+    @DisplayName("종료(@PreDestroy drain) 시 남은 항목을 모두 flush")
+    void drainShouldFlushRemainingEntries() {
+        // given
+        ActivationHeartbeatBuffer buffer = new ActivationHeartbeatBuffer(jdbcTemplate, true);
+        Activation activation = createActivation();
+        buffer.record(activation.getId(), Instant.now().plus(1, ChronoUnit.DAYS), "3.0.0", "Windows", null);
+
+        // when
+        buffer.drain();
+
+        // then
+        assertThat(buffer.pendingCount()).isZero();
+        assertThat(clientVersion(activation.getId())).isEqualTo("3.0.0");
+    }
+
+    @Test
+    @DisplayName("버퍼가 비활성화되면 record는 false를 반환하고 아무것도 쓰지 않음")
+    void disabledBufferShouldNotRecord() {
+        // given
+        JdbcTemplate jdbc = mock(JdbcTemplate.class);
+        ActivationHeartbeatBuffer buffer = new ActivationHeartbeatBuffer(jdbc, false);
+
+        // when
+        boolean recorded = buffer.record(UUID.randomUUID(), Instant.now(), "1.0.0", "Windows", null);
+        buffer.drain();
+
+        // then
+        assertThat(recorded).isFalse();
+        assertThat(buffer.pendingCount()).isZero();
+        verify(jdbc, never()).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+    }
+
+    private Activation createActivation() {
+        License license = License.builder()
+                .ownerType(OwnerType.USER)
+                .ownerId(UUID.randomUUID())
+                .productId(UUID.randomUUID())
+                .licenseType(LicenseType.SUBSCRIPTION)
+                .validFrom(Instant.now())
+                .validUntil(Instant.now().plus(365, ChronoUnit.DAYS))
+                .policySnapshot(Map.of("maxActivations", 5))
+                .build();
+        license.activate();
+        Activation activation = license.addActivation("device-" + UUID.randomUUID(), "1.0.0", "Windows", "10.0.0.1");
+        licenseRepository.saveAndFlush(license);
+        return activation;
+    }
+
+    private String clientVersion(UUID activationId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT client_version FROM license_activations WHERE id = ?", String.class, activationId);
+    }
+}
@@ -0,0 +1,197 @@
+package com.bulc.homepage.licensing.service;
+
+import com.bulc.homepage.licensing.domain.DeviceLicenseBinding;
+import com.bulc.homepage.licensing.repository.DeviceLicenseBindingRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * DeviceLicenseBindingService 테스트.
+ *
+ * 실제 DB(H2)의 device_license_bindings에 기록하며, 호출 횟수 확인과 경합 재현을 위해
+ * 저장소는 실제 저장소에 위임하는 mock으로 감쌉니다.
+ * 서비스가 트랜잭션을 직접 열고 커밋하므로 @Transactional 없이 실행하고, 테스트 후 생성한 행을 삭제한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("DeviceLicenseBindingService 테스트")
+class DeviceLicenseBindingServiceTest {
+
+    private static final String DEVICE = "device-1";
+
+    @Autowired
+    private DeviceLicenseBindingRepository realRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private DeviceLicenseBindingRepository bindingRepository;
+    private final List<Runnable> pendingWrites = new ArrayList<>();
+    private DeviceLicenseBindingService service;
+
+    private final UUID ownerId = UUID.randomUUID();
+    private final UUID productId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        bindingRepository = mock(DeviceLicenseBindingRepository.class, delegatesTo(realRepository));
+        service = new DeviceLicenseBindingService(bindingRepository, transactionManager, pendingWrites::add,
+                new SimpleMeterRegistry(), 100, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        realRepository.deleteAll(realRepository.findAll().stream()
+                .filter(b -> ownerId.equals(b.getOwnerId()))
+                .toList());
+    }
+
+    @Test
+    @DisplayName("조회 결과는 캐시하고, 바인딩 없음은 캐시하지 않음")
+    void shouldCacheHitsButNotMisses() {
+        // given - 바인딩 없음
+        assertThat(service.resolve(ownerId, productId, DEVICE)).isEmpty();
+        assertThat(service.resolve(ownerId, productId, DEVICE)).isEmpty();
+        verify(bindingRepository, times(2)).findLicenseId(ownerId, productId, DEVICE);
+
+        UUID licenseId = UUID.randomUUID();
+        realRepository.saveAndFlush(new DeviceLicenseBinding(ownerId, productId, DEVICE, licenseId));
+
+        // when
+        Optional<UUID> first = service.resolve(ownerId, productId, DEVICE);
+        Optional<UUID> second = service.resolve(ownerId, productId, DEVICE);
+
+        // then - 미스 이후 생긴 바인딩은 바로 조회되고, 이후에는 캐시에서 반환
+        assertThat(first).contains(licenseId);
+        assertThat(second).contains(licenseId);
+        verify(bindingRepository, times(3)).findLicenseId(ownerId, productId, DEVICE);
+    }
+
+    @Test
+    @DisplayName("bind는 트랜잭션 커밋 후에만 기록하고, 롤백되면 기록하지 않음")
+    void shouldWriteOnlyAfterCommit() {
+        // given
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        UUID committed = UUID.randomUUID();
+        UUID rolledBack = UUID.randomUUID();
+
+        // when - 롤백된 트랜잭션
+        tx.executeWithoutResult(status -> {
+            service.bind(ownerId, productId, DEVICE, rolledBack);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(pendingWrites).isEmpty();
+
+        // when - 커밋된 트랜잭션: 커밋 전에는 writer에 넘기지 않음
+        tx.executeWithoutResult(status -> {
+            service.bind(ownerId, productId, DEVICE, committed);
+            assertThat(pendingWrites).isEmpty();
+        });
+        assertThat(pendingWrites).hasSize(1);
+        runPendingWrites();
+
+        // then
+        assertThat(realRepository.findLicenseId(ownerId, productId, DEVICE)).contains(committed);
+        assertThat(service.resolve(ownerId, productId, DEVICE)).contains(committed);
+        verify(bindingRepository, never()).findLicenseId(ownerId, productId, DEVICE);
+    }
+
+    @Test
+    @DisplayName("기존 바인딩이 있으면 licenseId만 갱신하고, 값이 같으면 다시 쓰지 않음")
+    void shouldUpdateExistingBinding() {
+        // given
+        UUID oldLicenseId = UUID.randomUUID();
+        UUID newLicenseId = UUID.randomUUID();
+        realRepository.saveAndFlush(new DeviceLicenseBinding(ownerId, productId, DEVICE, oldLicenseId));
+
+        // when
+        service.bind(ownerId, productId, DEVICE, newLicenseId);
+        runPendingWrites();
+        service.bind(ownerId, productId, DEVICE, newLicenseId);
+
+        // then
+        assertThat(pendingWrites).isEmpty();
+        assertThat(realRepository.findLicenseId(ownerId, productId, DEVICE)).contains(newLicenseId);
+        verify(bindingRepository, times(1)).updateLicenseId(eq(ownerId), eq(productId), eq(DEVICE),
+                eq(newLicenseId), any());
+        verify(bindingRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("동시에 같은 키로 생성되어 INSERT가 충돌하면 캐시를 비우고 이후 DB 값을 사용")
+    void shouldFallBackToStoredBindingOnInsertConflict() {
+        // given - UPDATE(0건)와 INSERT 사이에 다른 노드가 같은 키로 바인딩을 생성
+        UUID ours = UUID.randomUUID();
+        UUID theirs = UUID.randomUUID();
+        TransactionTemplate otherNode = new TransactionTemplate(transactionManager);
+        otherNode.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        willAnswer(invocation -> {
+            otherNode.executeWithoutResult(status ->
+                    realRepository.saveAndFlush(new DeviceLicenseBinding(ownerId, productId, DEVICE, theirs)));
+            return 0;
+        }).given(bindingRepository).updateLicenseId(eq(ownerId), eq(productId), eq(DEVICE), eq(ours), any());
+
+        // when - 충돌 예외는 호출자에게 전파되지 않음
+        service.bind(ownerId, productId, DEVICE, ours);
+        runPendingWrites();
+
+        // then
+        assertThat(service.resolve(ownerId, productId, DEVICE)).contains(theirs);
+        verify(bindingRepository, times(1)).findLicenseId(ownerId, productId, DEVICE);
+    }
+
+    @Test
+    @DisplayName("unbind는 저장된 licenseId가 일치하는 경우에만 삭제")
+    void shouldUnbindOnlyMatchingLicense() {
+        // given
+        UUID bound = UUID.randomUUID();
+        realRepository.saveAndFlush(new DeviceLicenseBinding(ownerId, productId, DEVICE, bound));
+        assertThat(service.resolve(ownerId, productId, DEVICE)).contains(bound);
+
+        // when - 다른 요청이 이미 다른 라이선스로 갱신한 경우를 가정
+        service.unbind(ownerId, productId, DEVICE, UUID.randomUUID());
+
+        // then - 행은 유지되고 캐시만 비워져 DB 값을 다시 조회
+        assertThat(service.resolve(ownerId, productId, DEVICE)).contains(bound);
+        verify(bindingRepository, times(2)).findLicenseId(ownerId, productId, DEVICE);
+
+        // when
+        service.unbind(ownerId, productId, DEVICE, bound);
+
+        // then
+        assertThat(realRepository.findLicenseId(ownerId, productId, DEVICE)).isEmpty();
+        assertThat(service.resolve(ownerId, productId, DEVICE)).isEmpty();
+    }
+
+    private void runPendingWrites() {
+        List<Runnable> writes = new ArrayList<>(pendingWrites);
+        pendingWrites.clear();
+        writes.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,100 @@
+package com.bulc.homepage.licensing.service;
+
+import com.bulc.homepage.licensing.exception.LicenseException;
+import com.bulc.homepage.licensing.exception.LicenseException.ErrorCode;
+import com.bulc.homepage.licensing.repository.LicenseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * LicenseConcurrencyControl 유닛 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LicenseConcurrencyControl 테스트")
+class LicenseConcurrencyControlTest {
+
+    @Mock
+    private LicenseRepository licenseRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("OPTIMISTIC 모드는 버전 충돌 시 트랜잭션을 다시 실행")
+    void shouldRetryOnOptimisticLockFailure() {
+        // given
+        LicenseConcurrencyControl control = create(LicenseConcurrencyControl.Mode.OPTIMISTIC, 3);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String result = control.execute(() -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("License", "id");
+            }
+            return "ok";
+        });
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("licensing.concurrency.retries").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("OPTIMISTIC 모드에서 재시도를 소진하면 CONCURRENT_MODIFICATION")
+    void shouldFailWithConcurrentModificationWhenExhausted() {
+        // given
+        LicenseConcurrencyControl control = create(LicenseConcurrencyControl.Mode.OPTIMISTIC, 2);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> control.execute(() -> {
+            calls.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("License", "id");
+        }))
+                .isInstanceOf(LicenseException.class)
+                .extracting(e -> ((LicenseException) e).getErrorCode())
+                .isEqualTo(ErrorCode.CONCURRENT_MODIFICATION);
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("licensing.concurrency.exhausted").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("PESSIMISTIC 모드는 충돌을 재시도하지 않음")
+    void shouldNotRetryInPessimisticMode() {
+        // given
+        LicenseConcurrencyControl control = create(LicenseConcurrencyControl.Mode.PESSIMISTIC, 3);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> control.execute(() -> {
+            calls.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("License", "id");
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    private LicenseConcurrencyControl create(LicenseConcurrencyControl.Mode mode, int maxAttempts) {
+        return new LicenseConcurrencyControl(
+                licenseRepository, null, transactionManager, meterRegistry, mode, maxAttempts, 0);
+    }
+}
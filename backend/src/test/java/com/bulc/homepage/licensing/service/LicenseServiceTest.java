@@ -8,6 +8,7 @@ import com.bulc.homepage.licensing.repository.ActivationRepository;
 import com.bulc.homepage.licensing.repository.LicensePlanRepository;
 import com.bulc.homepage.licensing.repository.LicenseRepository;
 import com.bulc.homepage.licensing.repository.ProductRepository;
+import com.bulc.homepage.licensing.repository.RevokedOfflineTokenRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,8 +16,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -55,6 +59,19 @@ class LicenseServiceTest {
     @Mock
     private SessionTokenService sessionTokenService;
 
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private DeviceLicenseBindingService deviceBindingService;
+
+    @Mock
+    private RevokedOfflineTokenRepository revokedTokenRepository;
+
+    private OfflineTokenRevocationIndex revocationIndex;
+
+    private ActivationHeartbeatBuffer heartbeatBuffer;
+
     private LicenseService licenseService;
 
     private static final UUID OWNER_ID = UUID.randomUUID();
@@ -65,13 +82,22 @@ class LicenseServiceTest {
 
     @BeforeEach
     void setUp() {
+        heartbeatBuffer = new ActivationHeartbeatBuffer(jdbcTemplate, true);
+        revocationIndex = new OfflineTokenRevocationIndex(
+                revokedTokenRepository, mock(OfflineTokenRevocationFeed.class), new SimpleMeterRegistry(),
+                false, 1000, 0.01, 100, 60);
         licenseService = new LicenseService(
                 licenseRepository,
                 activationRepository,
                 planRepository,
-                productRepository,
+                new LicensingReferenceCache(productRepository, planRepository, new SimpleMeterRegistry(), 100, 60),
                 sessionTokenService,
-                TEST_JWT_SECRET
+                heartbeatBuffer,
+                new OfflineTokenSigner(TEST_JWT_SECRET, new SimpleMeterRegistry()),
+                deviceBindingService,
+                new LicenseConcurrencyControl(licenseRepository, null, mock(PlatformTransactionManager.class),
+                        new SimpleMeterRegistry(), LicenseConcurrencyControl.Mode.PESSIMISTIC, 3, 0),
+                revocationIndex
         );
 
         // v1.1.2: sessionToken mock 기본 설정 (lenient - 모든 테스트에서 사용되지 않아도 OK)
@@ -629,6 +655,60 @@ class LicenseServiceTest {
                     .extracting(ex -> ((LicenseException) ex).getErrorCode())
                     .isEqualTo(ErrorCode.LICENSE_NOT_FOUND_FOR_PRODUCT);
         }
+
+        @Test
+        @DisplayName("v1.1.3: 기기 바인딩이 있으면 바인딩된 라이선스만 락을 잡고 검증")
+        void shouldLockOnlyBoundLicense() {
+            // given
+            License boundLicense = createActiveLicenseWithPolicy();
+            given(deviceBindingService.resolve(OWNER_ID, PRODUCT_ID, "device-123"))
+                    .willReturn(Optional.of(boundLicense.getId()));
+            given(licenseRepository.findByIdWithLock(boundLicense.getId())).willReturn(Optional.of(boundLicense));
+            given(licenseRepository.save(any(License.class)))
+                    .willAnswer(inv -> inv.getArgument(0));
+
+            ValidateRequest request = new ValidateRequest(
+                    null, PRODUCT_ID, null, "device-123", "1.0.0", "Windows", null
+            );
+
+            // when
+            ValidationResponse response = licenseService.validateAndActivateByUser(OWNER_ID, request);
+
+            // then
+            assertThat(response.valid()).isTrue();
+            assertThat(response.licenseId()).isEqualTo(boundLicense.getId());
+            verify(licenseRepository, never()).findByOwnerAndProductAndStatusInWithLock(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("v1.1.3: 바인딩된 라이선스가 더 이상 유효하지 않으면 바인딩 제거 후 후보 검색")
+        void shouldDropStaleBindingAndFallBackToCandidates() {
+            // given
+            License revokedLicense = createActiveLicenseWithPolicy();
+            revokedLicense.revoke("test");
+            License activeLicense = createActiveLicenseWithPolicy();
+
+            given(deviceBindingService.resolve(OWNER_ID, PRODUCT_ID, "device-123"))
+                    .willReturn(Optional.of(revokedLicense.getId()));
+            given(licenseRepository.findByIdWithLock(revokedLicense.getId())).willReturn(Optional.of(revokedLicense));
+            given(licenseRepository.findByOwnerAndProductAndStatusInWithLock(
+                    eq(OwnerType.USER), eq(OWNER_ID), eq(PRODUCT_ID), any()))
+                    .willReturn(List.of(activeLicense));
+            given(licenseRepository.save(any(License.class)))
+                    .willAnswer(inv -> inv.getArgument(0));
+
+            ValidateRequest request = new ValidateRequest(
+                    null, PRODUCT_ID, null, "device-123", "1.0.0", "Windows", null
+            );
+
+            // when
+            ValidationResponse response = licenseService.validateAndActivateByUser(OWNER_ID, request);
+
+            // then
+            assertThat(response.licenseId()).isEqualTo(activeLicense.getId());
+            verify(deviceBindingService).unbind(OWNER_ID, PRODUCT_ID, "device-123", revokedLicense.getId());
+            verify(deviceBindingService).bind(OWNER_ID, PRODUCT_ID, "device-123", activeLicense.getId());
+        }
     }
 
     // ==========================================
@@ -686,6 +766,154 @@ class LicenseServiceTest {
             assertThat(response.valid()).isTrue();
         }
 
+        @Test
+        @DisplayName("licenseId 지정 + ACTIVE 기기 heartbeat은 락 없이 write-behind 버퍼로 처리")
+        void shouldUseLockFreeFastPathForActiveDevice() {
+            // given
+            UUID userId = OWNER_ID;
+            License license = createActiveLicenseWithPolicy();
+            Activation activation = license.addActivation("registered-device", "1.0.0", "Windows", "10.0.0.1");
+            activation.issueOfflineToken("offline-token", Instant.now().plus(30, ChronoUnit.DAYS));
+
+            ReflectionTestUtils.setField(activation, "id", UUID.randomUUID());
+            given(licenseRepository.findById(license.getId())).willReturn(Optional.of(license));
+            given(activationRepository.findByLicenseIdAndDeviceFingerprint(license.getId(), "registered-device"))
+                    .willReturn(Optional.of(activation));
+            given(activationRepository.confirmActive(eq(activation.getId()), any())).willReturn(1);
+
+            ValidateRequest request = new ValidateRequest(
+                    null, PRODUCT_ID, license.getId(), "registered-device", "2.0.0", "Windows 11", null
+            );
+
+            // when
+            ValidationResponse response = licenseService.heartbeatByUser(userId, request);
+
+            // then
+            assertThat(response.valid()).isTrue();
+            assertThat(response.offlineToken()).isEqualTo("offline-token");
+            assertThat(heartbeatBuffer.pendingCount()).isEqualTo(1);
+            verify(licenseRepository, never()).findByIdWithLock(any());
+            verify(licenseRepository, never()).save(any(License.class));
+            verify(activationRepository, never()).touchActiveSession(any(), any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("v1.1.3: 락 없이 읽은 뒤 비활성화되어 조건부 UPDATE가 0건이면 락 경로로 폴백하고 버퍼에 기록하지 않음")
+        void shouldFallBackWhenDeactivatedAfterUnlockedRead() {
+            // given - 조회 시점에는 ACTIVE, 확인 UPDATE 시점에는 비활성화 커밋됨
+            License license = createActiveLicenseWithPolicy();
+            Activation activation = license.addActivation("registered-device", "1.0.0", "Windows", "10.0.0.1");
+            activation.issueOfflineToken("offline-token", Instant.now().plus(30, ChronoUnit.DAYS));
+            ReflectionTestUtils.setField(activation, "id", UUID.randomUUID());
+
+            given(licenseRepository.findById(license.getId())).willReturn(Optional.of(license));
+            given(activationRepository.findByLicenseIdAndDeviceFingerprint(license.getId(), "registered-device"))
+                    .willReturn(Optional.of(activation));
+            given(activationRepository.confirmActive(eq(activation.getId()), any())).willAnswer(inv -> {
+                activation.deactivate("FORCE_VALIDATE");
+                return 0;
+            });
+            given(licenseRepository.findByIdWithLock(license.getId())).willReturn(Optional.of(license));
+
+            ValidateRequest request = new ValidateRequest(
+                    null, PRODUCT_ID, license.getId(), "registered-device", "2.0.0", "Windows 11", null
+            );
+
+            // when & then
+            assertThatThrownBy(() -> licenseService.heartbeatByUser(OWNER_ID, request))
+                    .isInstanceOf(LicenseException.class)
+                    .extracting(ex -> ((LicenseException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.SESSION_DEACTIVATED);
+            assertThat(heartbeatBuffer.pendingCount()).isZero();
+            verify(sessionTokenService, never()).generateSessionToken(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("v1.1.3: 저장된 오프라인 토큰이 무효화 목록에 있으면 락 경로로 폴백하여 새로 서명")
+        void shouldResignRevokedOfflineToken() {
+            // given
+            License license = createActiveLicenseWithPolicy();
+            Activation activation = license.addActivation("registered-device", "1.0.0", "Windows", "10.0.0.1");
+            activation.issueOfflineToken("offline-token", Instant.now().plus(30, ChronoUnit.DAYS));
+            ReflectionTestUtils.setField(activation, "id", UUID.randomUUID());
+            revocationIndex.addAll(List.of(new RevokedOfflineToken(license.getId(), activation.getId(),
+                    "registered-device", OfflineTokenRevocationIndex.hash("offline-token"), Instant.now(),
+                    activation.getOfflineTokenExpiresAt(), "TEST")));
+
+            given(licenseRepository.findById(license.getId())).willReturn(Optional.of(license));
+            given(licenseRepository.findByIdWithLock(license.getId())).willReturn(Optional.of(license));
+            given(activationRepository.findByLicenseIdAndDeviceFingerprint(license.getId(), "registered-device"))
+                    .willReturn(Optional.of(activation));
+
+            ValidateRequest request = new ValidateRequest(
+                    null, PRODUCT_ID, license.getId(), "registered-device", "2.0.0", "Windows 11", null
+            );
+
+            // when
+            ValidationResponse response = licenseService.heartbeatByUser(OWNER_ID, request);
+
+            // then
+            assertThat(response.valid()).isTrue();
+            assertThat(response.offlineToken()).isNotNull().isNotEqualTo("offline-token");
+            assertThat(revocationIndex.isRevoked(response.offlineToken())).isFalse();
+            // fast path는 activation을 수정하지 않으므로 서명은 라이선스 락을 잡은 경로에서만 수행
+            verify(licenseRepository).findByIdWithLock(license.getId());
+            assertThat(heartbeatBuffer.pendingCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("v1.1.3: licenseId 미지정이어도 기기 바인딩이 있으면 락 없이 fast path로 처리")
+        void shouldUseFastPathWithBoundLicense() {
+            // given
+            License license = createActiveLicenseWithPolicy();
+            Activation activation = license.addActivation("registered-device", "1.0.0", "Windows", "10.0.0.1");
+            activation.issueOfflineToken("offline-token", Instant.now().plus(30, ChronoUnit.DAYS));
+            ReflectionTestUtils.setField(activation, "id", UUID.randomUUID());
+
+            given(deviceBindingService.resolve(OWNER_ID, PRODUCT_ID, "registered-device"))
+                    .willReturn(Optional.of(license.getId()));
+            given(licenseRepository.findById(license.getId())).willReturn(Optional.of(license));
+            given(activationRepository.findByLicenseIdAndDeviceFingerprint(license.getId(), "registered-device"))
+                    .willReturn(Optional.of(activation));
+            given(activationRepository.confirmActive(eq(activation.getId()), any())).willReturn(1);
+
+            ValidateRequest request = new ValidateRequest(
+                    null, PRODUCT_ID, null, "registered-device", "2.0.0", "Windows 11", null
+            );
+
+            // when
+            ValidationResponse response = licenseService.heartbeatByUser(OWNER_ID, request);
+
+            // then
+            assertThat(response.valid()).isTrue();
+            verify(licenseRepository, never()).findByIdWithLock(any());
+            verify(licenseRepository, never()).findByOwnerAndProductAndStatusInWithLock(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("ACTIVE 세션이 아니면 락 기반 검증으로 폴백")
+        void shouldFallBackToLockedPathWhenFastPathMisses() {
+            // given
+            UUID userId = OWNER_ID;
+            License license = createActiveLicenseWithPolicy();
+            license.addActivation("registered-device", "1.0.0", "Windows", "10.0.0.1")
+                    .deactivate("FORCE_VALIDATE");
+
+            given(licenseRepository.findById(license.getId())).willReturn(Optional.of(license));
+            given(licenseRepository.findByIdWithLock(license.getId())).willReturn(Optional.of(license));
+
+            ValidateRequest request = new ValidateRequest(
+                    null, PRODUCT_ID, license.getId(), "registered-device", "2.0.0", "Windows 11", null
+            );
+
+            // when & then
+            assertThatThrownBy(() -> licenseService.heartbeatByUser(userId, request))
+                    .isInstanceOf(LicenseException.class)
+                    .extracting(ex -> ((LicenseException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.SESSION_DEACTIVATED);
+            verify(licenseRepository).findByIdWithLock(license.getId());
+        }
+
         @Test
         @DisplayName("해당 제품의 라이선스가 없으면 LICENSE_NOT_FOUND_FOR_PRODUCT 예외")
         void shouldThrowWhenNoLicenseForHeartbeat() {
@@ -707,6 +935,77 @@ class LicenseServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("v1.1.3: 일괄 Heartbeat (heartbeatBatchByUser)")
+    class HeartbeatBatchByUser {
+
+        @Test
+        @DisplayName("라이선스별로 한 번만 락을 잡고, 항목별 결과를 요청 순서대로 반환")
+        void shouldLockEachLicenseOnceAndReturnPerEntryResults() {
+            // given
+            License license = createActiveLicenseWithPolicy();
+            Activation active = license.addActivation("device-active", "1.0.0", "Windows", "10.0.0.1");
+            active.issueOfflineToken("offline-token", Instant.now().plus(30, ChronoUnit.DAYS));
+            Activation deactivated = license.addActivation("device-off", "1.0.0", "Windows", "10.0.0.2");
+            deactivated.deactivate("FORCE_VALIDATE");
+            ReflectionTestUtils.setField(active, "id", UUID.randomUUID());
+            ReflectionTestUtils.setField(deactivated, "id", UUID.randomUUID());
+            UUID unknownLicenseId = UUID.randomUUID();
+
+            given(licenseRepository.findByIdWithLock(license.getId())).willReturn(Optional.of(license));
+            given(activationRepository.findByLicenseIdAndDeviceFingerprintIn(eq(license.getId()), any()))
+                    .willReturn(List.of(active, deactivated));
+
+            BatchHeartbeatRequest request = new BatchHeartbeatRequest(List.of(
+                    new BatchHeartbeatRequest.Entry(license.getId(), "device-active", "2.0.0", "Windows 11"),
+                    new BatchHeartbeatRequest.Entry(unknownLicenseId, "device-x", "2.0.0", "Windows 11"),
+                    new BatchHeartbeatRequest.Entry(license.getId(), "device-off", "2.0.0", "Windows 11")
+            ));
+
+            // when
+            BatchHeartbeatResponse response = licenseService.heartbeatBatchByUser(OWNER_ID, request);
+
+            // then
+            assertThat(response.results()).extracting(r -> r.result().valid())
+                    .containsExactly(true, false, false);
+            assertThat(response.results()).extracting(r -> r.result().errorCode())
+                    .containsExactly(null, ErrorCode.LICENSE_NOT_FOUND.name(), ErrorCode.SESSION_DEACTIVATED.name());
+            assertThat(response.results().get(0).result().sessionToken()).isEqualTo("mock-session-token");
+            assertThat(heartbeatBuffer.pendingCount()).isEqualTo(1);
+            verify(licenseRepository, times(1)).findByIdWithLock(license.getId());
+            verify(activationRepository, never()).touchActiveSession(any(), any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("오프라인 토큰 재서명이 필요한 활성 세션은 JDBC batch에 넣지 않고 엔티티 경로로만 갱신")
+        void shouldRouteTokenResignThroughEntityPathOnly() {
+            // given - 활성 세션이지만 오프라인 토큰이 없는 기기
+            License license = createActiveLicenseWithPolicy();
+            Activation active = license.addActivation("device-resign", "1.0.0", "Windows", "10.0.0.1");
+            ReflectionTestUtils.setField(active, "id", UUID.randomUUID());
+            Instant before = active.getLastSeenAt();
+
+            given(licenseRepository.findByIdWithLock(license.getId())).willReturn(Optional.of(license));
+            given(activationRepository.findByLicenseIdAndDeviceFingerprintIn(eq(license.getId()), any()))
+                    .willReturn(List.of(active));
+
+            BatchHeartbeatRequest request = new BatchHeartbeatRequest(List.of(
+                    new BatchHeartbeatRequest.Entry(license.getId(), "device-resign", "2.0.0", "Windows 11")
+            ));
+
+            // when
+            BatchHeartbeatResponse response = licenseService.heartbeatBatchByUser(OWNER_ID, request);
+
+            // then
+            assertThat(response.results().get(0).result().valid()).isTrue();
+            assertThat(response.results().get(0).result().offlineToken()).isNotNull();
+            assertThat(active.getLastSeenAt()).isAfterOrEqualTo(before);
+            assertThat(active.getClientVersion()).isEqualTo("2.0.0");
+            assertThat(heartbeatBuffer.pendingCount()).isZero();
+            verify(licenseRepository).save(license);
+        }
+    }
+
     // ==========================================
     // v1.1 소유자 검증 테스트
     // ==========================================
@@ -0,0 +1,94 @@
+package com.bulc.homepage.licensing.service;
+
+import com.bulc.homepage.licensing.domain.LicensePlan;
+import com.bulc.homepage.licensing.domain.LicenseType;
+import com.bulc.homepage.licensing.repository.LicensePlanRepository;
+import com.bulc.homepage.licensing.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * LicensingReferenceCache 유닛 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LicensingReferenceCache 테스트")
+class LicensingReferenceCacheTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private LicensePlanRepository planRepository;
+
+    private LicensingReferenceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new LicensingReferenceCache(productRepository, planRepository, new SimpleMeterRegistry(), 100, 60);
+    }
+
+    @Test
+    @DisplayName("플랜명은 미스인 ID만 한 번의 IN 조회로 로드하고 이후에는 캐시에서 반환")
+    void shouldBulkLoadPlanNamesOnce() {
+        // given
+        LicensePlan basic = createPlan("기본 플랜");
+        LicensePlan pro = createPlan("프로 플랜");
+        given(planRepository.findAllById(any())).willReturn(List.of(basic, pro));
+
+        // when
+        Map<UUID, String> first = cache.getPlanNames(Arrays.asList(basic.getId(), pro.getId(), null));
+        Map<UUID, String> second = cache.getPlanNames(List.of(basic.getId(), pro.getId()));
+
+        // then
+        assertThat(first).containsEntry(basic.getId(), "기본 플랜").containsEntry(pro.getId(), "프로 플랜");
+        assertThat(second).isEqualTo(first);
+        verify(planRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("evictPlan 후에는 플랜명을 다시 조회")
+    void shouldReloadAfterEvict() {
+        // given
+        LicensePlan plan = createPlan("기본 플랜");
+        given(planRepository.findAllById(any())).willReturn(List.of(plan));
+        cache.getPlanNames(List.of(plan.getId()));
+
+        // when
+        cache.evictPlan(plan.getId());
+        cache.getPlanNames(List.of(plan.getId()));
+
+        // then
+        verify(planRepository, times(2)).findAllById(any());
+    }
+
+    private LicensePlan createPlan(String name) {
+        LicensePlan plan = LicensePlan.builder()
+                .productId(UUID.randomUUID())
+                .code("PLAN-" + UUID.randomUUID())
+                .name(name)
+                .licenseType(LicenseType.SUBSCRIPTION)
+                .durationDays(365)
+                .maxActivations(3)
+                .maxConcurrentSessions(2)
+                .build();
+        ReflectionTestUtils.setField(plan, "id", UUID.randomUUID());
+        return plan;
+    }
+}
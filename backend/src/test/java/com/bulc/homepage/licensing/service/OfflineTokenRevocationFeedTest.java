@@ -0,0 +1,220 @@
+package com.bulc.homepage.licensing.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OfflineTokenRevocationFeed 유닛 테스트.
+ */
+@DisplayName("OfflineTokenRevocationFeed 테스트")
+class OfflineTokenRevocationFeedTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    private KeyPair keyPair;
+    private OfflineTokenRevocationFeed feed;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        SessionTokenKeyring keyring = SessionTokenKeyring.of("k1", List.of(new SessionTokenKeyring.SigningKey(
+                "k1", SessionTokenAlgorithm.EDDSA, keyPair.getPrivate(), keyPair.getPublic())));
+        // bucket 300초, overlap 60초
+        feed = new OfflineTokenRevocationFeed(keyring, 300, 60, 0.001);
+    }
+
+    @Test
+    @DisplayName("since 이후(overlap 포함) 항목의 digest 앞 16바이트만 서명하여 반환")
+    void shouldReturnSignedDeltaSinceCursor() {
+        // given
+        String old = OfflineTokenRevocationIndex.hash("token-old");
+        String recent = OfflineTokenRevocationIndex.hash("token-recent");
+        feed.record(old, T0, null);
+        feed.record(recent, T0.plusSeconds(3600), null);
+
+        // when
+        long since = T0.plusSeconds(3000).toEpochMilli();
+        OfflineTokenRevocationFeed.Document document = feed.document(OfflineTokenRevocationFeed.Format.DELTA, since);
+
+        // then
+        Jws<Claims> jws = parse(document);
+        assertThat(jws.getHeader().getKeyId()).isEqualTo("k1");
+        Claims claims = jws.getPayload();
+        assertThat(claims.get("n", Integer.class)).isEqualTo(1);
+        assertThat(claims.get("count", Integer.class)).isEqualTo(2);
+        assertThat(claims.get("cursor", Long.class)).isEqualTo(T0.plusSeconds(3600).toEpochMilli());
+        byte[] packed = Base64.getUrlDecoder().decode(claims.get("d", String.class));
+        assertThat(packed).isEqualTo(Arrays.copyOf(HexFormat.of().parseHex(recent), 16));
+    }
+
+    @Test
+    @DisplayName("같은 journal 상태면 노드가 달라도 본문(iat/서명)과 무관하게 ETag가 같음")
+    void shouldDeriveEtagFromContentOnly() throws Exception {
+        // given - 같은 키링/항목을 가진 두 노드, 다른 시각에 생성
+        SessionTokenKeyring keyring = SessionTokenKeyring.of("k1", List.of(new SessionTokenKeyring.SigningKey(
+                "k1", SessionTokenAlgorithm.EDDSA, keyPair.getPrivate(), keyPair.getPublic())));
+        OfflineTokenRevocationFeed otherNode = new OfflineTokenRevocationFeed(keyring, 300, 60, 0.001);
+        String hash = OfflineTokenRevocationIndex.hash("token-a");
+        feed.record(hash, T0, null);
+        otherNode.record(hash, T0, null);
+
+        // when
+        OfflineTokenRevocationFeed.Document first = feed.document(OfflineTokenRevocationFeed.Format.DELTA, null);
+        Thread.sleep(1100);
+        OfflineTokenRevocationFeed.Document second = otherNode.document(OfflineTokenRevocationFeed.Format.DELTA, null);
+        feed.record(OfflineTokenRevocationIndex.hash("token-b"), T0.plusSeconds(1), null);
+        OfflineTokenRevocationFeed.Document changed = feed.document(OfflineTokenRevocationFeed.Format.DELTA, null);
+
+        // then
+        assertThat(second.body()).isNotEqualTo(first.body());
+        assertThat(second.etag()).isEqualTo(first.etag());
+        assertThat(changed.etag()).isNotEqualTo(first.etag());
+    }
+
+    @Test
+    @DisplayName("같은 bucket의 요청은 캐시된 응답을 공유하고, 새 항목이 추가되면 다시 생성")
+    void shouldMemoizeUntilJournalChanges() {
+        // given
+        feed.record(OfflineTokenRevocationIndex.hash("token-a"), T0, null);
+        long since = T0.toEpochMilli();
+
+        // when
+        OfflineTokenRevocationFeed.Document first = feed.document(OfflineTokenRevocationFeed.Format.DELTA, since);
+        OfflineTokenRevocationFeed.Document sameBucket =
+                feed.document(OfflineTokenRevocationFeed.Format.DELTA, since + 1000);
+        feed.record(OfflineTokenRevocationIndex.hash("token-b"), T0.plusSeconds(1), null);
+        OfflineTokenRevocationFeed.Document afterChange = feed.document(OfflineTokenRevocationFeed.Format.DELTA, since);
+
+        // then
+        assertThat(sameBucket).isSameAs(first);
+        assertThat(afterChange.etag()).isNotEqualTo(first.etag());
+    }
+
+    @Test
+    @DisplayName("journal 범위 밖의 since는 전체 스냅샷/마지막 bucket 다음 값 하나로 모아 새 응답을 만들지 않음")
+    void shouldClampSinceToJournalRange() {
+        // given - T0 ~ T0+3600s 범위의 journal
+        feed.record(OfflineTokenRevocationIndex.hash("token-a"), T0, null);
+        feed.record(OfflineTokenRevocationIndex.hash("token-b"), T0.plusSeconds(3600), null);
+        OfflineTokenRevocationFeed.Document full = feed.document(OfflineTokenRevocationFeed.Format.DELTA, null);
+
+        // when
+        OfflineTokenRevocationFeed.Document older = feed.document(OfflineTokenRevocationFeed.Format.DELTA,
+                T0.minusSeconds(86_400).toEpochMilli());
+        OfflineTokenRevocationFeed.Document muchOlder = feed.document(OfflineTokenRevocationFeed.Format.DELTA, 1L);
+        OfflineTokenRevocationFeed.Document future = feed.document(OfflineTokenRevocationFeed.Format.DELTA,
+                T0.plusSeconds(86_400).toEpochMilli());
+        OfflineTokenRevocationFeed.Document farFuture = feed.document(OfflineTokenRevocationFeed.Format.DELTA,
+                Long.MAX_VALUE / 2);
+
+        // then
+        assertThat(older).isSameAs(full);
+        assertThat(muchOlder).isSameAs(full);
+        assertThat(farFuture).isSameAs(future);
+        Claims claims = parse(future).getPayload();
+        assertThat(claims.get("n", Integer.class)).isZero();
+        assertThat(claims.get("cursor", Long.class)).isEqualTo(T0.plusSeconds(3600).toEpochMilli());
+    }
+
+    @Test
+    @DisplayName("만료 제거 후 늦게 커밋된 항목이 추가되어 cursor/count가 같아도 ETag가 달라짐")
+    void shouldChangeEtagWhenEntrySetChangesWithSameCursorAndCount() {
+        // given
+        feed.record(OfflineTokenRevocationIndex.hash("token-expiring"), T0, T0.plusSeconds(3600));
+        feed.record(OfflineTokenRevocationIndex.hash("token-live"), T0.plusSeconds(10), null);
+        OfflineTokenRevocationFeed.Document before = feed.document(OfflineTokenRevocationFeed.Format.DELTA, null);
+
+        // when - 하나가 만료 제거되고, 이전 시각의 항목이 늦게 추가
+        feed.evictExpired(T0.plusSeconds(3600));
+        feed.record(OfflineTokenRevocationIndex.hash("token-late"), T0.plusSeconds(5), null);
+        OfflineTokenRevocationFeed.Document after = feed.document(OfflineTokenRevocationFeed.Format.DELTA, null);
+
+        // then
+        Claims beforeClaims = parse(before).getPayload();
+        Claims afterClaims = parse(after).getPayload();
+        assertThat(afterClaims.get("cursor", Long.class)).isEqualTo(beforeClaims.get("cursor", Long.class));
+        assertThat(afterClaims.get("count", Integer.class)).isEqualTo(beforeClaims.get("count", Integer.class));
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 지난 항목은 journal에서 제거하고 응답을 다시 생성")
+    void shouldEvictExpiredEntries() {
+        // given
+        String expiring = OfflineTokenRevocationIndex.hash("token-expiring");
+        String live = OfflineTokenRevocationIndex.hash("token-live");
+        feed.record(expiring, T0, T0.plusSeconds(3600));
+        feed.record(live, T0.plusSeconds(1), null);
+        OfflineTokenRevocationFeed.Document before = feed.document(OfflineTokenRevocationFeed.Format.DELTA, null);
+
+        // when
+        int evicted = feed.evictExpired(T0.plusSeconds(3600));
+
+        // then
+        assertThat(evicted).isEqualTo(1);
+        OfflineTokenRevocationFeed.Document after = feed.document(OfflineTokenRevocationFeed.Format.DELTA, null);
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        Claims claims = parse(after).getPayload();
+        assertThat(claims.get("count", Integer.class)).isEqualTo(1);
+        byte[] packed = Base64.getUrlDecoder().decode(claims.get("d", String.class));
+        assertThat(packed).isEqualTo(Arrays.copyOf(HexFormat.of().parseHex(live), 16));
+        assertThat(feed.evictExpired(T0.plusSeconds(7200))).isZero();
+    }
+
+    @Test
+    @DisplayName("Bloom 스냅샷은 기록된 모든 digest를 포함")
+    void shouldBuildBloomSnapshotContainingAllEntries() {
+        // given
+        List<String> hashes = List.of("token-a", "token-b", "token-c").stream()
+                .map(OfflineTokenRevocationIndex::hash)
+                .toList();
+        hashes.forEach(hash -> feed.record(hash, T0, null));
+
+        // when
+        Claims claims = parse(feed.document(OfflineTokenRevocationFeed.Format.BLOOM, null)).getPayload();
+
+        // then - 클라이언트와 같은 방식으로 위치 계산
+        long m = claims.get("m", Long.class);
+        int k = claims.get("k", Integer.class);
+        byte[] bits = Base64.getUrlDecoder().decode(claims.get("bits", String.class));
+        for (String hash : hashes) {
+            byte[] digest = HexFormat.of().parseHex(hash);
+            long h1 = longAt(digest, 0);
+            long h2 = longAt(digest, 8);
+            for (int i = 0; i < k; i++) {
+                long bit = Math.floorMod(h1 + i * h2, m);
+                assertThat(bits[(int) (bit >>> 3)] & (1 << (bit & 7))).isNotZero();
+            }
+        }
+    }
+
+    private Jws<Claims> parse(OfflineTokenRevocationFeed.Document document) {
+        return Jwts.parser()
+                .verifyWith(keyPair.getPublic())
+                .build()
+                .parseSignedClaims(new String(document.body(), StandardCharsets.US_ASCII));
+    }
+
+    private static long longAt(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
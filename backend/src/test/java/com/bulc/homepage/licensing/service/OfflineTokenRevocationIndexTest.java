@@ -0,0 +1,136 @@
+package com.bulc.homepage.licensing.service;
+
+import com.bulc.homepage.licensing.domain.RevokedOfflineToken;
+import com.bulc.homepage.licensing.repository.RevokedOfflineTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * OfflineTokenRevocationIndex 유닛 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OfflineTokenRevocationIndex 테스트")
+class OfflineTokenRevocationIndexTest {
+
+    @Mock
+    private RevokedOfflineTokenRepository revokedTokenRepository;
+
+    @Mock
+    private OfflineTokenRevocationFeed revocationFeed;
+
+    private OfflineTokenRevocationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // Bloom filter 용량 4 - 재구성 경로도 함께 검증
+        index = new OfflineTokenRevocationIndex(
+                revokedTokenRepository, revocationFeed, new SimpleMeterRegistry(), true, 4, 0.01, 2, 60);
+    }
+
+    @Test
+    @DisplayName("증분 로드한 토큰만 무효화로 판정하고 커서 이후(overlap 포함)만 다시 조회")
+    void shouldLoadIncrementallyAndRejectRevokedTokens() {
+        // given - 첫 로드 3건 (batch-size 2 → 2페이지)
+        Instant t1 = Instant.parse("2026-01-01T00:00:00Z");
+        RevokedOfflineToken a = revoked("token-a", t1);
+        RevokedOfflineToken b = revoked("token-b", t1.plusSeconds(1));
+        RevokedOfflineToken c = revoked("token-c", t1.plusSeconds(2));
+        given(revokedTokenRepository.findRevokedAfter(eq(Instant.EPOCH), any(), any(), any())).willReturn(List.of(a, b));
+        given(revokedTokenRepository.findRevokedAfter(eq(b.getRevokedAt()), eq(b.getId()), any(), any())).willReturn(List.of(c));
+
+        // when
+        int loaded = index.refresh();
+
+        // then
+        assertThat(loaded).isEqualTo(3);
+        assertThat(index.isRevoked("token-a")).isTrue();
+        assertThat(index.isRevoked("token-c")).isTrue();
+        assertThat(index.isRevoked("token-x")).isFalse();
+        assertThat(index.isRevoked(null)).isFalse();
+
+        // 다음 로드는 마지막 revoked_at - overlap부터
+        RevokedOfflineToken d = revoked("token-d", t1.plusSeconds(10));
+        given(revokedTokenRepository.findRevokedAfter(eq(c.getRevokedAt().minusSeconds(60)), any(), any(), any()))
+                .willReturn(List.of(d));
+        index.refresh();
+        // 이 노드에서 무효화한 토큰은 로드 없이 즉시 반영
+        index.addAll(List.of(revoked("token-e", Instant.now())));
+
+        assertThat(index.isRevoked("token-d")).isTrue();
+        assertThat(index.isRevoked("token-e")).isTrue();
+        assertThat(index.isRevoked("token-a")).isTrue();
+        // overlap으로 다시 읽은 항목은 피드에 중복 기록하지 않음
+        verify(revocationFeed, times(5)).record(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 지난 항목은 추가하지 않고, 추가된 항목도 만료 후 인덱스와 피드에서 제거")
+    void shouldEvictExpiredTokens() {
+        // given
+        Instant now = Instant.now();
+        index.addAll(List.of(
+                revoked("token-expired", now.minusSeconds(7200), now.minusSeconds(1)),
+                revoked("token-expiring", now.minusSeconds(60), now.plusSeconds(3600)),
+                revoked("token-unknown", now.minusSeconds(60), null)));
+
+        // then - 이미 만료된 토큰은 인덱스/피드에 들어가지 않음
+        assertThat(index.isRevoked("token-expired")).isFalse();
+        assertThat(index.isRevoked("token-expiring")).isTrue();
+        verify(revocationFeed, times(2)).record(any(), any(), any());
+
+        // when
+        int evicted = index.evictExpired(now.plusSeconds(3600));
+
+        // then - 만료 시각을 모르는 항목은 유지
+        assertThat(evicted).isEqualTo(1);
+        assertThat(index.isRevoked("token-expiring")).isFalse();
+        assertThat(index.isRevoked("token-unknown")).isTrue();
+        verify(revocationFeed).evictExpired(now.plusSeconds(3600));
+        assertThat(index.evictExpired(now.plusSeconds(7200))).isZero();
+    }
+
+    @Test
+    @DisplayName("증분 로드는 현재 시각을 넘겨 만료된 행을 조회하지 않음")
+    void shouldNotLoadExpiredRows() {
+        // given
+        given(revokedTokenRepository.findRevokedAfter(any(), any(), any(), any())).willReturn(List.of());
+        Instant before = Instant.now();
+
+        // when
+        index.refresh();
+
+        // then
+        ArgumentCaptor<Instant> now = ArgumentCaptor.forClass(Instant.class);
+        verify(revokedTokenRepository).findRevokedAfter(eq(Instant.EPOCH), any(), now.capture(), any());
+        assertThat(now.getValue()).isAfterOrEqualTo(before);
+    }
+
+    private RevokedOfflineToken revoked(String token, Instant revokedAt) {
+        return revoked(token, revokedAt, null);
+    }
+
+    private RevokedOfflineToken revoked(String token, Instant revokedAt, Instant tokenExpiresAt) {
+        RevokedOfflineToken revoked = new RevokedOfflineToken(UUID.randomUUID(), UUID.randomUUID(), "device",
+                OfflineTokenRevocationIndex.hash(token), revokedAt, tokenExpiresAt, "TEST");
+        ReflectionTestUtils.setField(revoked, "id", UUID.randomUUID());
+        return revoked;
+    }
+}
@@ -0,0 +1,174 @@
+package com.bulc.homepage.licensing.service;
+
+import com.bulc.homepage.licensing.domain.*;
+import com.bulc.homepage.licensing.repository.ActivationRepository;
+import com.bulc.homepage.licensing.repository.LicenseRepository;
+import com.bulc.homepage.licensing.repository.RevokedOfflineTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * OfflineTokenRevocationService 테스트.
+ *
+ * 조회와 조건부 UPDATE 사이에 다른 트랜잭션이 커밋하는 상황을 재현하기 위해
+ * 활성화 저장소는 실제 저장소에 위임하는 mock으로 감쌉니다.
+ * 트랜잭션 커밋 후 인덱스 반영을 확인해야 하므로 @Transactional 없이 실행하고, 테스트 후 생성한 데이터를 삭제한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("OfflineTokenRevocationService 테스트")
+class OfflineTokenRevocationServiceTest {
+
+    @Autowired
+    private ActivationRepository realActivationRepository;
+
+    @Autowired
+    private LicenseRepository licenseRepository;
+
+    @Autowired
+    private RevokedOfflineTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private OfflineTokenRevocationIndex revocationIndex;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ActivationRepository activationRepository;
+    private OfflineTokenRevocationService service;
+    private TransactionTemplate tx;
+    private UUID licenseId;
+    private UUID activationId;
+    private final String offlineToken = "offline-token-" + UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        activationRepository = mock(ActivationRepository.class, delegatesTo(realActivationRepository));
+        service = new OfflineTokenRevocationService(activationRepository, revokedTokenRepository, revocationIndex);
+        tx = new TransactionTemplate(transactionManager);
+
+        License license = License.builder()
+                .ownerType(OwnerType.USER)
+                .ownerId(UUID.randomUUID())
+                .productId(UUID.randomUUID())
+                .licenseType(LicenseType.SUBSCRIPTION)
+                .validFrom(Instant.now())
+                .validUntil(Instant.now().plus(365, ChronoUnit.DAYS))
+                .policySnapshot(Map.of("maxActivations", 5, "allowOfflineDays", 30))
+                .build();
+        license.activate();
+        Activation activation = license.addActivation("device-1", "1.0.0", "Windows", null);
+        activation.issueOfflineToken(offlineToken, Instant.now().plus(30, ChronoUnit.DAYS));
+        licenseRepository.saveAndFlush(license);
+        licenseId = license.getId();
+        activationId = activation.getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        revokedTokenRepository.deleteAll(revokedTokenRepository.findAll().stream()
+                .filter(r -> licenseId.equals(r.getLicenseId()))
+                .toList());
+        licenseRepository.deleteById(licenseId);
+    }
+
+    @Test
+    @DisplayName("커밋 후 인덱스에 반영하고, 조회 이후 커밋된 상태 변경/heartbeat 기록은 유지")
+    void shouldRevokeWithoutOverwritingConcurrentChanges() {
+        // given - 토큰 조회 직후 다른 트랜잭션이 상태와 클라이언트 정보를 변경하고 커밋
+        TransactionTemplate otherRequest = new TransactionTemplate(transactionManager);
+        otherRequest.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        willAnswer(invocation -> {
+            Object targets = delegatesTo(realActivationRepository).answer(invocation);
+            otherRequest.executeWithoutResult(status -> jdbcTemplate.update(
+                    "UPDATE license_activations SET status = 'STALE', client_version = '9.9.9' WHERE id = ?",
+                    activationId));
+            return targets;
+        }).given(activationRepository).findOfflineTokensByLicenseIds(any());
+
+        // when
+        Integer revoked = tx.execute(status -> {
+            int count = service.revokeByLicenseIds(List.of(licenseId), "TOKEN_LEAK");
+            // 커밋 전에는 인덱스에 반영하지 않음
+            assertThat(revocationIndex.isRevoked(offlineToken)).isFalse();
+            return count;
+        });
+
+        // then
+        assertThat(revoked).isEqualTo(1);
+        assertThat(revocationIndex.isRevoked(offlineToken)).isTrue();
+        Activation reloaded = realActivationRepository.findById(activationId).orElseThrow();
+        assertThat(reloaded.getOfflineToken()).isNull();
+        assertThat(reloaded.getOfflineTokenExpiresAt()).isNull();
+        assertThat(reloaded.getStatus()).isEqualTo(ActivationStatus.STALE);
+        assertThat(reloaded.getClientVersion()).isEqualTo("9.9.9");
+        assertThat(revokedTokenRepository.findAll()).anySatisfy(r -> {
+            assertThat(r.getActivationId()).isEqualTo(activationId);
+            assertThat(r.getTokenHash()).isEqualTo(OfflineTokenRevocationIndex.hash(offlineToken));
+            assertThat(r.getTokenExpiresAt()).isNotNull();
+            assertThat(r.getReason()).isEqualTo("TOKEN_LEAK");
+        });
+    }
+
+    @Test
+    @DisplayName("조회 이후 토큰이 재서명되면 새 토큰은 유지하고 조회한 토큰만 무효화")
+    void shouldKeepTokenReplacedAfterRead() {
+        // given
+        TransactionTemplate refresher = new TransactionTemplate(transactionManager);
+        refresher.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        willAnswer(invocation -> {
+            Object targets = delegatesTo(realActivationRepository).answer(invocation);
+            refresher.executeWithoutResult(status -> realActivationRepository.replaceOfflineToken(
+                    activationId, offlineToken, "resigned-token", Instant.now().plus(30, ChronoUnit.DAYS),
+                    Instant.now()));
+            return targets;
+        }).given(activationRepository).findOfflineTokensByLicenseIds(any());
+
+        // when
+        tx.executeWithoutResult(status -> service.revokeByLicenseIds(List.of(licenseId), "TOKEN_LEAK"));
+
+        // then
+        assertThat(revocationIndex.isRevoked(offlineToken)).isTrue();
+        assertThat(realActivationRepository.findById(activationId).orElseThrow().getOfflineToken())
+                .isEqualTo("resigned-token");
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 인덱스와 활성화 모두 변경하지 않음")
+    void shouldNotRevokeWhenRolledBack() {
+        // when
+        tx.executeWithoutResult(status -> {
+            service.revokeByLicenseIds(List.of(licenseId), "TOKEN_LEAK");
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(revocationIndex.isRevoked(offlineToken)).isFalse();
+        assertThat(realActivationRepository.findById(activationId).orElseThrow().getOfflineToken())
+                .isEqualTo(offlineToken);
+    }
+}
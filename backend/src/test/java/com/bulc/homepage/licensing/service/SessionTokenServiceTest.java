@@ -0,0 +1,184 @@
+package com.bulc.homepage.licensing.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SessionTokenService 유닛 테스트 (토큰 재사용 캐시, 서명 알고리즘/키링).
+ */
+@DisplayName("SessionTokenService 테스트")
+class SessionTokenServiceTest {
+
+    private static final String DEVICE = "device-fingerprint-1";
+
+    private static KeyPair rsaKeyPair;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UUID licenseId;
+
+    @BeforeAll
+    static void generateKey() throws Exception {
+        rsaKeyPair = generateKeyPair(SessionTokenAlgorithm.RS256);
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        licenseId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("남은 유효 시간이 충분하면 같은 토큰을 재사용하고 서명하지 않음")
+    void shouldReuseFreshToken() {
+        // given
+        SessionTokenService service = create(0.5);
+
+        // when
+        String first = service.generateSessionToken(licenseId, "BULC_EVAC", DEVICE, List.of("a", "b")).token();
+        String second = service.generateSessionToken(licenseId, "BULC_EVAC", DEVICE, List.of("b", "a")).token();
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(meterRegistry.get("licensing.session_token.sign").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("licensing.session_token.reused").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("entitlement가 바뀌면 새로 서명")
+    void shouldResignWhenEntitlementsChange() {
+        // given
+        SessionTokenService service = create(0.5);
+
+        // when
+        String first = service.generateSessionToken(licenseId, "BULC_EVAC", DEVICE, List.of("a")).token();
+        String second = service.generateSessionToken(licenseId, "BULC_EVAC", DEVICE, List.of("a", "b")).token();
+
+        // then
+        assertThat(second).isNotEqualTo(first);
+        assertThat(meterRegistry.get("licensing.session_token.sign").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재사용 비율이 1 이상이면 매번 서명")
+    void shouldAlwaysSignWhenReuseDisabled() {
+        // given
+        SessionTokenService service = create(1.0);
+
+        // when
+        service.generateSessionToken(licenseId, "BULC_EVAC", DEVICE, List.of("a"));
+        service.generateSessionToken(licenseId, "BULC_EVAC", DEVICE, List.of("a"));
+
+        // then
+        assertThat(meterRegistry.get("licensing.session_token.sign").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("licensing.session_token.reused").counter().count()).isZero();
+    }
+
+    @Nested
+    @DisplayName("서명 알고리즘 / 키링 (v1.1.3)")
+    class Keyring {
+
+        @TempDir
+        Path tempDir;
+
+        @Test
+        @DisplayName("ES256 / EdDSA 키로 서명하고 헤더에 kid 포함")
+        void shouldSignWithEcAndEdDsaKeys() throws Exception {
+            for (SessionTokenAlgorithm algorithm : List.of(SessionTokenAlgorithm.ES256, SessionTokenAlgorithm.EDDSA)) {
+                // given
+                KeyPair keyPair = generateKeyPair(algorithm);
+                SessionTokenKeyring keyring = SessionTokenKeyring.of("k1", List.of(
+                        new SessionTokenKeyring.SigningKey("k1", algorithm, keyPair.getPrivate(), keyPair.getPublic())));
+                SessionTokenService service = new SessionTokenService(
+                        15, "bulc-license-server", keyring, 0.5, 1000, new SimpleMeterRegistry());
+
+                // when
+                String token = service.generateSessionToken(licenseId, "BULC_EVAC", DEVICE, List.of("a")).token();
+
+                // then
+                Jws<Claims> jws = Jwts.parser().verifyWith(keyPair.getPublic()).build().parseSignedClaims(token);
+                assertThat(jws.getHeader().getKeyId()).isEqualTo("k1");
+                assertThat(jws.getHeader().getAlgorithm()).isEqualTo(algorithm.getJwaName());
+                assertThat(jws.getPayload().getSubject()).isEqualTo(licenseId.toString());
+            }
+        }
+
+        @Test
+        @DisplayName("키링 파일의 activeKid를 바꾸면 재시작 없이 새 키로 서명 (재사용 캐시 무시)")
+        void shouldRotateActiveKeyOnReload() throws Exception {
+            // given - RS256(old) + EdDSA(new), active = old
+            KeyPair newKeyPair = generateKeyPair(SessionTokenAlgorithm.EDDSA);
+            Path file = tempDir.resolve("keyring.json");
+            writeKeyring(file, "old", newKeyPair, 1_000L);
+            SessionTokenKeyring keyring = new SessionTokenKeyring("", "default", file.toString(), "test");
+            keyring.init();
+            SessionTokenService service = new SessionTokenService(
+                    15, "bulc-license-server", keyring, 0.5, 1000, meterRegistry);
+            String before = service.generateSessionToken(licenseId, "BULC_EVAC", DEVICE, List.of("a")).token();
+
+            // when
+            writeKeyring(file, "new", newKeyPair, 2_000L);
+            keyring.reloadIfChanged();
+            String after = service.generateSessionToken(licenseId, "BULC_EVAC", DEVICE, List.of("a")).token();
+
+            // then
+            assertThat(Jwts.parser().verifyWith(rsaKeyPair.getPublic()).build()
+                    .parseSignedClaims(before).getHeader().getKeyId()).isEqualTo("old");
+            assertThat(Jwts.parser().verifyWith(newKeyPair.getPublic()).build()
+                    .parseSignedClaims(after).getHeader().getKeyId()).isEqualTo("new");
+            assertThat(keyring.publishedKeys()).extracting(SessionTokenKeyring.SigningKey::kid)
+                    .containsExactlyInAnyOrder("old", "new");
+        }
+
+        private void writeKeyring(Path file, String activeKid, KeyPair newKeyPair, long modifiedAt) throws Exception {
+            Base64.Encoder encoder = Base64.getEncoder();
+            String json = """
+                    {"activeKid": "%s", "keys": [
+                      {"kid": "old", "alg": "RS256", "privateKey": "%s"},
+                      {"kid": "new", "alg": "EdDSA", "privateKey": "%s", "publicKey": "%s"}
+                    ]}
+                    """.formatted(activeKid,
+                    encoder.encodeToString(rsaKeyPair.getPrivate().getEncoded()),
+                    encoder.encodeToString(newKeyPair.getPrivate().getEncoded()),
+                    encoder.encodeToString(newKeyPair.getPublic().getEncoded()));
+            Files.writeString(file, json);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(modifiedAt));
+        }
+    }
+
+    private SessionTokenService create(double reuseMinRemainingFraction) {
+        SessionTokenKeyring keyring = SessionTokenKeyring.of("default", List.of(new SessionTokenKeyring.SigningKey(
+                "default", SessionTokenAlgorithm.RS256, rsaKeyPair.getPrivate(), rsaKeyPair.getPublic())));
+        return new SessionTokenService(
+                15, "bulc-license-server", keyring, reuseMinRemainingFraction, 1000, meterRegistry);
+    }
+
+    private static KeyPair generateKeyPair(SessionTokenAlgorithm algorithm) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm.getKeyAlgorithm());
+        if (algorithm == SessionTokenAlgorithm.RS256) {
+            generator.initialize(2048);
+        } else if (algorithm == SessionTokenAlgorithm.ES256) {
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+        }
+        return generator.generateKeyPair();
+    }
+}
@@ -0,0 +1,73 @@
+package com.bulc.homepage.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtTokenProvider 테스트")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "TestSecretKeyForJwtTokenGenerationMustBeAtLeast256BitsLong";
+    private static final String EMAIL = "user@example.com";
+
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = createProvider(3600000L);
+    }
+
+    @Test
+    @DisplayName("유효한 토큰은 한 번 검증 후 캐시된 Claims를 반환")
+    void shouldReturnCachedClaimsForValidToken() {
+        String token = provider.generateAccessToken(EMAIL);
+
+        Optional<Claims> first = provider.parseAndValidate(token);
+        Optional<Claims> second = provider.parseAndValidate(token);
+
+        assertThat(first).isPresent();
+        assertThat(first.get().getSubject()).isEqualTo(EMAIL);
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(provider.validateToken(token)).isTrue();
+        assertThat(provider.getEmailFromToken(token)).isEqualTo(EMAIL);
+    }
+
+    @Test
+    @DisplayName("변조된 토큰은 검증 실패")
+    void shouldRejectTamperedToken() {
+        String token = provider.generateAccessToken(EMAIL);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(provider.parseAndValidate(tampered)).isEmpty();
+        assertThat(provider.validateToken(tampered)).isFalse();
+        assertThatThrownBy(() -> provider.getEmailFromToken(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 검증 실패")
+    void shouldRejectExpiredToken() {
+        JwtTokenProvider expiredIssuer = createProvider(-1000L);
+        String token = expiredIssuer.generateAccessToken(EMAIL);
+
+        assertThat(provider.parseAndValidate(token)).isEmpty();
+    }
+
+    private JwtTokenProvider createProvider(long accessTokenExpiration) {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "accessTokenExpiration", accessTokenExpiration);
+        ReflectionTestUtils.setField(tokenProvider, "refreshTokenExpiration", accessTokenExpiration);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedTokenCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedTokenCacheTtlSeconds", 60L);
+        ReflectionTestUtils.invokeMethod(tokenProvider, "init");
+        return tokenProvider;
+    }
+}
@@ -0,0 +1,106 @@
+package com.bulc.homepage.security;
+
+import com.bulc.homepage.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UserPrincipalCacheInvalidator 테스트")
+class UserPrincipalCacheInvalidatorTest {
+
+    private static final String OLD_EMAIL = "old@example.com";
+    private static final String NEW_EMAIL = "new@example.com";
+
+    private UserPrincipalCache cache;
+    private UserPrincipalCacheInvalidator invalidator;
+    private AtomicInteger loads;
+    private Function<String, UserDetails> loader;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserPrincipalCache(100, 60);
+        invalidator = new UserPrincipalCacheInvalidator(cache);
+        loads = new AtomicInteger();
+        loader = email -> {
+            loads.incrementAndGet();
+            return org.springframework.security.core.userdetails.User.withUsername(email)
+                    .password("{bcrypt}hash").roles("USER").build();
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 변경은 커밋 후에 로드 시점 email과 현재 email을 모두 무효화")
+    void shouldEvictOldAndNewEmailAfterCommit() {
+        // given
+        cache.get(OLD_EMAIL, loader);
+        cache.get(NEW_EMAIL, loader);
+        User user = User.builder().email(NEW_EMAIL).passwordHash("hash").build();
+        ReflectionTestUtils.setField(user, "loadedEmail", OLD_EMAIL);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when - flush 시점(커밋 전) 리스너 호출
+        invalidator.onUserChanged(user);
+
+        // then - 커밋 전에는 캐시 유지
+        cache.get(OLD_EMAIL, loader);
+        cache.get(NEW_EMAIL, loader);
+        assertThat(loads.get()).isEqualTo(2);
+
+        // when - 커밋
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        cache.get(OLD_EMAIL, loader);
+        cache.get(NEW_EMAIL, loader);
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("롤백되면 무효화하지 않음")
+    void shouldNotEvictWhenRolledBack() {
+        // given
+        cache.get(NEW_EMAIL, loader);
+        User user = User.builder().email(NEW_EMAIL).passwordHash("hash").build();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        invalidator.onUserChanged(user);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        cache.get(NEW_EMAIL, loader);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 변경은 즉시 무효화")
+    void shouldEvictImmediatelyWithoutTransaction() {
+        // given
+        cache.get(NEW_EMAIL, loader);
+
+        // when
+        invalidator.evictAfterCommit(NEW_EMAIL);
+
+        // then
+        cache.get(NEW_EMAIL, loader);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
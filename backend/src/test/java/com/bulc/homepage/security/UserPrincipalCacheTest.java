@@ -0,0 +1,69 @@
+package com.bulc.homepage.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("UserPrincipalCache 테스트")
+class UserPrincipalCacheTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private UserPrincipalCache cache;
+    private AtomicInteger loads;
+    private Function<String, UserDetails> loader;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserPrincipalCache(100, 60);
+        loads = new AtomicInteger();
+        loader = email -> {
+            loads.incrementAndGet();
+            return User.withUsername(email).password("{bcrypt}hash").roles("USER").build();
+        };
+    }
+
+    @Test
+    @DisplayName("같은 email은 한 번만 조회하고 비밀번호 해시는 보관하지 않음")
+    void shouldLoadOnceAndStripPassword() {
+        UserDetails first = cache.get(EMAIL, loader);
+        UserDetails second = cache.get(EMAIL, loader);
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        assertThat(first.getPassword()).isEmpty();
+        assertThat(first.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("evict 후에는 다시 조회")
+    void shouldReloadAfterEvict() {
+        cache.get(EMAIL, loader);
+        cache.evict(EMAIL);
+        cache.get(EMAIL, loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("사용자가 없으면 예외를 전파하고 캐시하지 않음")
+    void shouldNotCacheMissingUser() {
+        Function<String, UserDetails> missing = email -> {
+            loads.incrementAndGet();
+            throw new UsernameNotFoundException("User not found with email: " + email);
+        };
+
+        assertThatThrownBy(() -> cache.get(EMAIL, missing)).isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> cache.get(EMAIL, missing)).isInstanceOf(UsernameNotFoundException.class);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
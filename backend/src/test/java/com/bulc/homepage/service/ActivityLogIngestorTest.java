@@ -0,0 +1,126 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.repository.ActivityLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ActivityLogIngestor 테스트.
+ *
+ * 실제 DB(H2)의 activity_logs에 기록합니다. ingestor가 트랜잭션을 직접 열고 커밋하므로 @Transactional 없이 실행하고,
+ * 테스트마다 고유한 action으로 기록한 뒤 테스트 후 삭제한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("ActivityLogIngestor 테스트")
+class ActivityLogIngestorTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ActivityLogRepository activityLogRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final String action = "test-" + UUID.randomUUID().toString().substring(0, 8);
+
+    @AfterEach
+    void tearDown() {
+        activityLogRepository.deleteAll(activityLogRepository.findByActionOrderByCreatedAtDesc(action));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 기록하면 트랜잭션 종료(afterCompletion) 후에만 버퍼에 넣고, 롤백되어도 기록")
+    void shouldEnqueueOnlyAfterTransactionCompletes() {
+        // given
+        ActivityLogIngestor ingestor = ingestor(16, 10);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        // when - 커밋되는 트랜잭션
+        tx.executeWithoutResult(status -> {
+            ingestor.record(event("committed"));
+            assertThat(ingestor.pendingCount()).isZero();
+        });
+
+        // then
+        assertThat(ingestor.pendingCount()).isEqualTo(1);
+
+        // when - 롤백되는 트랜잭션 (예: 로그인 실패 기록)
+        tx.executeWithoutResult(status -> {
+            ingestor.record(event("rolled-back"));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(ingestor.pendingCount()).isEqualTo(2);
+        assertThat(ingestor.flush()).isEqualTo(2);
+        assertThat(activityLogRepository.findByActionOrderByCreatedAtDesc(action)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("batch 기록이 실패하면 행 단위로 다시 기록하여 나머지 로그는 유지")
+    void shouldFallBackToRowByRowWhenBatchFails() {
+        // given - 가운데 항목은 NOT NULL 위반
+        ActivityLogIngestor ingestor = ingestor(16, 10);
+        ingestor.record(event("first"));
+        ingestor.record(new ActivityLogEvent(null, null, null, null, "invalid", null, null, null));
+        ingestor.record(event("third"));
+
+        // when
+        int written = ingestor.flush();
+
+        // then
+        assertThat(written).isEqualTo(2);
+        assertThat(activityLogRepository.findByActionOrderByCreatedAtDesc(action))
+                .extracting("description")
+                .containsExactlyInAnyOrder("first", "third");
+        assertThat(counter("activity_log.ingest.written")).isEqualTo(2);
+        assertThat(counter("activity_log.ingest.failed")).isEqualTo(1);
+        assertThat(ingestor.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 이벤트를 버리고 dropped 카운트 (요청 스레드는 대기하지 않음)")
+    void shouldCountDroppedEventsWhenBufferIsFull() {
+        // given - 용량 4
+        ActivityLogIngestor ingestor = ingestor(4, 10);
+
+        // when
+        for (int i = 0; i < 6; i++) {
+            ingestor.record(event("event-" + i));
+        }
+
+        // then
+        assertThat(ingestor.pendingCount()).isEqualTo(4);
+        assertThat(counter("activity_log.ingest.dropped")).isEqualTo(2);
+        assertThat(ingestor.flush()).isEqualTo(4);
+        assertThat(counter("activity_log.ingest.dropped")).isEqualTo(2);
+    }
+
+    private ActivityLogIngestor ingestor(int bufferCapacity, int batchSize) {
+        return new ActivityLogIngestor(transactionManager, entityManager, meterRegistry, bufferCapacity, batchSize);
+    }
+
+    private ActivityLogEvent event(String description) {
+        return ActivityLogEvent.of(null, action, null, null, description, "127.0.0.1", "JUnit");
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+}
@@ -0,0 +1,89 @@
+package com.bulc.homepage.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MpscRingBuffer 테스트")
+class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("용량은 2의 거듭제곱으로 올림")
+    void shouldRoundCapacityToPowerOfTwo() {
+        assertThat(new MpscRingBuffer<>(1).capacity()).isEqualTo(4);
+        assertThat(new MpscRingBuffer<>(8).capacity()).isEqualTo(8);
+        assertThat(new MpscRingBuffer<>(100).capacity()).isEqualTo(128);
+    }
+
+    @Test
+    @DisplayName("넣은 순서대로 꺼내고, 가득 차면 offer가 false")
+    void shouldKeepOrderAndRejectWhenFull() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+        assertThat(buffer.poll()).isEqualTo(0);
+        assertThat(buffer.offer(4)).isTrue();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drainTo(drained, 10)).isEqualTo(4);
+        assertThat(drained).containsExactly(1, 2, 3, 4);
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 넣어도 유실/중복 없이 꺼냄")
+    void shouldNotLoseElementsWithConcurrentProducers() throws Exception {
+        int producers = 4;
+        int perProducer = 10_000;
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(256);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!buffer.offer(base + i)) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+
+            Set<Integer> seen = new HashSet<>();
+            List<Integer> batch = new ArrayList<>();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (seen.size() < producers * perProducer && System.nanoTime() < deadline) {
+                buffer.drainTo(batch, 64);
+                for (Integer value : batch) {
+                    assertThat(seen.add(value)).isTrue();
+                }
+                batch.clear();
+            }
+
+            assertThat(seen).hasSize(producers * perProducer);
+            assertThat(buffer.size()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+-- =========================================================
+-- 관리자 라이선스 키 검색 벤치마크 (PostgreSQL 16, pg_trgm)
+--
+-- 실행: psql -d <db> -v rows=5000000 -f database/benchmarks/license_key_search.sql
+--
+-- 운영 테이블과 분리된 bench_licenses 테이블에 rows건(기본 5,000,000)을 생성한 뒤
+-- 인덱스 생성 전/후로 다음 검색의 EXPLAIN (ANALYZE, BUFFERS)를 출력합니다.
+--   1) 기존 방식: license_key LIKE '%..%'             → Seq Scan
+--   2) 앞부분 일치: license_key_normalized LIKE 'ABCD12%' → Index Scan (varchar_pattern_ops)
+--   3) 부분 일치: license_key_normalized LIKE '%CD12EF%' → Bitmap Index Scan (gin_trgm_ops)
+-- 실행이 끝나면 bench_licenses를 삭제합니다.
+-- =========================================================
+
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+\set rows 5000000
+\endif
+\timing on
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+DROP TABLE IF EXISTS bench_licenses;
+CREATE TABLE bench_licenses (
+    id                     BIGSERIAL PRIMARY KEY,
+    license_key            VARCHAR(50) NOT NULL,
+    license_key_normalized VARCHAR(50) NOT NULL,
+    created_at             TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- XXXX-XXXX-XXXX-XXXX 형식 (발급 키와 같은 16자 hex + 구분자)
+INSERT INTO bench_licenses (license_key, license_key_normalized)
+SELECT k, replace(k, '-', '')
+FROM (
+    SELECT upper(substr(h, 1, 4) || '-' || substr(h, 5, 4) || '-' || substr(h, 9, 4) || '-' || substr(h, 13, 4)) AS k
+    FROM (SELECT md5(g::text) AS h FROM generate_series(1, :rows) g) s
+) t;
+
+ANALYZE bench_licenses;
+
+-- 검색어: 실제 존재하는 키의 일부
+SELECT '%' || substr(license_key, 1, 7) || '%'             AS legacy_pattern,
+       substr(license_key_normalized, 1, 6) || '%'            AS prefix_pattern,
+       '%' || substr(license_key_normalized, 5, 6) || '%'     AS contains_pattern
+FROM bench_licenses WHERE id = (:rows / 2)
+\gset
+
+\echo '=== 인덱스 없음 ==='
+EXPLAIN (ANALYZE, BUFFERS) SELECT id, license_key FROM bench_licenses
+WHERE license_key LIKE :'legacy_pattern' ORDER BY created_at DESC, id DESC LIMIT 20;
+EXPLAIN (ANALYZE, BUFFERS) SELECT id, license_key FROM bench_licenses
+WHERE license_key_normalized LIKE :'prefix_pattern' ORDER BY created_at DESC, id DESC LIMIT 20;
+EXPLAIN (ANALYZE, BUFFERS) SELECT id, license_key FROM bench_licenses
+WHERE license_key_normalized LIKE :'contains_pattern' ORDER BY created_at DESC, id DESC LIMIT 20;
+
+\echo '=== 인덱스 생성 ==='
+CREATE INDEX bench_licenses_key_normalized ON bench_licenses(license_key_normalized varchar_pattern_ops);
+CREATE INDEX bench_licenses_key_trgm ON bench_licenses USING gin (license_key_normalized gin_trgm_ops);
+ANALYZE bench_licenses;
+SELECT pg_size_pretty(pg_relation_size('bench_licenses'))                AS table_size,
+       pg_size_pretty(pg_relation_size('bench_licenses_key_normalized')) AS prefix_index_size,
+       pg_size_pretty(pg_relation_size('bench_licenses_key_trgm'))       AS trgm_index_size;
+
+\echo '=== 기존 방식 (license_key LIKE ''%..%'') ==='
+EXPLAIN (ANALYZE, BUFFERS) SELECT id, license_key FROM bench_licenses
+WHERE license_key LIKE :'legacy_pattern' ORDER BY created_at DESC, id DESC LIMIT 20;
+
+\echo '=== PREFIX (license_key_normalized LIKE ''..%'') ==='
+EXPLAIN (ANALYZE, BUFFERS) SELECT id, license_key FROM bench_licenses
+WHERE license_key_normalized LIKE :'prefix_pattern' ORDER BY created_at DESC, id DESC LIMIT 20;
+
+\echo '=== CONTAINS (license_key_normalized LIKE ''%..%'') ==='
+EXPLAIN (ANALYZE, BUFFERS) SELECT id, license_key FROM bench_licenses
+WHERE license_key_normalized LIKE :'contains_pattern' ORDER BY created_at DESC, id DESC LIMIT 20;
+
+DROP TABLE bench_licenses;
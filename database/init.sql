@@ -6,10 +6,14 @@
 
 -- Extension for UUID generation
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
+-- Extension for trigram partial-match indexes (관리자 라이선스 키 부분 검색)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
 
 -- =========================================================
 -- Drop existing tables (reverse dependency order)
 -- =========================================================
+DROP TABLE IF EXISTS device_license_bindings CASCADE;
+DROP TABLE IF EXISTS scheduler_leases CASCADE;
 DROP TABLE IF EXISTS revoked_offline_tokens CASCADE;
 DROP TABLE IF EXISTS license_activations CASCADE;
 DROP TABLE IF EXISTS license_plan_entitlements CASCADE;
@@ -18,6 +22,7 @@ DROP TABLE IF EXISTS license_plans CASCADE;
 DROP TABLE IF EXISTS admin_logs CASCADE;
 DROP TABLE IF EXISTS user_change_logs CASCADE;
 DROP TABLE IF EXISTS activity_logs CASCADE;
+DROP SEQUENCE IF EXISTS activity_logs_id_seq;
 DROP TABLE IF EXISTS email_verifications CASCADE;
 DROP TABLE IF EXISTS payment_details CASCADE;
 DROP TABLE IF EXISTS payments CASCADE;
@@ -202,8 +207,10 @@ COMMENT ON COLUMN payment_details.payment_key IS '토스페이먼츠 결제 키'
 -- =========================================================
 -- 9. activity_logs (활동 로그 테이블)
 -- =========================================================
+-- id: pooled sequence (ActivityLog allocationSize와 같은 INCREMENT BY) - JDBC batch INSERT 지원
+CREATE SEQUENCE activity_logs_id_seq INCREMENT BY 100;
 CREATE TABLE activity_logs (
-    id              BIGINT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    id              BIGINT PRIMARY KEY DEFAULT nextval('activity_logs_id_seq'),
     user_email      VARCHAR(255) NULL,
     action          VARCHAR(50) NOT NULL,
     target_type     VARCHAR(50) NULL,
@@ -218,6 +225,11 @@ CREATE TABLE activity_logs (
 
 COMMENT ON TABLE activity_logs IS '활동 로그 테이블 - 로그인, 구매, 환불 등 기록';
 COMMENT ON COLUMN activity_logs.action IS 'login, logout, purchase, refund, subscription_start, subscription_cancel 등';
+-- 기존 DB 적용 시 (IDENTITY → sequence):
+--   ALTER TABLE activity_logs ALTER COLUMN id DROP IDENTITY;
+--   CREATE SEQUENCE activity_logs_id_seq INCREMENT BY 100 OWNED BY activity_logs.id;
+--   SELECT setval('activity_logs_id_seq', COALESCE((SELECT MAX(id) FROM activity_logs), 0) + 100);
+--   ALTER TABLE activity_logs ALTER COLUMN id SET DEFAULT nextval('activity_logs_id_seq');
 
 -- =========================================================
 -- 10. user_change_logs (유저 정보 변경 로그 테이블)
@@ -311,7 +323,9 @@ CREATE TABLE licenses (
     valid_until     TIMESTAMP NULL,
     policy_snapshot JSONB NULL,
     license_key     VARCHAR(50) UNIQUE,
+    license_key_normalized VARCHAR(50) NULL,
     source_order_id UUID NULL,
+    version         BIGINT NOT NULL DEFAULT 0,
     created_at      TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at      TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
@@ -320,6 +334,10 @@ COMMENT ON TABLE licenses IS '라이선스 정보 (Licensing BC Aggregate Root)'
 COMMENT ON COLUMN licenses.owner_type IS '소유자 유형: USER(개인), ORG(조직)';
 COMMENT ON COLUMN licenses.usage_category IS '사용 용도: 상업용, 연구용, 교육용, 내부평가용';
 COMMENT ON COLUMN licenses.policy_snapshot IS '발급 시점의 정책 스냅샷 (JSON)';
+COMMENT ON COLUMN licenses.license_key_normalized IS '검색용 정규화 키 (대문자, 영숫자만: ABCD-1234 → ABCD1234)';
+COMMENT ON COLUMN licenses.version IS '낙관적 락 버전 (OPTIMISTIC 동시성 모드에서 검증/활성화 시 증가)';
+-- 기존 DB 적용 시:
+--   ALTER TABLE licenses ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
 
 -- =========================================================
 -- 15. license_activations (라이선스 활성화 테이블)
@@ -356,12 +374,49 @@ CREATE TABLE revoked_offline_tokens (
     device_fingerprint  VARCHAR(255) NULL,
     token_hash          VARCHAR(255) NOT NULL,
     revoked_at          TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    token_expires_at    TIMESTAMP NULL,
     reason              VARCHAR(255) NULL,
 
     CONSTRAINT fk_revoked_token_license FOREIGN KEY (license_id) REFERENCES licenses(id) ON DELETE CASCADE
 );
 
 COMMENT ON TABLE revoked_offline_tokens IS '무효화된 오프라인 토큰 목록 (탈취 대응)';
+COMMENT ON COLUMN revoked_offline_tokens.token_hash IS '오프라인 토큰 SHA-256 (hex) - 원문은 저장하지 않음';
+COMMENT ON COLUMN revoked_offline_tokens.token_expires_at IS '무효화된 토큰의 만료 시각 - 지나면 노드 인덱스/피드에서 제외 (NULL: 알 수 없음, 계속 유지)';
+-- 기존 DB 적용 시 (기존 행은 만료 시각을 모르므로 최대 오프라인 허용 일수로 채움 - NULL로 두면 계속 로드됨):
+--   ALTER TABLE revoked_offline_tokens ADD COLUMN token_expires_at TIMESTAMP NULL;
+--   UPDATE revoked_offline_tokens
+--       SET token_expires_at = revoked_at + make_interval(days => (SELECT COALESCE(MAX(allow_offline_days), 0) FROM license_plans))
+--       WHERE token_expires_at IS NULL;
+
+-- =========================================================
+-- 17. scheduler_leases (스케줄러 리더 lease 테이블)
+-- =========================================================
+CREATE TABLE scheduler_leases (
+    name                VARCHAR(100) PRIMARY KEY,
+    owner               VARCHAR(255) NOT NULL,
+    lease_until         TIMESTAMP NOT NULL
+);
+
+COMMENT ON TABLE scheduler_leases IS '배치 작업별 리더 lease (다중 노드 중복 실행 방지)';
+
+-- =========================================================
+-- 18. device_license_bindings (기기-라이선스 바인딩 테이블)
+-- =========================================================
+CREATE TABLE device_license_bindings (
+    id                  UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    owner_id            UUID NOT NULL,
+    product_id          UUID NOT NULL,
+    device_fingerprint  VARCHAR(255) NOT NULL,
+    license_id          UUID NOT NULL,
+    created_at          TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at          TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uk_device_binding UNIQUE (owner_id, product_id, device_fingerprint)
+);
+
+COMMENT ON TABLE device_license_bindings IS '사용자/제품/기기별로 마지막에 선택된 라이선스 (licenseId 미지정 검증 시 락 범위 축소)';
+COMMENT ON COLUMN device_license_bindings.license_id IS '바인딩된 라이선스 (FK 없음 - 무효한 바인딩은 검증 시 제거)';
 
 -- =========================================================
 -- 인덱스 정의
@@ -427,6 +482,16 @@ CREATE INDEX idx_licenses_product ON licenses(product_id);
 CREATE INDEX idx_licenses_status ON licenses(status);
 CREATE INDEX idx_licenses_valid_until ON licenses(valid_until) WHERE (valid_until IS NOT NULL);
 CREATE INDEX idx_licenses_source_order ON licenses(source_order_id);
+-- 관리자 목록 keyset 페이징 (created_at DESC, id DESC)
+CREATE INDEX idx_licenses_created_at ON licenses(created_at DESC, id DESC);
+-- 관리자 라이선스 키 검색: 앞부분 일치 (LIKE 'ABCD12%') - collation과 무관하게 range scan 가능하도록 pattern_ops
+CREATE INDEX idx_licenses_key_normalized ON licenses(license_key_normalized varchar_pattern_ops);
+-- 관리자 라이선스 키 검색: 부분 일치 (LIKE '%CD12%', 3자 이상)
+CREATE INDEX idx_licenses_key_trgm ON licenses USING gin (license_key_normalized gin_trgm_ops);
+-- 기존 DB 적용 시:
+--   ALTER TABLE licenses ADD COLUMN license_key_normalized VARCHAR(50) NULL;
+--   UPDATE licenses SET license_key_normalized = regexp_replace(upper(license_key), '[^A-Z0-9]', '', 'g')
+--       WHERE license_key IS NOT NULL;
 
 -- license_activations
 CREATE INDEX idx_activations_license ON license_activations(license_id);
@@ -437,6 +502,11 @@ CREATE INDEX idx_activations_last_seen ON license_activations(last_seen_at);
 -- revoked_offline_tokens
 CREATE INDEX idx_revoked_tokens_license ON revoked_offline_tokens(license_id);
 CREATE INDEX idx_revoked_tokens_hash ON revoked_offline_tokens(token_hash);
+-- v1.1.3: 노드별 무효화 인덱스 증분 로드 ((revoked_at, id) 커서)
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_offline_tokens(revoked_at, id);
+
+-- device_license_bindings
+CREATE INDEX idx_device_bindings_license ON device_license_bindings(license_id);
 
 -- =========================================================
 -- updated_at 자동 갱신 트리거
@@ -475,3 +545,6 @@ CREATE TRIGGER update_licenses_updated_at BEFORE UPDATE ON licenses
 
 CREATE TRIGGER update_license_activations_updated_at BEFORE UPDATE ON license_activations
     FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+CREATE TRIGGER update_device_license_bindings_updated_at BEFORE UPDATE ON device_license_bindings
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();